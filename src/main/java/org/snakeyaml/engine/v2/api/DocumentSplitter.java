@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.api;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
+
+/**
+ * Split the YAML stream into the texts of the documents without scanning them. The documents are
+ * separated by the document markers ("---" and "...") at the beginning of a line. Such a line
+ * cannot be a part of any scalar (the block scalars must be indented, the plain scalars end there
+ * and the quoted scalars fail), so every part is loaded as the stream with the same documents. The
+ * directives and the comments before "---" belong to the following document. The position of every
+ * part in the stream is counted the same way as StreamReader does, to move the Marks of the loaded
+ * documents from their parts to the stream.
+ */
+final class DocumentSplitter implements Iterator<String> {
+
+  private final Reader reader;
+  private final char[] buffer = new char[8192];
+  private int pointer = 0;
+  private int limit = 0;
+  private boolean eof = false;
+  // the line which starts the next part
+  private String pending;
+  // true when at least one part is taken, the extra document end markers are dropped then
+  private boolean started = false;
+  private String next;
+  // the position of the next part in the stream (see StreamReader.forward())
+  private int index = 0;
+  private int line = 0;
+  private int column = 0;
+  // true when the last part ends with '\r', it is a line break unless '\n' follows
+  private boolean cr = false;
+  // the position of the part which was taken last
+  private int partIndex;
+  private int partLine;
+  private int partColumn;
+
+  /**
+   * Create
+   *
+   * @param reader - the YAML stream
+   */
+  DocumentSplitter(Reader reader) {
+    this.reader = reader;
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      next = readPart();
+    }
+    return next != null;
+  }
+
+  @Override
+  public String next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more documents.");
+    }
+    String part = next;
+    next = null;
+    if (cr) {
+      cr = false;
+      if (part.charAt(0) == '\n') {
+        column++;
+      } else {
+        line++;
+        column = 0;
+      }
+    }
+    partIndex = index;
+    partLine = line;
+    partColumn = column;
+    moveOver(part);
+    return part;
+  }
+
+  private void moveOver(String part) {
+    int i = 0;
+    while (i < part.length()) {
+      int c = part.codePointAt(i);
+      i += Character.charCount(c);
+      index++;
+      if (c == '\n' || (c == '\r' && i < part.length() && part.charAt(i) != '\n')) {
+        line++;
+        column = 0;
+      } else if (c == '\r' && i == part.length()) {
+        cr = true;
+      } else if (c != 0xFEFF) {
+        column++;
+      }
+    }
+  }
+
+  /**
+   * Join the next parts
+   *
+   * @param size - the minimal number of chars to join (unless the stream ends)
+   * @return the consecutive documents
+   */
+  Batch nextBatch(int size) {
+    String part = next();
+    int batchIndex = partIndex;
+    int batchLine = partLine;
+    int batchColumn = partColumn;
+    if (part.length() >= size || !hasNext()) {
+      return new Batch(part, batchIndex, batchLine, batchColumn);
+    }
+    StringBuilder batch = new StringBuilder(part);
+    while (batch.length() < size && hasNext()) {
+      batch.append(next());
+    }
+    return new Batch(batch.toString(), batchIndex, batchLine, batchColumn);
+  }
+
+  /**
+   * The text of the consecutive documents and the position of its beginning in the stream
+   */
+  static final class Batch {
+
+    final String text;
+    final int index;
+    final int line;
+    final int column;
+
+    Batch(String text, int index, int line, int column) {
+      this.text = text;
+      this.index = index;
+      this.line = line;
+      this.column = column;
+    }
+  }
+
+  private String readPart() {
+    StringBuilder part = new StringBuilder();
+    // true when the part has anything but directives, comments and empty lines
+    boolean content = false;
+    if (pending != null) {
+      part.append(pending);
+      pending = null;
+      content = true;
+    }
+    String line;
+    while ((line = readLine()) != null) {
+      if (isMarker(line, '-')) {
+        if (content) {
+          pending = line;
+          break;
+        }
+        part.append(line);
+        content = true;
+      } else if (isMarker(line, '.')) {
+        // the extra markers after the previous document are ignored by the parser
+        if (content || !started) {
+          part.append(line);
+          break;
+        }
+      } else {
+        part.append(line);
+        content = content || !isPrefix(line);
+      }
+    }
+    if (part.length() == 0) {
+      return null;
+    }
+    started = true;
+    return part.toString();
+  }
+
+  private static boolean isMarker(String line, char c) {
+    if (line.length() < 3 || line.charAt(0) != c || line.charAt(1) != c || line.charAt(2) != c) {
+      return false;
+    }
+    if (line.length() == 3) {
+      return true;
+    }
+    char after = line.charAt(3);
+    return after == ' ' || after == '\t' || after == '\n' || after == '\r';
+  }
+
+  /**
+   * Check if the line may precede the document start marker
+   */
+  private static boolean isPrefix(String line) {
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (c == '#' || c == '%' && i == 0) {
+        return true;
+      }
+      if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Read the line with its line break. When "\r\n" is split by the buffer, "\n" is read as the next
+   * (empty) line, it does not change the text of the parts.
+   *
+   * @return the line or null at the end of the stream
+   */
+  private String readLine() {
+    StringBuilder line = null;
+    while (pointer < limit || fill()) {
+      int start = pointer;
+      while (pointer < limit) {
+        char c = buffer[pointer++];
+        if (c == '\n' || c == '\r') {
+          if (c == '\r' && pointer < limit && buffer[pointer] == '\n') {
+            pointer++;
+          }
+          String text = new String(buffer, start, pointer - start);
+          return line == null ? text : line.append(text).toString();
+        }
+      }
+      if (line == null) {
+        line = new StringBuilder();
+      }
+      line.append(buffer, start, pointer - start);
+    }
+    return line == null ? null : line.toString();
+  }
+
+  private boolean fill() {
+    if (eof) {
+      return false;
+    }
+    try {
+      int read = reader.read(buffer, 0, buffer.length);
+      if (read <= 0) {
+        eof = true;
+        return false;
+      }
+      pointer = 0;
+      limit = read;
+      return true;
+    } catch (IOException e) {
+      throw new YamlEngineException(e);
+    }
+  }
+}
@@ -13,19 +13,23 @@
  */
 package org.snakeyaml.engine.v2.api;
 
+import java.io.OutputStream;
 import java.io.StringWriter;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.Objects;
+import java.util.function.Consumer;
 import org.snakeyaml.engine.v2.emitter.Emitter;
 import org.snakeyaml.engine.v2.nodes.Node;
 import org.snakeyaml.engine.v2.representer.BaseRepresenter;
+import org.snakeyaml.engine.v2.representer.EventRepresenter;
 import org.snakeyaml.engine.v2.representer.StandardRepresenter;
 import org.snakeyaml.engine.v2.serializer.Serializer;
 
 /**
- * Common way to serialize any Java instance(s). The instance is stateful. Only one of the 'dump'
- * methods may be called, and it may be called only once.
+ * Common way to serialize any Java instance(s). The instance is stateful and it is not thread-safe
+ * (see SharedDump). The Emitter and the Serializer of the finished dump are reset and reused by the
+ * next one.
  */
 public class Dump {
 
@@ -39,6 +43,12 @@ public class Dump {
    */
   protected BaseRepresenter representer;
 
+  // the components of the finished dump, they are reset for the next one
+  private Emitter idleEmitter;
+  private Serializer idleSerializer;
+  // created when the collections are streamed
+  private EventRepresenter eventRepresenter;
+
   /**
    * Create instance
    *
@@ -72,14 +82,60 @@ public class Dump {
       StreamDataWriter streamDataWriter) {
     Objects.requireNonNull(instancesIterator, "Iterator cannot be null");
     Objects.requireNonNull(streamDataWriter, "StreamDataWriter cannot be null");
-    Serializer serializer = new Serializer(settings, new Emitter(settings, streamDataWriter));
-    serializer.emitStreamStart();
-    while (instancesIterator.hasNext()) {
-      Object instance = instancesIterator.next();
-      Node node = representer.represent(instance);
-      serializer.serializeDocument(node);
+    EventRepresenter streaming = getEventRepresenter();
+    serialize(streamDataWriter, serializer -> {
+      serializer.emitStreamStart();
+      while (instancesIterator.hasNext()) {
+        Object instance = instancesIterator.next();
+        if (streaming != null) {
+          streaming.representDocument(instance, serializer);
+        } else {
+          Node node = representer.represent(instance);
+          serializer.serializeDocument(node);
+        }
+      }
+      serializer.emitStreamEnd();
+    });
+  }
+
+  /**
+   * Get the representer to emit the collections without their Nodes (see
+   * DumpSettings.getUseStreaming())
+   *
+   * @return the representer or null when the Node graph must be created
+   */
+  private EventRepresenter getEventRepresenter() {
+    if (!settings.getUseStreaming() || representer.getClass() != StandardRepresenter.class) {
+      return null;
+    }
+    if (eventRepresenter == null) {
+      eventRepresenter = new EventRepresenter((StandardRepresenter) representer);
+    }
+    return eventRepresenter;
+  }
+
+  /**
+   * Serialize with the Serializer of the previous dump (its Emitter is reset to the new output). It
+   * is kept for the next dump only when the serialization succeeds, the output is released then.
+   *
+   * @param streamDataWriter - destination I/O writer
+   * @param action - the serialization
+   */
+  private void serialize(StreamDataWriter streamDataWriter, Consumer<Serializer> action) {
+    Emitter emitter = idleEmitter;
+    Serializer serializer = idleSerializer;
+    idleEmitter = null;
+    idleSerializer = null;
+    if (emitter == null) {
+      emitter = new Emitter(settings, streamDataWriter);
+      serializer = new Serializer(settings, emitter);
+    } else {
+      emitter.reset(streamDataWriter);
     }
-    serializer.emitStreamEnd();
+    action.accept(serializer);
+    emitter.release();
+    idleEmitter = emitter;
+    idleSerializer = serializer;
   }
 
   /**
@@ -119,6 +175,52 @@ public class Dump {
     return writer.toString();
   }
 
+  /**
+   * Dump all the instances from the iterator into a stream with every instance in a separate YAML
+   * document
+   *
+   * @param instancesIterator - instances to serialize
+   * @return the YAML stream encoded in UTF-8
+   */
+  public byte[] dumpAllToBytes(Iterator<? extends Object> instancesIterator) {
+    YamlUtf8Writer writer = new YamlUtf8Writer();
+    dumpAll(instancesIterator, writer);
+    return writer.toByteArray();
+  }
+
+  /**
+   * Dump a single instance into a YAML document
+   *
+   * @param yaml - instance to serialize
+   * @return the YAML document encoded in UTF-8
+   */
+  public byte[] dumpToBytes(Object yaml) {
+    YamlUtf8Writer writer = new YamlUtf8Writer();
+    dump(yaml, writer);
+    return writer.toByteArray();
+  }
+
+  /**
+   * Dump all the instances from the iterator into a stream with every instance in a separate YAML
+   * document. The output is flushed but it is not closed.
+   *
+   * @param instancesIterator - instances to serialize
+   * @param out - the output for the stream encoded in UTF-8
+   */
+  public void dumpAll(Iterator<? extends Object> instancesIterator, OutputStream out) {
+    dumpAll(instancesIterator, new YamlUtf8Writer(out));
+  }
+
+  /**
+   * Dump a single instance into a YAML document. The output is flushed but it is not closed.
+   *
+   * @param yaml - instance to serialize
+   * @param out - the output for the document encoded in UTF-8
+   */
+  public void dump(Object yaml, OutputStream out) {
+    dump(yaml, new YamlUtf8Writer(out));
+  }
+
   /**
    * Dump the provided Node into a YAML stream.
    *
@@ -128,10 +230,11 @@ public class Dump {
   public void dumpNode(Node node, StreamDataWriter streamDataWriter) {
     Objects.requireNonNull(node, "Node cannot be null");
     Objects.requireNonNull(streamDataWriter, "StreamDataWriter cannot be null");
-    Serializer serializer = new Serializer(settings, new Emitter(settings, streamDataWriter));
-    serializer.emitStreamStart();
-    serializer.serializeDocument(node);
-    serializer.emitStreamEnd();
+    serialize(streamDataWriter, serializer -> {
+      serializer.emitStreamStart();
+      serializer.serializeDocument(node);
+      serializer.emitStreamEnd();
+    });
   }
 }
 
@@ -141,6 +244,10 @@ public class Dump {
  */
 class StreamToStringWriter extends StringWriter implements StreamDataWriter {
 
+  @Override
+  public void writeChars(char[] cbuf, int off, int len) {
+    write(cbuf, off, len);
+  }
 }
 
 
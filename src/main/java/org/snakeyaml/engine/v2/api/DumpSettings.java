@@ -39,6 +39,7 @@ public final class DumpSettings {
   private final FlowStyle defaultFlowStyle;
   private final ScalarStyle defaultScalarStyle;
   private final Boolean dereferenceAliases;
+  private final boolean useStreaming;
 
   // emitter
   private final boolean canonical;
@@ -66,7 +67,7 @@ public final class DumpSettings {
       boolean canonical, boolean multiLineFlow, boolean useUnicodeEncoding, int indent,
       int indicatorIndent, int width, String bestLineBreak, boolean splitLines,
       int maxSimpleKeyLength, Map<SettingKey, Object> customProperties, boolean indentWithIndicator,
-      boolean dumpComments) {
+      boolean dumpComments, boolean useStreaming) {
     this.explicitStart = explicitStart;
     this.explicitEnd = explicitEnd;
     this.nonPrintableStyle = nonPrintableStyle;
@@ -90,6 +91,7 @@ public final class DumpSettings {
     this.indentWithIndicator = indentWithIndicator;
     this.dumpComments = dumpComments;
     this.dereferenceAliases = dereferenceAliases;
+    this.useStreaming = useStreaming;
   }
 
   public static DumpSettingsBuilder builder() {
@@ -187,5 +189,14 @@ public final class DumpSettings {
   public Boolean isDereferenceAliases() {
     return dereferenceAliases;
   }
+
+  /**
+   * Stream the standard collections to the Emitter without the Node graph of the document
+   *
+   * @return true when the collections are streamed (false by default)
+   */
+  public boolean getUseStreaming() {
+    return useStreaming;
+  }
 }
 
@@ -46,6 +46,7 @@ public final class DumpSettingsBuilder {
   private FlowStyle defaultFlowStyle;
   private ScalarStyle defaultScalarStyle;
   private boolean dereferenceAliases;
+  private boolean useStreaming;
   // emitter
   private boolean canonical;
   private boolean multiLineFlow;
@@ -85,6 +86,7 @@ public final class DumpSettingsBuilder {
     this.dumpComments = false;
     this.schema = new JsonSchema();
     this.dereferenceAliases = false;
+    this.useStreaming = false;
   }
 
   /**
@@ -388,6 +390,23 @@ public final class DumpSettingsBuilder {
     return this;
   }
 
+  /**
+   * Represent the standard collections (List, Map, Set, Iterator and Object[]) directly as events
+   * (see EventRepresenter). Only their items which are not standard collections are represented as
+   * Nodes, one at a time, so the Node graph of the document is not kept in memory. The shared
+   * instances are found by a walk over the collections before the document is emitted (Iterators
+   * are not walked twice). When the aliases are dereferenced (setDereferenceAliases()) this walk is
+   * not needed. It is used by Dump only with the StandardRepresenter (not with its subclasses).
+   * False by default.
+   *
+   * @param useStreaming - true to emit the collections without creating their Nodes
+   * @return the builder with the provided value
+   */
+  public DumpSettingsBuilder setUseStreaming(boolean useStreaming) {
+    this.useStreaming = useStreaming;
+    return this;
+  }
+
   /**
    * Create immutable DumpSettings
    *
@@ -399,7 +418,8 @@ public final class DumpSettingsBuilder {
         schema, dereferenceAliases,
         // emitter
         canonical, multiLineFlow, useUnicodeEncoding, indent, indicatorIndent, width, bestLineBreak,
-        splitLines, maxSimpleKeyLength, customProperties, indentWithIndicator, dumpComments);
+        splitLines, maxSimpleKeyLength, customProperties, indentWithIndicator, dumpComments,
+        useStreaming);
   }
 }
 
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.api;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Lock-free pool of the instances which are not thread-safe (it does not block the virtual
+ * threads). An instance is taken by one thread at a time. The pool creates a new instance when no
+ * idle instance is available and it keeps up to maxIdle idle instances.
+ *
+ * @param <T> - the type of the pooled instances
+ */
+final class InstancePool<T> {
+
+  private final Supplier<T> factory;
+  private final int maxIdle;
+  private final ConcurrentLinkedQueue<T> idle = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger idleCount = new AtomicInteger();
+
+  /**
+   * Create
+   *
+   * @param factory - the source of the new instances
+   * @param maxIdle - the maximum number of the idle instances to keep
+   */
+  InstancePool(Supplier<T> factory, int maxIdle) {
+    Objects.requireNonNull(factory, "Factory cannot be null");
+    if (maxIdle < 0) {
+      throw new IllegalArgumentException("The number of idle instances cannot be negative.");
+    }
+    this.factory = factory;
+    this.maxIdle = maxIdle;
+  }
+
+  /**
+   * Run the action with an instance of the pool. The instance is returned to the pool only when the
+   * action succeeds, because the instance may be left in an inconsistent state after a failure.
+   *
+   * @param action - the action to run with the instance
+   * @param <R> - the type of the result
+   * @return the result of the action
+   */
+  <R> R apply(Function<T, R> action) {
+    T instance = idle.poll();
+    if (instance == null) {
+      instance = factory.get();
+    } else {
+      idleCount.decrementAndGet();
+    }
+    R result = action.apply(instance);
+    if (idleCount.incrementAndGet() <= maxIdle) {
+      idle.offer(instance);
+    } else {
+      idleCount.decrementAndGet();
+    }
+    return result;
+  }
+}
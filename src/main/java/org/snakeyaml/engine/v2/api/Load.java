@@ -15,26 +15,57 @@ package org.snakeyaml.engine.v2.api;
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.snakeyaml.engine.v2.composer.Composer;
 import org.snakeyaml.engine.v2.constructor.BaseConstructor;
+import org.snakeyaml.engine.v2.constructor.EventConstructor;
 import org.snakeyaml.engine.v2.constructor.StandardConstructor;
+import org.snakeyaml.engine.v2.events.DocumentStartEvent;
+import org.snakeyaml.engine.v2.events.Event;
+import org.snakeyaml.engine.v2.exceptions.MarkedYamlEngineException;
+import org.snakeyaml.engine.v2.exceptions.ParserException;
+import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
 import org.snakeyaml.engine.v2.nodes.Node;
+import org.snakeyaml.engine.v2.parser.Parser;
 import org.snakeyaml.engine.v2.parser.ParserImpl;
+import org.snakeyaml.engine.v2.scanner.ScannerImpl;
 import org.snakeyaml.engine.v2.scanner.StreamReader;
 
 /**
  * Common way to load Java instance(s). This class is not thread-safe. Which means that all the
- * methods of the same instance can be called only by one thread. It is better to create an instance
- * for every YAML stream. The instance is stateful. Only one of the 'load' methods may be called,
- * and it may be called only once.
+ * methods of the same instance can be called only by one thread (see SharedLoad). The instance is
+ * stateful: the components (StreamReader, ScannerImpl, ParserImpl and Composer) of the finished
+ * single-document load are reset and reused by the next load.
  */
 public class Load {
 
+  // the minimal size (in chars) of the documents which are loaded together in parallel
+  private static final int BATCH_SIZE = 16 * 1024;
+
   private final LoadSettings settings;
   private final BaseConstructor constructor;
+  private EventConstructor eventConstructor;
+  // the components of the finished single-document load, they are reset for the next one
+  private Pipeline pipeline;
 
   /**
    * Create instance to parse the incoming YAML data and create Java instances
@@ -69,33 +100,66 @@ public class Load {
   }
 
   /**
-   * Create Composer
+   * Reuse the components of the previous load (they are reset to the new input) or create them
+   *
+   * @param reset - point the StreamReader to the input
+   * @param create - create the StreamReader for the input
+   * @return the Composer which is not shared until the load is finished
+   */
+  private Composer reuseComposer(Consumer<StreamReader> reset, Supplier<StreamReader> create) {
+    if (pipeline == null) {
+      pipeline = new Pipeline(settings, create.get());
+    } else if (pipeline.busy) {
+      // the previous instances are still in use
+      return createComposer(create.get());
+    } else {
+      pipeline.reset(reset);
+    }
+    pipeline.busy = true;
+    return pipeline.composer;
+  }
+
+  /**
+   * Create Composer. The components of the previous single-document load are reused.
    *
    * @param yamlStream - the input
    * @return configured Composer
    */
   protected Composer createComposer(InputStream yamlStream) {
-    return createComposer(new StreamReader(settings, new YamlUnicodeReader(yamlStream)));
+    return reuseComposer(reader -> reader.reset(yamlStream),
+        () -> new StreamReader(settings, yamlStream));
   }
 
   /**
-   * Create Composer
+   * Create Composer. The components of the previous single-document load are reused.
+   *
+   * @param yamlPath - the input file (it is mapped into memory)
+   * @return configured Composer
+   */
+  protected Composer createComposer(Path yamlPath) {
+    return reuseComposer(reader -> reader.reset(yamlPath),
+        () -> new StreamReader(settings, yamlPath));
+  }
+
+  /**
+   * Create Composer. The components of the previous single-document load are reused.
    *
    * @param yaml - the input
    * @return configured Composer
    */
   protected Composer createComposer(String yaml) {
-    return createComposer(new StreamReader(settings, yaml));
+    return reuseComposer(reader -> reader.reset(yaml), () -> new StreamReader(settings, yaml));
   }
 
   /**
-   * Create Composer
+   * Create Composer. The components of the previous single-document load are reused.
    *
    * @param yamlReader - the input
    * @return configured Composer
    */
   protected Composer createComposer(Reader yamlReader) {
-    return createComposer(new StreamReader(settings, yamlReader));
+    return reuseComposer(reader -> reader.reset(yamlReader),
+        () -> new StreamReader(settings, yamlReader));
   }
 
   // Load a single document
@@ -107,8 +171,19 @@ public class Load {
    * @return deserialised YAML document
    */
   protected Object loadOne(Composer composer) {
-    Optional<Node> nodeOptional = composer.getSingleNode();
-    return constructor.constructSingleDocument(nodeOptional);
+    try {
+      EventConstructor direct = getEventConstructor(composer);
+      if (direct != null) {
+        return direct.constructSingleDocument(composer);
+      }
+      Optional<Node> nodeOptional = composer.getSingleNode();
+      return constructor.constructSingleDocument(nodeOptional);
+    } finally {
+      if (pipeline != null && composer == pipeline.composer) {
+        pipeline.release();
+        pipeline.busy = false;
+      }
+    }
   }
 
   /**
@@ -123,6 +198,19 @@ public class Load {
     return loadOne(createComposer(yamlStream));
   }
 
+  /**
+   * Parse the only YAML document in a file and produce the corresponding Java object. The file is
+   * memory-mapped and read without an intermediate InputStream.
+   *
+   * @param yamlPath - file to load from (BOM is respected to detect encoding and removed from the
+   *        data)
+   * @return parsed Java instance
+   */
+  public Object loadFromPath(Path yamlPath) {
+    Objects.requireNonNull(yamlPath, "Path cannot be null");
+    return loadOne(createComposer(yamlPath));
+  }
+
   /**
    * Parse a YAML document and create a Java instance
    *
@@ -146,10 +234,30 @@ public class Load {
     return loadOne(createComposer(yaml));
   }
 
+  /**
+   * Get the constructor to create the instances directly from the events (see
+   * LoadSettings.getUseDirectConstruction())
+   *
+   * @param composer - the source of the events
+   * @return the constructor or null when the node graph must be composed
+   */
+  private EventConstructor getEventConstructor(Composer composer) {
+    if (!settings.getUseDirectConstruction() || settings.getParseComments()
+        || constructor.getClass() != StandardConstructor.class
+        || composer.getClass() != Composer.class) {
+      return null;
+    }
+    if (eventConstructor == null) {
+      eventConstructor = new EventConstructor((StandardConstructor) constructor);
+    }
+    return eventConstructor;
+  }
+
   // Load all the documents
 
   private Iterable<Object> loadAll(Composer composer) {
-    Iterator<Object> result = new YamlIterator(composer, constructor);
+    Iterator<Object> result =
+        new YamlIterator(composer, constructor, getEventConstructor(composer));
     return new YamlIterable(result);
   }
 
@@ -163,8 +271,22 @@ public class Load {
    */
   public Iterable<Object> loadAllFromInputStream(InputStream yamlStream) {
     Objects.requireNonNull(yamlStream, "InputStream cannot be null");
-    Composer composer =
-        createComposer(new StreamReader(settings, new YamlUnicodeReader(yamlStream)));
+    Composer composer = createComposer(new StreamReader(settings, yamlStream));
+    return loadAll(composer);
+  }
+
+  /**
+   * Parse all YAML documents in a file and produce corresponding Java objects. The documents are
+   * parsed only when the iterator is invoked. The file is memory-mapped region by region, it is not
+   * kept open between the regions.
+   *
+   * @param yamlPath - file to load from (BOM is respected to detect encoding and removed from the
+   *        data)
+   * @return an Iterable over the parsed Java objects in this file in proper sequence
+   */
+  public Iterable<Object> loadAllFromPath(Path yamlPath) {
+    Objects.requireNonNull(yamlPath, "Path cannot be null");
+    Composer composer = createComposer(new StreamReader(settings, yamlPath));
     return loadAll(composer);
   }
 
@@ -195,6 +317,351 @@ public class Load {
     return loadAll(composer);
   }
 
+  // Load all the documents in parallel
+
+  /**
+   * Create the constructor for the documents which are loaded in parallel. The constructor is not
+   * thread-safe, so every part of the stream gets its own instance. Override it to load in parallel
+   * with a custom constructor.
+   *
+   * @return new constructor
+   */
+  protected BaseConstructor createConstructor() {
+    if (constructor.getClass() != StandardConstructor.class) {
+      throw new YamlEngineException(
+          "Load.createConstructor() must be overridden to load in parallel with "
+              + constructor.getClass().getName());
+    }
+    return new StandardConstructor(settings);
+  }
+
+  /**
+   * Load the documents of a part of the stream (see DocumentSplitter)
+   *
+   * @param batch - the consecutive documents
+   * @param first - true for the beginning of the stream, the other parts must start with "---"
+   * @return the constructed documents and the failure which stopped the loading (if any)
+   */
+  private LoadedPart loadPart(DocumentSplitter.Batch batch, boolean first) {
+    List<Object> documents = new ArrayList<>();
+    try {
+      Composer composer = createComposer(new StreamReader(settings, batch.text));
+      if (!first) {
+        Parser parser = composer.getParser();
+        // Drop the STREAM-START event.
+        parser.next();
+        if (parser.checkEvent(Event.ID.DocumentStart)
+            && !((DocumentStartEvent) parser.peekEvent()).isExplicit()) {
+          throw new ParserException("expected '<document start>', but found the implicit document",
+              parser.peekEvent().getStartMark());
+        }
+      }
+      new Load(settings, createConstructor()).loadAll(composer).forEach(documents::add);
+      return new LoadedPart(documents, null);
+    } catch (RuntimeException e) {
+      if (e instanceof MarkedYamlEngineException) {
+        ((MarkedYamlEngineException) e).moveMarks(batch.index, batch.line, batch.column);
+      }
+      return new LoadedPart(documents, e);
+    }
+  }
+
+  private Iterable<Object> loadAll(Reader yamlReader, Executor executor) {
+    Objects.requireNonNull(executor, "Executor cannot be null");
+    return new YamlIterable(new ParallelYamlIterator(new DocumentSplitter(yamlReader), executor));
+  }
+
+  /**
+   * Parse all YAML documents in a stream and produce corresponding Java objects. The stream is
+   * split into the documents (at "---" and "..." at the beginning of a line) and they are loaded by
+   * the executor. The results are provided in the order of the documents. The documents which
+   * precede an invalid one are provided before the exception, its Marks are relative to the stream.
+   *
+   * @param yamlStream - YAML data to load from (BOM is respected to detect encoding and removed
+   *        from the data)
+   * @param executor - the executor to load the documents (for instance ForkJoinPool)
+   * @return an Iterable over the parsed Java objects in this stream in proper sequence
+   */
+  public Iterable<Object> loadAllFromInputStream(InputStream yamlStream, Executor executor) {
+    Objects.requireNonNull(yamlStream, "InputStream cannot be null");
+    return loadAll(new YamlUnicodeReader(yamlStream), executor);
+  }
+
+  /**
+   * Parse all YAML documents in a stream and produce corresponding Java objects. The stream is
+   * split into the documents (at "---" and "..." at the beginning of a line) and they are loaded by
+   * the executor. The results are provided in the order of the documents. The documents which
+   * precede an invalid one are provided before the exception, its Marks are relative to the stream.
+   *
+   * @param yamlReader - YAML data to load from (BOM must not be present)
+   * @param executor - the executor to load the documents (for instance ForkJoinPool)
+   * @return an Iterable over the parsed Java objects in this stream in proper sequence
+   */
+  public Iterable<Object> loadAllFromReader(Reader yamlReader, Executor executor) {
+    Objects.requireNonNull(yamlReader, "Reader cannot be null");
+    return loadAll(yamlReader, executor);
+  }
+
+  /**
+   * Parse all YAML documents in a String and produce corresponding Java objects. The documents are
+   * loaded by the executor. The results are provided in the order of the documents. The documents
+   * which precede an invalid one are provided before the exception, its Marks are relative to the
+   * stream.
+   *
+   * @param yaml - YAML data to load from (BOM must not be present)
+   * @param executor - the executor to load the documents (for instance ForkJoinPool)
+   * @return an Iterable over the parsed Java objects in this stream in proper sequence
+   */
+  public Iterable<Object> loadAllFromString(String yaml, Executor executor) {
+    Objects.requireNonNull(yaml, "String cannot be null");
+    return loadAll(new StringReader(yaml), executor);
+  }
+
+  // Stream all the documents
+
+  private Stream<Object> streamAll(Reader yamlReader) {
+    return StreamSupport.stream(new DocumentSpliterator(new DocumentSplitter(yamlReader)), false);
+  }
+
+  /**
+   * Parse all YAML documents in a stream and provide the corresponding Java objects as the ordered
+   * Stream. The documents are parsed only when the Stream is consumed. The Stream is split at the
+   * document boundaries, so the parallel Stream composes and constructs the documents in parallel.
+   * The documents which precede an invalid one are provided before the exception, its Marks are
+   * relative to the stream.
+   *
+   * @param yamlStream - YAML data to load from (BOM is respected to detect encoding and removed
+   *        from the data)
+   * @return the Stream of the parsed Java objects in this stream in proper sequence
+   */
+  public Stream<Object> streamAllFromInputStream(InputStream yamlStream) {
+    Objects.requireNonNull(yamlStream, "InputStream cannot be null");
+    return streamAll(new YamlUnicodeReader(yamlStream));
+  }
+
+  /**
+   * Parse all YAML documents in a stream and provide the corresponding Java objects as the ordered
+   * Stream. The documents are parsed only when the Stream is consumed. The Stream is split at the
+   * document boundaries, so the parallel Stream composes and constructs the documents in parallel.
+   * The documents which precede an invalid one are provided before the exception, its Marks are
+   * relative to the stream.
+   *
+   * @param yamlReader - YAML data to load from (BOM must not be present)
+   * @return the Stream of the parsed Java objects in this stream in proper sequence
+   */
+  public Stream<Object> streamAllFromReader(Reader yamlReader) {
+    Objects.requireNonNull(yamlReader, "Reader cannot be null");
+    return streamAll(yamlReader);
+  }
+
+  /**
+   * Parse all YAML documents in a String and provide the corresponding Java objects as the ordered
+   * Stream. The documents are parsed only when the Stream is consumed. The Stream is split at the
+   * document boundaries, so the parallel Stream composes and constructs the documents in parallel.
+   * The documents which precede an invalid one are provided before the exception, its Marks are
+   * relative to the stream.
+   *
+   * @param yaml - YAML data to load from (BOM must not be present)
+   * @return the Stream of the parsed Java objects in this String in proper sequence
+   */
+  public Stream<Object> streamAllFromString(String yaml) {
+    Objects.requireNonNull(yaml, "String cannot be null");
+    return streamAll(new StringReader(yaml));
+  }
+
+  // Construct a big document item by item
+
+  private YamlCursor cursor(Composer composer) {
+    return new YamlCursor(composer, constructor, getEventConstructor(composer));
+  }
+
+  /**
+   * Create the cursor to construct the documents of the stream and the items of their collections
+   * one by one.
+   *
+   * @param yamlStream - YAML data to load from (BOM is respected to detect encoding and removed
+   *        from the data)
+   * @return the cursor at the top level of the stream
+   */
+  public YamlCursor cursorFromInputStream(InputStream yamlStream) {
+    Objects.requireNonNull(yamlStream, "InputStream cannot be null");
+    return cursor(createComposer(new StreamReader(settings, yamlStream)));
+  }
+
+  /**
+   * Create the cursor to construct the documents of the file and the items of their collections one
+   * by one.
+   *
+   * @param yamlPath - file to load from (BOM is respected to detect encoding and removed from the
+   *        data)
+   * @return the cursor at the top level of the stream
+   */
+  public YamlCursor cursorFromPath(Path yamlPath) {
+    Objects.requireNonNull(yamlPath, "Path cannot be null");
+    return cursor(createComposer(new StreamReader(settings, yamlPath)));
+  }
+
+  /**
+   * Create the cursor to construct the documents of the stream and the items of their collections
+   * one by one.
+   *
+   * @param yamlReader - YAML data to load from (BOM must not be present)
+   * @return the cursor at the top level of the stream
+   */
+  public YamlCursor cursorFromReader(Reader yamlReader) {
+    Objects.requireNonNull(yamlReader, "Reader cannot be null");
+    return cursor(createComposer(new StreamReader(settings, yamlReader)));
+  }
+
+  /**
+   * Create the cursor to construct the documents of the String and the items of their collections
+   * one by one.
+   *
+   * @param yaml - YAML data to load from (BOM must not be present)
+   * @return the cursor at the top level of the stream
+   */
+  public YamlCursor cursorFromString(String yaml) {
+    Objects.requireNonNull(yaml, "String cannot be null");
+    return cursor(createComposer(new StreamReader(settings, yaml)));
+  }
+
+  // Load only the selected parts of the documents
+
+  private Map<String, List<Object>> loadPaths(Composer composer, String... paths) {
+    Objects.requireNonNull(paths, "Paths cannot be null");
+    return new PathSelector(composer, constructor, getEventConstructor(composer), paths).select();
+  }
+
+  /**
+   * Construct only the nodes selected by the paths in all the documents of the stream (see
+   * loadPathsFromString())
+   *
+   * @param yamlStream - YAML data to load from (BOM is respected to detect encoding and removed
+   *        from the data)
+   * @param paths - the paths of the nodes to construct
+   * @return the constructed instances for every path
+   */
+  public Map<String, List<Object>> loadPathsFromInputStream(InputStream yamlStream,
+      String... paths) {
+    Objects.requireNonNull(yamlStream, "InputStream cannot be null");
+    return loadPaths(createComposer(new StreamReader(settings, yamlStream)), paths);
+  }
+
+  /**
+   * Construct only the nodes selected by the paths in all the documents of the file (see
+   * loadPathsFromString())
+   *
+   * @param yamlPath - file to load from (BOM is respected to detect encoding and removed from the
+   *        data)
+   * @param paths - the paths of the nodes to construct
+   * @return the constructed instances for every path
+   */
+  public Map<String, List<Object>> loadPathsFromPath(Path yamlPath, String... paths) {
+    Objects.requireNonNull(yamlPath, "Path cannot be null");
+    return loadPaths(createComposer(new StreamReader(settings, yamlPath)), paths);
+  }
+
+  /**
+   * Construct only the nodes selected by the paths in all the documents of the stream (see
+   * loadPathsFromString())
+   *
+   * @param yamlReader - YAML data to load from (BOM must not be present)
+   * @param paths - the paths of the nodes to construct
+   * @return the constructed instances for every path
+   */
+  public Map<String, List<Object>> loadPathsFromReader(Reader yamlReader, String... paths) {
+    Objects.requireNonNull(yamlReader, "Reader cannot be null");
+    return loadPaths(createComposer(new StreamReader(settings, yamlReader)), paths);
+  }
+
+  /**
+   * Construct only the nodes selected by the paths in all the documents of the String. The other
+   * nodes are skipped by the parser (see Parser.skipNode()): neither their Nodes nor their
+   * instances are created.
+   * <p>
+   * The path is the list of the segments separated by '.': the key of a mapping, '*' for any key,
+   * "[n]" for the n-th item of a sequence and "[*]" for any item. For instance,
+   * "spec.containers[*].image". The empty path selects the whole document. The merge keys are not
+   * applied. Every selected node is constructed separately, so the aliases to the anchors outside
+   * of the selected nodes fail.
+   * </p>
+   *
+   * @param yaml - YAML data to load from (BOM must not be present)
+   * @param paths - the paths of the nodes to construct
+   * @return the constructed instances for every path
+   */
+  public Map<String, List<Object>> loadPathsFromString(String yaml, String... paths) {
+    Objects.requireNonNull(yaml, "String cannot be null");
+    return loadPaths(createComposer(new StreamReader(settings, yaml)), paths);
+  }
+
+  /**
+   * The components to read a YAML stream which are reused by the next loads
+   */
+  private static final class Pipeline {
+
+    private final StreamReader reader;
+    private final ScannerImpl scanner;
+    private final ParserImpl parser;
+    private final Composer composer;
+    private boolean busy = false;
+
+    Pipeline(LoadSettings settings, StreamReader reader) {
+      this.reader = reader;
+      this.scanner = new ScannerImpl(settings, reader);
+      this.parser = new ParserImpl(settings, scanner);
+      this.composer = new Composer(settings, parser);
+    }
+
+    void reset(Consumer<StreamReader> input) {
+      input.accept(reader);
+      scanner.reset(reader);
+      parser.reset(scanner);
+      composer.reset(parser);
+    }
+
+    /**
+     * Point the components to the empty input, the finished input is not kept until the next load
+     */
+    void release() {
+      reset(reader -> reader.reset(""));
+    }
+  }
+
+  /**
+   * The documents of a part of the stream. When the part fails, the documents which precede the
+   * failure are provided before the exception is thrown.
+   */
+  private static class LoadedPart implements Iterator<Object> {
+
+    private final Iterator<Object> documents;
+    private final RuntimeException failure;
+
+    LoadedPart(List<Object> documents, RuntimeException failure) {
+      this.documents = documents.iterator();
+      this.failure = failure;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (documents.hasNext()) {
+        return true;
+      }
+      if (failure != null) {
+        throw failure;
+      }
+      return false;
+    }
+
+    @Override
+    public Object next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException("No document is available.");
+      }
+      return documents.next();
+    }
+  }
+
   private static class YamlIterable implements Iterable<Object> {
 
     private final Iterator<Object> iterator;
@@ -209,15 +676,153 @@ public class Load {
     }
   }
 
+  /**
+   * Iterator over the documents which are loaded by the executor. The small documents are joined
+   * into batches (of at least BATCH_SIZE chars) to amortize the setup of every task. The number of
+   * the batches which are loaded ahead is limited to keep the memory bounded.
+   */
+  private class ParallelYamlIterator implements Iterator<Object> {
+
+    private final int window = Math.max(2, 2 * Runtime.getRuntime().availableProcessors());
+    private final DocumentSplitter splitter;
+    private final Executor executor;
+    private final ArrayDeque<CompletableFuture<LoadedPart>> parts = new ArrayDeque<>();
+    private Iterator<Object> current = Collections.emptyIterator();
+    private boolean first = true;
+
+    public ParallelYamlIterator(DocumentSplitter splitter, Executor executor) {
+      this.splitter = splitter;
+      this.executor = executor;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!current.hasNext()) {
+        while (parts.size() < window && splitter.hasNext()) {
+          DocumentSplitter.Batch part = splitter.nextBatch(BATCH_SIZE);
+          boolean firstPart = first;
+          first = false;
+          parts.add(CompletableFuture.supplyAsync(() -> loadPart(part, firstPart), executor));
+        }
+        if (parts.isEmpty()) {
+          return false;
+        }
+        current = join(parts.poll());
+      }
+      return true;
+    }
+
+    @Override
+    public Object next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException("No document is available.");
+      }
+      return current.next();
+    }
+
+    private LoadedPart join(CompletableFuture<LoadedPart> part) {
+      try {
+        return part.join();
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        if (e.getCause() instanceof Error) {
+          throw (Error) e.getCause();
+        }
+        throw new YamlEngineException(e.getCause());
+      }
+    }
+  }
+
+  /**
+   * Spliterator over the documents of the stream. The stream is read by one thread, the batches of
+   * the documents are split off (growing by BATCH_SIZE up to MAX_BATCH_SIZE chars) to be loaded by
+   * the other threads.
+   */
+  private class DocumentSpliterator implements Spliterator<Object> {
+
+    private static final int MAX_BATCH_SIZE = 64 * BATCH_SIZE;
+    private final DocumentSplitter splitter;
+    private Iterator<Object> current = Collections.emptyIterator();
+    private boolean first = true;
+    private int batchSize = 0;
+
+    public DocumentSpliterator(DocumentSplitter splitter) {
+      this.splitter = splitter;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Object> action) {
+      while (!current.hasNext()) {
+        if (!splitter.hasNext()) {
+          return false;
+        }
+        DocumentSplitter.Batch batch = splitter.nextBatch(BATCH_SIZE);
+        current = loadPart(batch, first);
+        first = false;
+      }
+      action.accept(current.next());
+      return true;
+    }
+
+    @Override
+    public Spliterator<Object> trySplit() {
+      if (current.hasNext()) {
+        // the loaded documents precede the rest of the stream
+        Spliterator<Object> loaded = Spliterators.spliteratorUnknownSize(current, ORDERED);
+        current = Collections.emptyIterator();
+        return loaded;
+      }
+      if (!splitter.hasNext()) {
+        return null;
+      }
+      batchSize = Math.min(batchSize + BATCH_SIZE, MAX_BATCH_SIZE);
+      DocumentSplitter.Batch batch = splitter.nextBatch(batchSize);
+      boolean firstBatch = first;
+      first = false;
+      return new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, ORDERED) {
+        // the batch is loaded by the thread which takes it
+        private Iterator<Object> documents;
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Object> action) {
+          if (documents == null) {
+            documents = loadPart(batch, firstBatch);
+          }
+          if (!documents.hasNext()) {
+            return false;
+          }
+          action.accept(documents.next());
+          return true;
+        }
+      };
+    }
+
+    @Override
+    public long estimateSize() {
+      return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+      return ORDERED;
+    }
+  }
+
   private static class YamlIterator implements Iterator<Object> {
 
     private final Composer composer;
     private final BaseConstructor constructor;
+    // null when the node graph is composed
+    private final EventConstructor eventConstructor;
     private boolean composerInitiated = false;
 
-    public YamlIterator(Composer composer, BaseConstructor constructor) {
+    public YamlIterator(Composer composer, BaseConstructor constructor,
+        EventConstructor eventConstructor) {
       this.composer = composer;
       this.constructor = constructor;
+      this.eventConstructor = eventConstructor;
     }
 
     @Override
@@ -231,6 +836,9 @@ public class Load {
       if (!composerInitiated) {
         hasNext();
       }
+      if (eventConstructor != null) {
+        return eventConstructor.constructDocument(composer);
+      }
       Node node = composer.next();
       return constructor.constructSingleDocument(Optional.of(node));
     }
@@ -46,6 +46,11 @@ public final class LoadSettings {
   private final int codePointLimit;
   private final Schema schema;
   private final boolean allowNonScalarKeys;
+  private final boolean useRingBuffer;
+  private final boolean useCompactWindow;
+  private final boolean useCompactMarks;
+  private final boolean usePrimitiveLists;
+  private final boolean useDirectConstruction;
 
   // general
   private final Map<SettingKey, Object> customProperties;
@@ -56,7 +61,8 @@ public final class LoadSettings {
       Integer bufferSize, boolean allowDuplicateKeys, boolean allowRecursiveKeys,
       int maxAliasesForCollections, boolean useMarks, Map<SettingKey, Object> customProperties,
       Optional<EnvConfig> envConfig, boolean parseComments, int codePointLimit, Schema schema,
-      boolean allowNonScalarKeys) {
+      boolean allowNonScalarKeys, boolean useRingBuffer, boolean useCompactWindow,
+      boolean useCompactMarks, boolean usePrimitiveLists, boolean useDirectConstruction) {
     this.label = label;
     this.tagConstructors = tagConstructors;
     this.defaultList = defaultList;
@@ -74,6 +80,11 @@ public final class LoadSettings {
     this.codePointLimit = codePointLimit;
     this.schema = schema;
     this.allowNonScalarKeys = allowNonScalarKeys;
+    this.useRingBuffer = useRingBuffer;
+    this.useCompactWindow = useCompactWindow;
+    this.useCompactMarks = useCompactMarks;
+    this.usePrimitiveLists = usePrimitiveLists;
+    this.useDirectConstruction = useDirectConstruction;
   }
 
   /**
@@ -152,5 +163,24 @@ public final class LoadSettings {
   public boolean getAllowNonScalarKeys() {
     return allowNonScalarKeys;
   }
-}
 
+  public boolean getUseRingBuffer() {
+    return useRingBuffer;
+  }
+
+  public boolean getUseCompactWindow() {
+    return useCompactWindow;
+  }
+
+  public boolean getUseCompactMarks() {
+    return useCompactMarks;
+  }
+
+  public boolean getUsePrimitiveLists() {
+    return usePrimitiveLists;
+  }
+
+  public boolean getUseDirectConstruction() {
+    return useDirectConstruction;
+  }
+}
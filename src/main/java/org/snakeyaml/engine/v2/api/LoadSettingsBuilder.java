@@ -53,6 +53,11 @@ public final class LoadSettingsBuilder {
   private int codePointLimit;
   private Schema schema;
   private boolean allowNonScalarKeys;
+  private boolean useRingBuffer;
+  private boolean useCompactWindow;
+  private boolean useCompactMarks;
+  private boolean usePrimitiveLists;
+  private boolean useDirectConstruction;
 
   /**
    * Create builder
@@ -81,6 +86,11 @@ public final class LoadSettingsBuilder {
     this.codePointLimit = 3 * 1024 * 1024; // 3 MB
     this.schema = new JsonSchema();
     this.allowNonScalarKeys = false;
+    this.useRingBuffer = false;
+    this.useCompactWindow = false;
+    this.useCompactMarks = false;
+    this.usePrimitiveLists = false;
+    this.useDirectConstruction = false;
   }
 
   /**
@@ -306,6 +316,79 @@ public final class LoadSettingsBuilder {
     return this;
   }
 
+  /**
+   * Re-use the same circular window for the code points instead of allocating a new window on every
+   * read from the input stream. The window grows only when a single look-ahead does not fit into
+   * it. It reduces the allocation rate for big documents. Marks (if used) get a copy of the current
+   * line instead of sharing the window. False by default.
+   *
+   * @param useRingBuffer - true to use the circular window
+   * @return the builder with the provided value
+   */
+  public LoadSettingsBuilder setUseRingBuffer(boolean useRingBuffer) {
+    this.useRingBuffer = useRingBuffer;
+    return this;
+  }
+
+  /**
+   * Keep the code points as bytes (instead of int) while the input contains only the code points
+   * below U+0100 (ASCII and Latin-1). The window is inflated when a wider code point is read. It
+   * reduces the memory bandwidth for the scanner. False by default.
+   *
+   * @param useCompactWindow - true to keep Latin-1 input in a byte window
+   * @return the builder with the provided value
+   */
+  public LoadSettingsBuilder setUseCompactWindow(boolean useCompactWindow) {
+    this.useCompactWindow = useCompactWindow;
+    return this;
+  }
+
+  /**
+   * Create the marks without the snippet of the document. Such a mark keeps only the position
+   * (index, line and column) and it does not retain the data buffer of the reader, so the tokens,
+   * events and nodes of a big document do not keep the whole input in memory. The scanner errors
+   * still get the snippet because it is captured when the exception is created. It is ignored when
+   * the marks are not used. False by default.
+   *
+   * @param useCompactMarks - true to create the marks without the snippet
+   * @return the builder with the provided value
+   */
+  public LoadSettingsBuilder setUseCompactMarks(boolean useCompactMarks) {
+    this.useCompactMarks = useCompactMarks;
+    return this;
+  }
+
+  /**
+   * Construct the sequences which contain only integers (or only floats) as Lists backed by a
+   * primitive array (IntArrayList, LongArrayList or DoubleArrayList) instead of ArrayList of the
+   * boxed numbers. It saves most of the memory for the big numeric vectors. The List is created
+   * only when every item is a scalar with the int (or float) tag and it is constructed as Integer,
+   * Long (or Double); otherwise the default List is created. The primitive array is available via
+   * toArray methods (for instance IntArrayList.toIntArray()). False by default.
+   *
+   * @param usePrimitiveLists - true to create the primitive Lists for numeric sequences
+   * @return the builder with the provided value
+   */
+  public LoadSettingsBuilder setUsePrimitiveLists(boolean usePrimitiveLists) {
+    this.usePrimitiveLists = usePrimitiveLists;
+    return this;
+  }
+
+  /**
+   * Construct the Java instances directly from the parser events (see EventConstructor). The node
+   * graph of the document is not created: only the anchored nodes (and the collections with custom
+   * tags) are composed. It needs less memory and it walks the document once. It is used by Load
+   * only with the StandardConstructor and the Composer (not with their subclasses) and only when
+   * the comments are not parsed. False by default.
+   *
+   * @param useDirectConstruction - true to construct the instances directly from the events
+   * @return the builder with the provided value
+   */
+  public LoadSettingsBuilder setUseDirectConstruction(boolean useDirectConstruction) {
+    this.useDirectConstruction = useDirectConstruction;
+    return this;
+  }
+
   /**
    * Build immutable LoadSettings
    *
@@ -315,7 +398,8 @@ public final class LoadSettingsBuilder {
     return new LoadSettings(label, tagConstructors, defaultList, defaultSet, defaultMap,
         versionFunction, bufferSize, allowDuplicateKeys, allowRecursiveKeys,
         maxAliasesForCollections, useMarks, customProperties, envConfig, parseComments,
-        codePointLimit, schema, allowNonScalarKeys);
+        codePointLimit, schema, allowNonScalarKeys, useRingBuffer, useCompactWindow,
+        useCompactMarks, usePrimitiveLists, useDirectConstruction);
   }
 }
 
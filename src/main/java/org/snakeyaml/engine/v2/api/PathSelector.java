@@ -0,0 +1,269 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.api;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.snakeyaml.engine.v2.composer.Composer;
+import org.snakeyaml.engine.v2.constructor.BaseConstructor;
+import org.snakeyaml.engine.v2.constructor.EventConstructor;
+import org.snakeyaml.engine.v2.events.Event;
+import org.snakeyaml.engine.v2.events.ScalarEvent;
+import org.snakeyaml.engine.v2.parser.Parser;
+
+/**
+ * Construct only the nodes of the documents which are selected by the paths. The other nodes are
+ * skipped by the parser (see Parser.skipNode()), neither their Nodes nor their instances are
+ * created.
+ * <p>
+ * The path is the list of the segments separated by '.': the key of a mapping (compared to the
+ * value of the scalar key), '*' for any key, "[n]" for the n-th item of a sequence and "[*]" for
+ * any item. For instance, "spec.containers[*].image". The empty path selects the whole document.
+ * The keys which contain '.' or '[' cannot be selected by name. The merge keys are not applied.
+ * Every selected node is constructed as a separate document, the aliases to the anchors outside of
+ * the selected nodes fail.
+ * </p>
+ */
+final class PathSelector {
+
+  private final Composer composer;
+  private final Parser parser;
+  private final BaseConstructor constructor;
+  // null when the nodes are composed
+  private final EventConstructor eventConstructor;
+  private final Segment[][] segments;
+  private final List<List<Object>> selected = new ArrayList<>();
+  private final Map<String, List<Object>> result = new LinkedHashMap<>();
+
+  /**
+   * Create
+   *
+   * @param composer - the source of the events and of the nodes
+   * @param constructor - the constructor for the selected nodes
+   * @param eventConstructor - the constructor to create the instances directly from the events or
+   *        null
+   * @param paths - the paths to select
+   */
+  PathSelector(Composer composer, BaseConstructor constructor, EventConstructor eventConstructor,
+      String... paths) {
+    this.composer = composer;
+    this.parser = composer.getParser();
+    this.constructor = constructor;
+    this.eventConstructor = eventConstructor;
+    for (String path : paths) {
+      result.put(path, new ArrayList<>());
+    }
+    this.segments = new Segment[result.size()][];
+    int i = 0;
+    for (Map.Entry<String, List<Object>> entry : result.entrySet()) {
+      segments[i++] = parse(entry.getKey());
+      selected.add(entry.getValue());
+    }
+  }
+
+  /**
+   * Select the nodes in all the documents of the stream
+   *
+   * @return the instances for every path (in the order of the paths and of the documents)
+   */
+  Map<String, List<Object>> select() {
+    // the index of the next segment for every path, all the paths start at the document
+    int[] positions = new int[segments.length];
+    // Drop the STREAM-START event.
+    parser.next();
+    dropComments();
+    while (!parser.checkEvent(Event.ID.StreamEnd)) {
+      // Drop the DOCUMENT-START event.
+      parser.next();
+      select(positions);
+      dropComments();
+      composer.finishDocument();
+      dropComments();
+    }
+    // Drop the STREAM-END event.
+    parser.next();
+    return result;
+  }
+
+  private void select(int[] positions) {
+    dropComments();
+    boolean active = false;
+    boolean constructed = false;
+    Object data = null;
+    for (int i = 0; i < positions.length; i++) {
+      if (positions[i] == segments[i].length) {
+        if (!constructed) {
+          data = construct();
+          constructed = true;
+        }
+        selected.get(i).add(data);
+      }
+      active = active || positions[i] >= 0;
+    }
+    if (constructed) {
+      // the longer paths continue in the constructed instance
+      for (int i = 0; i < positions.length; i++) {
+        if (positions[i] >= 0 && positions[i] < segments[i].length) {
+          select(data, i, positions[i]);
+        }
+      }
+    } else if (!active) {
+      parser.skipNode();
+    } else if (parser.checkEvent(Event.ID.MappingStart)) {
+      parser.next();
+      while (!checkEnd(Event.ID.MappingEnd)) {
+        Event key = parser.peekEvent();
+        String name = key.getEventId() == Event.ID.Scalar ? ((ScalarEvent) key).getValue() : null;
+        parser.skipNode();
+        select(advance(positions, name, -1));
+      }
+      parser.next();
+    } else if (parser.checkEvent(Event.ID.SequenceStart)) {
+      parser.next();
+      for (int index = 0; !checkEnd(Event.ID.SequenceEnd); index++) {
+        select(advance(positions, null, index));
+      }
+      parser.next();
+    } else {
+      // the scalar or the alias has no children to select
+      parser.skipNode();
+    }
+  }
+
+  /**
+   * Select the rest of the path in the instance constructed for the shorter path
+   */
+  private void select(Object data, int path, int position) {
+    if (position == segments[path].length) {
+      selected.get(path).add(data);
+      return;
+    }
+    Segment segment = segments[path][position];
+    if (segment.key != null && data instanceof Map) {
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) data).entrySet()) {
+        if (segment.matches(String.valueOf(entry.getKey()), -1)) {
+          select(entry.getValue(), path, position + 1);
+        }
+      }
+    } else if (segment.key == null && data instanceof List) {
+      List<?> list = (List<?>) data;
+      for (int index = 0; index < list.size(); index++) {
+        if (segment.matches(null, index)) {
+          select(list.get(index), path, position + 1);
+        }
+      }
+    }
+  }
+
+  /**
+   * Get the positions of the paths for the entry of the mapping (with the key) or for the item of
+   * the sequence (with the index)
+   */
+  private int[] advance(int[] positions, String key, int index) {
+    int[] next = new int[positions.length];
+    for (int i = 0; i < positions.length; i++) {
+      int position = positions[i];
+      next[i] = position >= 0 && position < segments[i].length
+          && segments[i][position].matches(key, index) ? position + 1 : -1;
+    }
+    return next;
+  }
+
+  private Object construct() {
+    if (eventConstructor != null) {
+      return eventConstructor.constructNode(composer);
+    }
+    return constructor.constructSingleDocument(Optional.of(composer.composeNextNode()));
+  }
+
+  private boolean checkEnd(Event.ID endEvent) {
+    dropComments();
+    return parser.checkEvent(endEvent);
+  }
+
+  private void dropComments() {
+    while (parser.checkEvent(Event.ID.Comment)) {
+      parser.next();
+    }
+  }
+
+  private static Segment[] parse(String path) {
+    List<Segment> list = new ArrayList<>();
+    int i = 0;
+    // the key is expected at the start and after '.'
+    boolean key = !path.isEmpty() && path.charAt(0) != '[';
+    while (i < path.length() || key) {
+      if (key) {
+        int end = i;
+        while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+          end++;
+        }
+        if (end == i) {
+          throw new IllegalArgumentException("Empty key in the path: " + path);
+        }
+        list.add(new Segment(path.substring(i, end), -1));
+        i = end;
+      } else {
+        int end = path.indexOf(']', i);
+        if (end < 0) {
+          throw new IllegalArgumentException("Unclosed '[' in the path: " + path);
+        }
+        String index = path.substring(i + 1, end);
+        try {
+          list.add(new Segment(null, "*".equals(index) ? -1 : Integer.parseUnsignedInt(index)));
+        } catch (NumberFormatException e) {
+          throw new IllegalArgumentException("Invalid index in the path: " + path);
+        }
+        i = end + 1;
+      }
+      key = i < path.length() && path.charAt(i) == '.';
+      if (key) {
+        i++;
+      } else if (i < path.length() && path.charAt(i) != '[') {
+        throw new IllegalArgumentException("Expected '.' or '[' in the path: " + path);
+      }
+    }
+    return list.toArray(new Segment[0]);
+  }
+
+  /**
+   * The key of a mapping or the index of a sequence item
+   */
+  private static final class Segment {
+
+    // null for the sequence item
+    private final String key;
+    // -1 for any item
+    private final int index;
+
+    Segment(String key, int index) {
+      this.key = key;
+      this.index = index;
+    }
+
+    /**
+     * @param key - the value of the scalar key or null for a complex key or for a sequence item
+     * @param index - the index of the sequence item or -1 for a mapping entry
+     */
+    boolean matches(String key, int index) {
+      if (this.key != null) {
+        return index < 0 && ("*".equals(this.key) || this.key.equals(key));
+      }
+      return index >= 0 && (this.index < 0 || this.index == index);
+    }
+  }
+}
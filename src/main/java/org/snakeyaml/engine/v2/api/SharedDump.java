@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.api;
+
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe way to serialize Java instance(s). One instance may be shared by all the threads of a
+ * service. Every call takes a Dump from the pool, so the representer (with its represent functions)
+ * is created once and reused. The pool does not block, it is safe to use it from virtual threads.
+ * The AnchorGenerator of the settings is shared by all the threads (the default one is
+ * thread-safe).
+ */
+public class SharedDump {
+
+  private static final int DEFAULT_MAX_IDLE = 2 * Runtime.getRuntime().availableProcessors();
+
+  private final InstancePool<Dump> pool;
+
+  /**
+   * Create instance to dump with the StandardRepresenter
+   *
+   * @param settings - configuration
+   */
+  public SharedDump(DumpSettings settings) {
+    this(() -> new Dump(settings), DEFAULT_MAX_IDLE);
+    Objects.requireNonNull(settings, "DumpSettings cannot be null");
+  }
+
+  /**
+   * Create instance to dump with custom Dumps (for instance with a custom representer)
+   *
+   * @param factory - the source of the new Dump instances (they are not shared between threads)
+   * @param maxIdle - the maximum number of the idle Dump instances to keep in the pool
+   */
+  public SharedDump(Supplier<Dump> factory, int maxIdle) {
+    this.pool = new InstancePool<>(factory, maxIdle);
+  }
+
+  /**
+   * Dump all the instances from the iterator into a stream with every instance in a separate YAML
+   * document
+   *
+   * @param instancesIterator - instances to serialize
+   * @param streamDataWriter - destination I/O writer
+   */
+  public void dumpAll(Iterator<? extends Object> instancesIterator,
+      StreamDataWriter streamDataWriter) {
+    pool.apply(dump -> {
+      dump.dumpAll(instancesIterator, streamDataWriter);
+      return null;
+    });
+  }
+
+  /**
+   * Dump a single instance into a YAML document
+   *
+   * @param yaml - instance to serialize
+   * @param streamDataWriter - destination I/O writer
+   */
+  public void dump(Object yaml, StreamDataWriter streamDataWriter) {
+    pool.apply(dump -> {
+      dump.dump(yaml, streamDataWriter);
+      return null;
+    });
+  }
+
+  /**
+   * Dump all the instances from the iterator into a stream with every instance in a separate YAML
+   * document
+   *
+   * @param instancesIterator - instances to serialize
+   * @return String representation of the YAML stream
+   */
+  public String dumpAllToString(Iterator<? extends Object> instancesIterator) {
+    return pool.apply(dump -> dump.dumpAllToString(instancesIterator));
+  }
+
+  /**
+   * Dump a single instance into a YAML document
+   *
+   * @param yaml - instance to serialize
+   * @return String representation of the YAML document
+   */
+  public String dumpToString(Object yaml) {
+    return pool.apply(dump -> dump.dumpToString(yaml));
+  }
+
+  /**
+   * Dump all the instances from the iterator into a stream with every instance in a separate YAML
+   * document
+   *
+   * @param instancesIterator - instances to serialize
+   * @return the YAML stream encoded in UTF-8
+   */
+  public byte[] dumpAllToBytes(Iterator<? extends Object> instancesIterator) {
+    return pool.apply(dump -> dump.dumpAllToBytes(instancesIterator));
+  }
+
+  /**
+   * Dump a single instance into a YAML document
+   *
+   * @param yaml - instance to serialize
+   * @return the YAML document encoded in UTF-8
+   */
+  public byte[] dumpToBytes(Object yaml) {
+    return pool.apply(dump -> dump.dumpToBytes(yaml));
+  }
+
+  /**
+   * Dump all the instances from the iterator into a stream with every instance in a separate YAML
+   * document. The output is flushed but it is not closed.
+   *
+   * @param instancesIterator - instances to serialize
+   * @param out - the output for the stream encoded in UTF-8
+   */
+  public void dumpAll(Iterator<? extends Object> instancesIterator, OutputStream out) {
+    pool.apply(dump -> {
+      dump.dumpAll(instancesIterator, out);
+      return null;
+    });
+  }
+
+  /**
+   * Dump a single instance into a YAML document. The output is flushed but it is not closed.
+   *
+   * @param yaml - instance to serialize
+   * @param out - the output for the document encoded in UTF-8
+   */
+  public void dump(Object yaml, OutputStream out) {
+    pool.apply(dump -> {
+      dump.dump(yaml, out);
+      return null;
+    });
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.api;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe way to load Java instance(s). One instance may be shared by all the threads of a
+ * service. Every call takes a Load from the pool, so the constructor (with its tag constructors)
+ * and the settings (with the resolver) are created once and reused. The pool does not block, it is
+ * safe to use it from virtual threads. All the documents are loaded before the method returns.
+ */
+public class SharedLoad {
+
+  private static final int DEFAULT_MAX_IDLE = 2 * Runtime.getRuntime().availableProcessors();
+
+  private final InstancePool<Load> pool;
+
+  /**
+   * Create instance to load with the StandardConstructor
+   *
+   * @param settings - configuration
+   */
+  public SharedLoad(LoadSettings settings) {
+    this(() -> new Load(settings), DEFAULT_MAX_IDLE);
+    Objects.requireNonNull(settings, "LoadSettings cannot be null");
+  }
+
+  /**
+   * Create instance to load with custom Loads (for instance with a custom constructor)
+   *
+   * @param factory - the source of the new Load instances (they are not shared between threads)
+   * @param maxIdle - the maximum number of the idle Load instances to keep in the pool
+   */
+  public SharedLoad(Supplier<Load> factory, int maxIdle) {
+    this.pool = new InstancePool<>(factory, maxIdle);
+  }
+
+  /**
+   * Parse the only YAML document in a stream and produce the corresponding Java object.
+   *
+   * @param yamlStream - data to load from (BOM is respected to detect encoding and removed from the
+   *        data)
+   * @return parsed Java instance
+   */
+  public Object loadFromInputStream(InputStream yamlStream) {
+    return pool.apply(load -> load.loadFromInputStream(yamlStream));
+  }
+
+  /**
+   * Parse the only YAML document in a file and produce the corresponding Java object.
+   *
+   * @param yamlPath - file to load from (BOM is respected to detect encoding and removed from the
+   *        data)
+   * @return parsed Java instance
+   */
+  public Object loadFromPath(Path yamlPath) {
+    return pool.apply(load -> load.loadFromPath(yamlPath));
+  }
+
+  /**
+   * Parse a YAML document and create a Java instance
+   *
+   * @param yamlReader - data to load from (BOM must not be present)
+   * @return parsed Java instance
+   */
+  public Object loadFromReader(Reader yamlReader) {
+    return pool.apply(load -> load.loadFromReader(yamlReader));
+  }
+
+  /**
+   * Parse a YAML document and create a Java instance
+   *
+   * @param yaml - YAML data to load from (BOM must not be present)
+   * @return parsed Java instance
+   */
+  public Object loadFromString(String yaml) {
+    return pool.apply(load -> load.loadFromString(yaml));
+  }
+
+  private static List<Object> toList(Iterable<Object> documents) {
+    List<Object> list = new ArrayList<>();
+    documents.forEach(list::add);
+    return list;
+  }
+
+  /**
+   * Parse all YAML documents in a stream and produce corresponding Java objects.
+   *
+   * @param yamlStream - YAML data to load from (BOM is respected to detect encoding and removed
+   *        from the data)
+   * @return the parsed Java objects in this stream in proper sequence
+   */
+  public List<Object> loadAllFromInputStream(InputStream yamlStream) {
+    return pool.apply(load -> toList(load.loadAllFromInputStream(yamlStream)));
+  }
+
+  /**
+   * Parse all YAML documents in a stream and produce corresponding Java objects.
+   *
+   * @param yamlReader - YAML data to load from (BOM must not be present)
+   * @return the parsed Java objects in this stream in proper sequence
+   */
+  public List<Object> loadAllFromReader(Reader yamlReader) {
+    return pool.apply(load -> toList(load.loadAllFromReader(yamlReader)));
+  }
+
+  /**
+   * Parse all YAML documents in a String and produce corresponding Java objects.
+   *
+   * @param yaml - YAML data to load from (BOM must not be present)
+   * @return the parsed Java objects in this String in proper sequence
+   */
+  public List<Object> loadAllFromString(String yaml) {
+    return pool.apply(load -> toList(load.loadAllFromString(yaml)));
+  }
+}
@@ -40,4 +40,17 @@ public interface StreamDataWriter {
    * @param len - number of chars to write
    */
   void write(String str, int off, int len);
+
+  /**
+   * Write part of the chars. The default implementation creates the String. The name differs from
+   * {@link java.io.Writer#write(char[], int, int)} because that method throws IOException, the
+   * implementations which extend a Writer may delegate to it and handle the exception.
+   *
+   * @param cbuf - the chars to write (the source)
+   * @param off - offset to start from
+   * @param len - number of chars to write
+   */
+  default void writeChars(char[] cbuf, int off, int len) {
+    write(new String(cbuf, off, len));
+  }
 }
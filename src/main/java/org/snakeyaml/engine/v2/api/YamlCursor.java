@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import org.snakeyaml.engine.v2.composer.Composer;
+import org.snakeyaml.engine.v2.constructor.BaseConstructor;
+import org.snakeyaml.engine.v2.constructor.EventConstructor;
+import org.snakeyaml.engine.v2.events.Event;
+import org.snakeyaml.engine.v2.exceptions.ComposerException;
+import org.snakeyaml.engine.v2.nodes.NodeType;
+import org.snakeyaml.engine.v2.parser.Parser;
+
+/**
+ * Pull API to construct a big document part by part. The cursor enters the collections of the
+ * document (without constructing them) and it constructs their items one by one, so only one item
+ * is kept in memory at a time. For instance, for a document with a top-level sequence of records:
+ *
+ * <pre>
+ * YamlCursor cursor = new Load(settings).cursorFromReader(reader);
+ * cursor.enterSequence();
+ * while (cursor.hasNext()) {
+ *   Object record = cursor.next();
+ * }
+ * cursor.exit();
+ * </pre>
+ * <p>
+ * At the top level the items are the documents of the stream. In a mapping, the key is taken by
+ * nextKey() and then the value is taken by next(), skip() or it is entered. Every item is
+ * constructed as a separate document: the aliases to the nodes of the previous items get new
+ * instances and the anchor of an entered collection is not registered. This class is not
+ * thread-safe.
+ * </p>
+ */
+public class YamlCursor {
+
+  private final Composer composer;
+  private final Parser parser;
+  private final BaseConstructor constructor;
+  // null when the nodes are composed
+  private final EventConstructor eventConstructor;
+  // true for the entered mappings, false for the entered sequences
+  private final List<Boolean> levels = new ArrayList<>();
+  // the key of the current mapping is taken, the value is expected
+  private boolean atValue = false;
+
+  /**
+   * Create
+   *
+   * @param composer - the source of the events and of the nodes
+   * @param constructor - the constructor for the items
+   * @param eventConstructor - the constructor to create the items directly from the events or null
+   */
+  YamlCursor(Composer composer, BaseConstructor constructor, EventConstructor eventConstructor) {
+    this.composer = composer;
+    this.parser = composer.getParser();
+    this.constructor = constructor;
+    this.eventConstructor = eventConstructor;
+  }
+
+  /**
+   * @return the number of the entered collections (0 at the top level)
+   */
+  public int getDepth() {
+    return levels.size();
+  }
+
+  /**
+   * @return true if the current collection is a mapping
+   */
+  public boolean isInMapping() {
+    return !levels.isEmpty() && levels.get(levels.size() - 1);
+  }
+
+  /**
+   * Check if the current collection (or the stream at the top level) has more items. In a mapping,
+   * it checks the next key.
+   *
+   * @return true if there is the next item
+   */
+  public boolean hasNext() {
+    if (levels.isEmpty()) {
+      return composer.hasNext();
+    }
+    if (atValue) {
+      return true;
+    }
+    return !parser.checkEvent(isInMapping() ? Event.ID.MappingEnd : Event.ID.SequenceEnd);
+  }
+
+  /**
+   * Get the type of the next item without taking it
+   *
+   * @return SCALAR, SEQUENCE, MAPPING or ANCHOR (for an alias)
+   */
+  public NodeType peekNodeType() {
+    checkNext();
+    if (levels.isEmpty()) {
+      throw new IllegalStateException(
+          "The type of the document is not known before it is entered.");
+    }
+    switch (parser.peekEvent().getEventId()) {
+      case Scalar:
+        return NodeType.SCALAR;
+      case SequenceStart:
+        return NodeType.SEQUENCE;
+      case MappingStart:
+        return NodeType.MAPPING;
+      default:
+        return NodeType.ANCHOR;
+    }
+  }
+
+  /**
+   * Construct the next key of the current mapping
+   *
+   * @return the constructed key
+   */
+  public Object nextKey() {
+    if (!isInMapping() || atValue) {
+      throw new IllegalStateException("The key is expected only in a mapping before the value.");
+    }
+    checkNext();
+    Object key = construct();
+    atValue = true;
+    return key;
+  }
+
+  /**
+   * Construct the next item: the next document at the top level, the next item of the sequence or
+   * the value for the key (taken by nextKey()) of the mapping
+   *
+   * @return the constructed instance
+   */
+  public Object next() {
+    checkNext();
+    if (levels.isEmpty()) {
+      if (eventConstructor != null) {
+        return eventConstructor.constructDocument(composer);
+      }
+      return constructor.constructSingleDocument(Optional.of(composer.next()));
+    }
+    checkValue();
+    Object data = construct();
+    atValue = false;
+    return data;
+  }
+
+  /**
+   * Skip the next item (the next document, the next item of the sequence or the value of the
+   * mapping). The documents are composed (to register their anchors) but the items of the
+   * collections are only parsed: neither the nodes nor (for the most collections) the scalar values
+   * are created. The anchors of the skipped items are not registered, the aliases to them fail.
+   */
+  public void skip() {
+    checkNext();
+    if (levels.isEmpty()) {
+      composer.next();
+      return;
+    }
+    checkValue();
+    parser.skipNode();
+    atValue = false;
+  }
+
+  /**
+   * Enter the next item which must be a sequence. Its items are taken by next()
+   */
+  public void enterSequence() {
+    enter(Event.ID.SequenceStart, false);
+  }
+
+  /**
+   * Enter the next item which must be a mapping. Its entries are taken by nextKey() and next()
+   */
+  public void enterMapping() {
+    enter(Event.ID.MappingStart, true);
+  }
+
+  /**
+   * Skip the remaining items of the current collection and leave it. When the top-level collection
+   * of the document is left, the document is finished.
+   */
+  public void exit() {
+    if (levels.isEmpty()) {
+      throw new IllegalStateException("No collection is entered.");
+    }
+    while (hasNext()) {
+      if (isInMapping() && !atValue) {
+        parser.skipNode();
+        atValue = true;
+      }
+      skip();
+    }
+    // Drop the SEQUENCE-END or MAPPING-END event.
+    parser.next();
+    levels.remove(levels.size() - 1);
+    if (levels.isEmpty()) {
+      composer.finishDocument();
+    }
+  }
+
+  private void enter(Event.ID startEvent, boolean mapping) {
+    checkNext();
+    if (levels.isEmpty()) {
+      // Drop the DOCUMENT-START event.
+      parser.next();
+    } else {
+      checkValue();
+    }
+    if (!parser.checkEvent(startEvent)) {
+      Event event = parser.peekEvent();
+      throw new ComposerException("expected " + (mapping ? "a mapping" : "a sequence"),
+          Optional.empty(), "but found " + event.getEventId(), event.getStartMark());
+    }
+    parser.next();
+    atValue = false;
+    levels.add(mapping);
+  }
+
+  private Object construct() {
+    if (eventConstructor != null) {
+      return eventConstructor.constructNode(composer);
+    }
+    return constructor.constructSingleDocument(Optional.of(composer.composeNextNode()));
+  }
+
+  private void checkNext() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more items in the current collection.");
+    }
+  }
+
+  private void checkValue() {
+    if (isInMapping() && !atValue) {
+      throw new IllegalStateException("The key must be taken by nextKey() before the value.");
+    }
+  }
+}
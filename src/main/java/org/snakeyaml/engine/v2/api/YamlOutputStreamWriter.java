@@ -63,6 +63,15 @@ public class YamlOutputStreamWriter extends OutputStreamWriter implements Stream
     }
   }
 
+  @Override
+  public void writeChars(char[] cbuf, int off, int len) {
+    try {
+      super.write(cbuf, off, len);
+    } catch (IOException e) {
+      processIOException(e);
+    }
+  }
+
   @Override
   public void write(String str) {
     try {
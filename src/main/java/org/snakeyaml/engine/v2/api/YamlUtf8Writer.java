@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Implementation of StreamDataWriter which encodes the chars to UTF-8 itself, without a
+ * CharsetEncoder. The ASCII chars are copied in a tight loop. The bytes are collected in a growable
+ * array (see toByteArray()), or they are passed to an OutputStream or to a ByteBuffer when the
+ * internal buffer is full and when the writer is flushed (the Emitter flushes after every
+ * document). An unpaired surrogate is written as '?' (as OutputStreamWriter does). The IOExceptions
+ * are wrapped into {@link UncheckedIOException}s (see processIOException()).
+ */
+public class YamlUtf8Writer implements StreamDataWriter {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final OutputStream out;
+  private final ByteBuffer target;
+  private byte[] buffer;
+  private int count = 0;
+  // the high surrogate at the end of the previous write
+  private char highSurrogate = 0;
+
+  /**
+   * Create the writer which collects the bytes in memory
+   */
+  public YamlUtf8Writer() {
+    this(null, null, 256);
+  }
+
+  /**
+   * Create the writer which passes the bytes to the output
+   *
+   * @param out - the output
+   */
+  public YamlUtf8Writer(OutputStream out) {
+    this(Objects.requireNonNull(out, "OutputStream cannot be null"), null, BUFFER_SIZE);
+  }
+
+  /**
+   * Create the writer which puts the bytes into the buffer. BufferOverflowException is thrown when
+   * the buffer has no room for the data.
+   *
+   * @param target - the buffer to write to
+   */
+  public YamlUtf8Writer(ByteBuffer target) {
+    this(null, Objects.requireNonNull(target, "ByteBuffer cannot be null"), BUFFER_SIZE);
+  }
+
+  private YamlUtf8Writer(OutputStream out, ByteBuffer target, int size) {
+    this.out = out;
+    this.target = target;
+    this.buffer = new byte[size];
+  }
+
+  /**
+   * Wrap the given {@code IOException} into an {@link UncheckedIOException}.
+   *
+   * @param e - the reason
+   */
+  public void processIOException(IOException e) {
+    throw new UncheckedIOException(e);
+  }
+
+  @Override
+  public void write(String str) {
+    write(str, 0, str.length());
+  }
+
+  @Override
+  public void write(String str, int off, int len) {
+    int i = off;
+    int end = off + len;
+    if (highSurrogate != 0 && i < end) {
+      i += joinSurrogate(str.charAt(i));
+    }
+    while (i < end) {
+      // ASCII fast path
+      byte[] bytes = buffer;
+      int position = count;
+      int limit = Math.min(end, i + bytes.length - position);
+      char c;
+      while (i < limit && (c = str.charAt(i)) < 0x80) {
+        bytes[position++] = (byte) c;
+        i++;
+      }
+      count = position;
+      if (i < end) {
+        i += encode(str.charAt(i), i + 1 < end ? str.charAt(i + 1) : 0, i + 1 == end);
+      }
+    }
+  }
+
+  @Override
+  public void writeChars(char[] cbuf, int off, int len) {
+    int i = off;
+    int end = off + len;
+    if (highSurrogate != 0 && i < end) {
+      i += joinSurrogate(cbuf[i]);
+    }
+    while (i < end) {
+      // ASCII fast path
+      byte[] bytes = buffer;
+      int position = count;
+      int limit = Math.min(end, i + bytes.length - position);
+      char c;
+      while (i < limit && (c = cbuf[i]) < 0x80) {
+        bytes[position++] = (byte) c;
+        i++;
+      }
+      count = position;
+      if (i < end) {
+        i += encode(cbuf[i], i + 1 < end ? cbuf[i + 1] : 0, i + 1 == end);
+      }
+    }
+  }
+
+  /**
+   * Encode the char after the high surrogate of the previous write
+   *
+   * @return the number of the encoded chars
+   */
+  private int joinSurrogate(char low) {
+    ensureRoom(4);
+    char high = highSurrogate;
+    highSurrogate = 0;
+    if (Character.isLowSurrogate(low)) {
+      writeCodePoint(Character.toCodePoint(high, low));
+      return 1;
+    }
+    buffer[count++] = '?';
+    return 0;
+  }
+
+  /**
+   * Encode the char which is not ASCII or which does not fit into the buffer
+   *
+   * @param c - the char to encode
+   * @param next - the following char (or 0)
+   * @param last - true if the char is the last one of the data
+   * @return the number of the encoded chars (2 for the surrogate pair)
+   */
+  private int encode(char c, char next, boolean last) {
+    ensureRoom(4);
+    if (c < 0x80) {
+      buffer[count++] = (byte) c;
+    } else if (c < 0x800) {
+      buffer[count++] = (byte) (0xc0 | c >> 6);
+      buffer[count++] = (byte) (0x80 | c & 0x3f);
+    } else if (!Character.isSurrogate(c)) {
+      buffer[count++] = (byte) (0xe0 | c >> 12);
+      buffer[count++] = (byte) (0x80 | c >> 6 & 0x3f);
+      buffer[count++] = (byte) (0x80 | c & 0x3f);
+    } else if (Character.isHighSurrogate(c) && last) {
+      highSurrogate = c;
+    } else if (Character.isHighSurrogate(c) && Character.isLowSurrogate(next)) {
+      writeCodePoint(Character.toCodePoint(c, next));
+      return 2;
+    } else {
+      buffer[count++] = '?';
+    }
+    return 1;
+  }
+
+  private void writeCodePoint(int codePoint) {
+    buffer[count++] = (byte) (0xf0 | codePoint >> 18);
+    buffer[count++] = (byte) (0x80 | codePoint >> 12 & 0x3f);
+    buffer[count++] = (byte) (0x80 | codePoint >> 6 & 0x3f);
+    buffer[count++] = (byte) (0x80 | codePoint & 0x3f);
+  }
+
+  /**
+   * Make room for the bytes in the buffer: grow it or pass its content to the output
+   */
+  private void ensureRoom(int length) {
+    if (buffer.length - count >= length) {
+      return;
+    }
+    if (out == null && target == null) {
+      buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, count + length));
+    } else {
+      drain();
+    }
+  }
+
+  private void drain() {
+    if (target != null) {
+      target.put(buffer, 0, count);
+    } else {
+      try {
+        out.write(buffer, 0, count);
+      } catch (IOException e) {
+        processIOException(e);
+      }
+    }
+    count = 0;
+  }
+
+  /**
+   * Pass the buffered bytes to the OutputStream (and flush it) or to the ByteBuffer. The bytes
+   * collected in memory stay in the buffer. The high surrogate at the end of the data is written as
+   * '?'.
+   */
+  @Override
+  public void flush() {
+    if (highSurrogate != 0) {
+      ensureRoom(1);
+      buffer[count++] = '?';
+      highSurrogate = 0;
+    }
+    if (out == null && target == null) {
+      return;
+    }
+    drain();
+    if (out != null) {
+      try {
+        out.flush();
+      } catch (IOException e) {
+        processIOException(e);
+      }
+    }
+  }
+
+  /**
+   * @return the number of the bytes collected in memory
+   */
+  public int size() {
+    return count;
+  }
+
+  /**
+   * @return the copy of the bytes collected in memory
+   */
+  public byte[] toByteArray() {
+    return Arrays.copyOf(buffer, count);
+  }
+
+  /**
+   * Drop the bytes collected in memory to write the next data with the same buffer
+   */
+  public void reset() {
+    count = 0;
+    highSurrogate = 0;
+  }
+}
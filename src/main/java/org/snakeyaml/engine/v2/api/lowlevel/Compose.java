@@ -16,11 +16,11 @@ package org.snakeyaml.engine.v2.api.lowlevel;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
 import org.snakeyaml.engine.v2.api.LoadSettings;
-import org.snakeyaml.engine.v2.api.YamlUnicodeReader;
 import org.snakeyaml.engine.v2.composer.Composer;
 import org.snakeyaml.engine.v2.nodes.Node;
 import org.snakeyaml.engine.v2.parser.ParserImpl;
@@ -67,8 +67,21 @@ public class Compose {
    */
   public Optional<Node> composeInputStream(InputStream yaml) {
     Objects.requireNonNull(yaml, "InputStream cannot be null");
-    return new Composer(settings,
-        new ParserImpl(settings, new StreamReader(settings, new YamlUnicodeReader(yaml))))
+    return new Composer(settings, new ParserImpl(settings, new StreamReader(settings, yaml)))
+        .getSingleNode();
+  }
+
+  /**
+   * Parse a YAML file and produce {@link Node}. The file is memory-mapped.
+   *
+   * @param yaml - YAML file. Default encoding is UTF-8. The BOM must be present if the encoding is
+   *        UTF-16 or UTF-32
+   * @return parsed {@link Node} if available
+   * @see <a href="http://www.yaml.org/spec/1.2/spec.html#id2762107">Processing Overview</a>
+   */
+  public Optional<Node> composePath(Path yaml) {
+    Objects.requireNonNull(yaml, "Path cannot be null");
+    return new Composer(settings, new ParserImpl(settings, new StreamReader(settings, yaml)))
         .getSingleNode();
   }
 
@@ -110,8 +123,21 @@ public class Compose {
    */
   public Iterable<Node> composeAllFromInputStream(InputStream yaml) {
     Objects.requireNonNull(yaml, "InputStream cannot be null");
-    return () -> new Composer(settings,
-        new ParserImpl(settings, new StreamReader(settings, new YamlUnicodeReader(yaml))));
+    return () -> new Composer(settings, new ParserImpl(settings, new StreamReader(settings, yaml)));
+  }
+
+  /**
+   * Parse all YAML documents in a file and produce corresponding representation trees. The file is
+   * memory-mapped.
+   *
+   * @param yaml - YAML file. Default encoding is UTF-8. The BOM must be present if the encoding is
+   *        UTF-16 or UTF-32
+   * @return parsed root Nodes for all the specified YAML documents
+   * @see <a href="http://www.yaml.org/spec/1.2/spec.html#id2762107">Processing Overview</a>
+   */
+  public Iterable<Node> composeAllFromPath(Path yaml) {
+    Objects.requireNonNull(yaml, "Path cannot be null");
+    return () -> new Composer(settings, new ParserImpl(settings, new StreamReader(settings, yaml)));
   }
 
   /**
@@ -16,11 +16,12 @@ package org.snakeyaml.engine.v2.api.lowlevel;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.Objects;
 import org.snakeyaml.engine.v2.api.LoadSettings;
-import org.snakeyaml.engine.v2.api.YamlUnicodeReader;
 import org.snakeyaml.engine.v2.events.Event;
+import org.snakeyaml.engine.v2.parser.EventCursor;
 import org.snakeyaml.engine.v2.parser.ParserImpl;
 import org.snakeyaml.engine.v2.scanner.StreamReader;
 
@@ -51,7 +52,20 @@ public class Parse {
    */
   public Iterable<Event> parseInputStream(InputStream yaml) {
     Objects.requireNonNull(yaml, "InputStream cannot be null");
-    return () -> new ParserImpl(settings, new StreamReader(settings, new YamlUnicodeReader(yaml)));
+    return () -> new ParserImpl(settings, new StreamReader(settings, yaml));
+  }
+
+  /**
+   * Parse a YAML file and produce parsing events. The file is memory-mapped.
+   *
+   * @param yaml - YAML file. Default encoding is UTF-8. The BOM must be present if the encoding is
+   *        UTF-16 or UTF-32
+   * @return parsed events
+   * @see <a href="http://www.yaml.org/spec/1.2/spec.html#id2762107">Processing Overview</a>
+   */
+  public Iterable<Event> parsePath(Path yaml) {
+    Objects.requireNonNull(yaml, "Path cannot be null");
+    return () -> new ParserImpl(settings, new StreamReader(settings, yaml));
   }
 
   /**
@@ -83,5 +97,51 @@ public class Parse {
       }
     };
   }
+
+  /**
+   * Parse a YAML stream with the cursor which does not create the events.
+   *
+   * @param yaml - YAML document(s). Default encoding is UTF-8. The BOM must be present if the
+   *        encoding is UTF-16 or UTF-32
+   * @return the cursor over the events
+   */
+  public EventCursor cursorFromInputStream(InputStream yaml) {
+    Objects.requireNonNull(yaml, "InputStream cannot be null");
+    return new EventCursor(settings, new StreamReader(settings, yaml));
+  }
+
+  /**
+   * Parse a YAML file with the cursor which does not create the events. The file is memory-mapped.
+   *
+   * @param yaml - YAML file. Default encoding is UTF-8. The BOM must be present if the encoding is
+   *        UTF-16 or UTF-32
+   * @return the cursor over the events
+   */
+  public EventCursor cursorFromPath(Path yaml) {
+    Objects.requireNonNull(yaml, "Path cannot be null");
+    return new EventCursor(settings, new StreamReader(settings, yaml));
+  }
+
+  /**
+   * Parse a YAML stream with the cursor which does not create the events.
+   *
+   * @param yaml - YAML document(s). The BOM must not be present (it will be parsed as content)
+   * @return the cursor over the events
+   */
+  public EventCursor cursorFromReader(Reader yaml) {
+    Objects.requireNonNull(yaml, "Reader cannot be null");
+    return new EventCursor(settings, new StreamReader(settings, yaml));
+  }
+
+  /**
+   * Parse a YAML stream with the cursor which does not create the events.
+   *
+   * @param yaml - YAML document(s). The BOM must not be present (it will be parsed as content)
+   * @return the cursor over the events
+   */
+  public EventCursor cursorFromString(String yaml) {
+    Objects.requireNonNull(yaml, "String cannot be null");
+    return new EventCursor(settings, new StreamReader(settings, yaml));
+  }
 }
 
@@ -51,6 +51,13 @@ public class ArrayStack<T> {
     return stack.remove(stack.size() - 1);
   }
 
+  /**
+   * Remove all the elements (the capacity is kept)
+   */
+  public void clear() {
+    stack.clear();
+  }
+
   /**
    * Check
    *
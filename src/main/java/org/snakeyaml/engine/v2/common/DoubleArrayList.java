@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.common;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * List of Doubles which keeps the values in double[] (without boxing). It is created for the
+ * sequences of floats when LoadSettings.getUsePrimitiveLists() is set. The values are boxed only
+ * when they are taken as Objects.
+ */
+public final class DoubleArrayList extends AbstractList<Double> implements RandomAccess {
+
+  private double[] values;
+  private int size;
+
+  /**
+   * Create the List with the values
+   *
+   * @param values - the array to use (it is not copied)
+   * @param size - the number of the values in the array
+   */
+  public DoubleArrayList(double[] values, int size) {
+    if (size < 0 || size > values.length) {
+      throw new IllegalArgumentException("Invalid size: " + size);
+    }
+    this.values = values;
+    this.size = size;
+  }
+
+  /**
+   * Get the value without boxing
+   *
+   * @param index - the position
+   * @return the value at the position
+   */
+  public double getDouble(int index) {
+    checkIndex(index, size);
+    return values[index];
+  }
+
+  /**
+   * Copy the values
+   *
+   * @return new array with the values
+   */
+  public double[] toDoubleArray() {
+    return Arrays.copyOf(values, size);
+  }
+
+  @Override
+  public Double get(int index) {
+    return getDouble(index);
+  }
+
+  @Override
+  public Double set(int index, Double element) {
+    checkIndex(index, size);
+    double previous = values[index];
+    values[index] = element;
+    return previous;
+  }
+
+  @Override
+  public void add(int index, Double element) {
+    checkIndex(index, size + 1);
+    if (size == values.length) {
+      values = Arrays.copyOf(values, Math.max(8, size + (size >> 1)));
+    }
+    System.arraycopy(values, index, values, index + 1, size - index);
+    values[index] = element;
+    size++;
+    modCount++;
+  }
+
+  @Override
+  public Double remove(int index) {
+    checkIndex(index, size);
+    double previous = values[index];
+    System.arraycopy(values, index + 1, values, index, size - index - 1);
+    size--;
+    modCount++;
+    return previous;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  private static void checkIndex(int index, int size) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+  }
+}
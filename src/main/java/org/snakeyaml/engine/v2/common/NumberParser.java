@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.common;
+
+import java.math.BigInteger;
+
+/**
+ * Single pass parsers for the numbers. They do not throw exceptions and they do not create
+ * intermediate Strings. When the value is not supported they return null, and the caller falls back
+ * to the JDK (to get the same result or the same error).
+ */
+public final class NumberParser {
+
+  /**
+   * Powers of ten which are exactly represented as double
+   */
+  private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9,
+      1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+  /**
+   * The largest mantissa which is exactly represented as double
+   */
+  private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+  private NumberParser() {}
+
+  private static int digitValue(char c, int radix) {
+    int digit;
+    if (c >= '0' && c <= '9') {
+      digit = c - '0';
+    } else if (c >= 'a' && c <= 'f') {
+      digit = c - 'a' + 10;
+    } else if (c >= 'A' && c <= 'F') {
+      digit = c - 'A' + 10;
+    } else {
+      return -1;
+    }
+    return digit < radix ? digit : -1;
+  }
+
+  /**
+   * The number of digits of Integer.MAX_VALUE and Long.MAX_VALUE in the radix
+   */
+  private static int maxDigits(int radix, boolean isLong) {
+    switch (radix) {
+      case 8:
+        return isLong ? 21 : 11;
+      case 16:
+        return isLong ? 16 : 8;
+      default:
+        return isLong ? 19 : 10;
+    }
+  }
+
+  /**
+   * Parse the integer from the position to the end of the value. The value fits into Integer, Long
+   * or BigInteger (the first type which fits is taken). When byDigits is set, the type is chosen
+   * first by the number of digits (including the leading zeros) as it was done by the Core schema:
+   * the digits which do not fit into Integer.MAX_VALUE (or Long.MAX_VALUE) in the radix create Long
+   * (or BigInteger) even if the value is small.
+   *
+   * @param value - the source
+   * @param start - the position of the first digit (after the sign and the prefix)
+   * @param negative - true to negate the value
+   * @param radix - 8, 10 or 16
+   * @param byDigits - true to choose the type by the number of digits
+   * @return Integer, Long or BigInteger, null if there are no digits or other chars are found
+   */
+  public static Number parseInteger(String value, int start, boolean negative, int radix,
+      boolean byDigits) {
+    int length = value.length();
+    int count = length - start;
+    if (count <= 0) {
+      return null;
+    }
+    boolean tooManyDigits = byDigits && count > maxDigits(radix, true);
+    boolean overflow = false;
+    long result = 0;
+    for (int i = start; i < length; i++) {
+      int digit = digitValue(value.charAt(i), radix);
+      if (digit < 0) {
+        return null;
+      }
+      if (result > (Long.MAX_VALUE - digit) / radix) {
+        overflow = true;
+      }
+      result = result * radix + digit;
+    }
+    if (overflow || tooManyDigits) {
+      // the only case which needs the String
+      BigInteger big = new BigInteger(value.substring(start), radix);
+      if (negative) {
+        big = big.negate();
+      }
+      if (!tooManyDigits && big.bitLength() < 64) {
+        // Long.MIN_VALUE
+        return Long.valueOf(big.longValue());
+      }
+      return big;
+    }
+    if (negative) {
+      result = -result;
+    }
+    boolean intDigits = !byDigits || count <= maxDigits(radix, false);
+    if (intDigits && result >= Integer.MIN_VALUE && result <= Integer.MAX_VALUE) {
+      return Integer.valueOf((int) result);
+    }
+    return Long.valueOf(result);
+  }
+
+  /**
+   * Parse decimal floating point number: [-+]?[0-9]*(\.[0-9]*)?([eE][-+]?[0-9]+)? (there must be at
+   * least one digit in the mantissa). The result is exact when the significant digits of the
+   * mantissa fit into 53 bits and the exponent is within the powers of ten which are exact in
+   * double (the fast path of Clinger's algorithm). The other values are not parsed.
+   *
+   * @param value - the source
+   * @return the parsed value or null when the value is not supported by the fast path
+   */
+  public static Double parseDouble(String value) {
+    int length = value.length();
+    int i = 0;
+    boolean negative = false;
+    if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+      negative = value.charAt(0) == '-';
+      i++;
+    }
+    long mantissa = 0;
+    int significant = 0;
+    int exponent = 0;
+    int digits = 0;
+    boolean fraction = false;
+    for (; i < length; i++) {
+      char c = value.charAt(i);
+      if (c >= '0' && c <= '9') {
+        digits++;
+        if (mantissa != 0 || c != '0') {
+          if (++significant > 18) {
+            // may lose precision
+            return null;
+          }
+          mantissa = mantissa * 10 + (c - '0');
+        }
+        if (fraction) {
+          exponent--;
+        }
+      } else if (c == '.' && !fraction) {
+        fraction = true;
+      } else {
+        break;
+      }
+    }
+    if (digits == 0) {
+      return null;
+    }
+    if (i < length) {
+      char e = value.charAt(i++);
+      if (e != 'e' && e != 'E') {
+        return null;
+      }
+      boolean negativeExponent = false;
+      if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+        negativeExponent = value.charAt(i) == '-';
+        i++;
+      }
+      if (i == length || length - i > 4) {
+        // no digits or the exponent is too big for the fast path
+        return null;
+      }
+      int explicit = 0;
+      for (; i < length; i++) {
+        char c = value.charAt(i);
+        if (c < '0' || c > '9') {
+          return null;
+        }
+        explicit = explicit * 10 + (c - '0');
+      }
+      exponent += negativeExponent ? -explicit : explicit;
+    }
+    double result;
+    if (mantissa == 0) {
+      result = 0.0;
+    } else if (mantissa > MAX_EXACT_MANTISSA || exponent < -22 || exponent > 22) {
+      return null;
+    } else if (exponent < 0) {
+      result = mantissa / POWERS_OF_TEN[-exponent];
+    } else {
+      result = mantissa * POWERS_OF_TEN[exponent];
+    }
+    return negative ? -result : result;
+  }
+}
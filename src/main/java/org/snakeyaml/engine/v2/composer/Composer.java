@@ -61,13 +61,13 @@ public class Composer implements Iterator<Node> {
   /**
    * Event parser
    */
-  protected final Parser parser;
+  protected Parser parser;
   private final ScalarResolver scalarResolver;
   private final Map<Anchor, Node> anchors;
   private final Set<Node> recursiveNodes;
   private final LoadSettings settings;
-  private final CommentEventsCollector blockCommentsCollector;
-  private final CommentEventsCollector inlineCommentsCollector;
+  private CommentEventsCollector blockCommentsCollector;
+  private CommentEventsCollector inlineCommentsCollector;
   private int nonScalarAliasesCount = 0;
   private final MergeUtils mergeUtils;
 
@@ -93,6 +93,30 @@ public class Composer implements Iterator<Node> {
     };
   }
 
+  /**
+   * Point the composer to the new input. The maps of the anchors are reused.
+   *
+   * @param parser - the source of the events
+   */
+  public void reset(Parser parser) {
+    if (parser != this.parser) {
+      this.parser = parser;
+      this.blockCommentsCollector =
+          new CommentEventsCollector(parser, CommentType.BLANK_LINE, CommentType.BLOCK);
+      this.inlineCommentsCollector = new CommentEventsCollector(parser, CommentType.IN_LINE);
+    } else {
+      if (!blockCommentsCollector.isEmpty()) {
+        blockCommentsCollector.consume();
+      }
+      if (!inlineCommentsCollector.isEmpty()) {
+        inlineCommentsCollector.consume();
+      }
+    }
+    anchors.clear();
+    recursiveNodes.clear();
+    nonScalarAliasesCount = 0;
+  }
+
   /**
    * Checks if further documents are available.
    *
@@ -175,11 +199,38 @@ public class Composer implements Iterator<Node> {
     if (!blockCommentsCollector.isEmpty()) {
       node.setEndComments(blockCommentsCollector.consume());
     }
+    finishDocument();
+    return node;
+  }
+
+  /**
+   * Get the source of the events. It is used to construct the instances directly from the events
+   * (when only some nodes of the document are composed).
+   *
+   * @return the parser
+   */
+  public Parser getParser() {
+    return parser;
+  }
+
+  /**
+   * Compose the node which starts with the next event of the document. The anchors are registered
+   * for the following aliases, and the alias event gives the anchored node.
+   *
+   * @return the composed node
+   */
+  public Node composeNextNode() {
+    return composeNode(Optional.empty());
+  }
+
+  /**
+   * Drop the DOCUMENT-END event and forget the anchors of the document
+   */
+  public void finishDocument() {
     parser.next();
     this.anchors.clear();
     this.recursiveNodes.clear();
     this.nonScalarAliasesCount = 0;
-    return node;
   }
 
 
@@ -241,14 +292,25 @@ public class Composer implements Iterator<Node> {
     Optional<String> tag = ev.getTag();
     boolean resolved = false;
     Tag nodeTag;
+    Number parsedNumber = null;
     if (tag.isEmpty() || tag.get().equals("!")) {
-      nodeTag = scalarResolver.resolve(ev.getValue(), ev.getImplicit().canOmitTagInPlainScalar());
+      boolean implicit = ev.getImplicit().canOmitTagInPlainScalar();
+      if (implicit) {
+        // parse the number together with the resolution
+        parsedNumber = scalarResolver.resolveNumber(ev.getValue());
+      }
+      if (parsedNumber == null) {
+        nodeTag = scalarResolver.resolve(ev.getValue(), implicit);
+      } else {
+        nodeTag = parsedNumber instanceof Double ? Tag.FLOAT : Tag.INT;
+      }
       resolved = true;
     } else {
       nodeTag = new Tag(tag.get());
     }
-    Node node = new ScalarNode(nodeTag, resolved, ev.getValue(), ev.getScalarStyle(),
+    ScalarNode node = new ScalarNode(nodeTag, resolved, ev.getValue(), ev.getScalarStyle(),
         ev.getStartMark(), ev.getEndMark());
+    node.setParsedNumber(parsedNumber);
     anchor.ifPresent(a -> registerAnchor(a, node));
     node.setBlockComments(blockComments);
     node.setInLineComments(inlineCommentsCollector.collectEvents().consume());
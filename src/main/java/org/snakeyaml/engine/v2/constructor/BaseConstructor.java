@@ -13,6 +13,7 @@
  */
 package org.snakeyaml.engine.v2.constructor;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -22,13 +23,18 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import org.snakeyaml.engine.v2.api.ConstructNode;
 import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.common.DoubleArrayList;
+import org.snakeyaml.engine.v2.common.IntArrayList;
+import org.snakeyaml.engine.v2.common.LongArrayList;
 import org.snakeyaml.engine.v2.exceptions.ConstructorException;
 import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
 import org.snakeyaml.engine.v2.nodes.MappingNode;
 import org.snakeyaml.engine.v2.nodes.Node;
 import org.snakeyaml.engine.v2.nodes.NodeTuple;
+import org.snakeyaml.engine.v2.nodes.NodeType;
 import org.snakeyaml.engine.v2.nodes.ScalarNode;
 import org.snakeyaml.engine.v2.nodes.SequenceNode;
 import org.snakeyaml.engine.v2.nodes.Tag;
@@ -88,8 +94,18 @@ public abstract class BaseConstructor {
    * @return Java instance
    */
   protected Object construct(Node node) {
+    return constructDocument(() -> constructObject(node));
+  }
+
+  /**
+   * Construct complete YAML document with the provided function and clean all the state
+   *
+   * @param root - the function to construct the root instance
+   * @return Java instance
+   */
+  Object constructDocument(Supplier<Object> root) {
     try {
-      Object data = constructObject(node);
+      Object data = root.get();
       fillRecursive();
       return data;
     } catch (YamlEngineException e) {
@@ -238,11 +254,98 @@ public abstract class BaseConstructor {
    * @return filled List
    */
   protected List<Object> constructSequence(SequenceNode node) {
+    if (settings.getUsePrimitiveLists()) {
+      List<Object> primitive = constructPrimitiveList(node);
+      if (primitive != null) {
+        return primitive;
+      }
+    }
     List<Object> result = settings.getDefaultList().apply(node.getValue().size());
     constructSequenceStep2(node, result);
     return result;
   }
 
+  /**
+   * Create the List backed by a primitive array when all the items are scalars with the int tag
+   * (constructed as Integer or Long) or with the float tag (constructed as Double)
+   *
+   * @param node - the source
+   * @return IntArrayList, LongArrayList, DoubleArrayList or null when the items are not such
+   *         numbers (the constructed items are kept, they are not constructed again)
+   */
+  protected List<Object> constructPrimitiveList(SequenceNode node) {
+    List<Node> children = node.getValue();
+    if (children.isEmpty()) {
+      return null;
+    }
+    Tag tag = children.get(0).getTag();
+    if (!Tag.INT.equals(tag) && !Tag.FLOAT.equals(tag)) {
+      return null;
+    }
+    for (Node child : children) {
+      if (child.getNodeType() != NodeType.SCALAR || !tag.equals(child.getTag())) {
+        return null;
+      }
+    }
+    return toPrimitiveList(new AbstractList<Object>() {
+      @Override
+      public Object get(int index) {
+        return constructObject(children.get(index));
+      }
+
+      @Override
+      public int size() {
+        return children.size();
+      }
+    }, tag);
+  }
+
+  /**
+   * Copy the values to the List backed by a primitive array
+   *
+   * @param items - the values (they are taken once in order)
+   * @param tag - INT or FLOAT
+   * @return IntArrayList, LongArrayList, DoubleArrayList or null when the values are not such
+   *         numbers
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  static List<Object> toPrimitiveList(List<Object> items, Tag tag) {
+    int size = items.size();
+    if (Tag.FLOAT.equals(tag)) {
+      double[] values = new double[size];
+      for (int i = 0; i < size; i++) {
+        Object value = items.get(i);
+        if (!(value instanceof Double)) {
+          return null;
+        }
+        values[i] = (Double) value;
+      }
+      return (List) new DoubleArrayList(values, size);
+    }
+    int[] ints = new int[size];
+    // created for the first Long
+    long[] longs = null;
+    for (int i = 0; i < size; i++) {
+      Object value = items.get(i);
+      if (value instanceof Integer && longs == null) {
+        ints[i] = (Integer) value;
+      } else if (value instanceof Integer || value instanceof Long) {
+        if (longs == null) {
+          longs = new long[size];
+          for (int j = 0; j < i; j++) {
+            longs[j] = ints[j];
+          }
+          ints = null;
+        }
+        longs[i] = ((Number) value).longValue();
+      } else {
+        return null;
+      }
+    }
+    return longs == null ? (List) new IntArrayList(ints, size)
+        : (List) new LongArrayList(longs, size);
+  }
+
   /**
    * Fill the collection with the data from provided node
    *
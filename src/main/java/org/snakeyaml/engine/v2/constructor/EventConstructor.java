@@ -0,0 +1,476 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.constructor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.snakeyaml.engine.v2.api.ConstructNode;
+import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.composer.Composer;
+import org.snakeyaml.engine.v2.events.CollectionStartEvent;
+import org.snakeyaml.engine.v2.events.Event;
+import org.snakeyaml.engine.v2.events.NodeEvent;
+import org.snakeyaml.engine.v2.events.ScalarEvent;
+import org.snakeyaml.engine.v2.exceptions.ComposerException;
+import org.snakeyaml.engine.v2.exceptions.ConstructorException;
+import org.snakeyaml.engine.v2.exceptions.DuplicateKeyException;
+import org.snakeyaml.engine.v2.exceptions.Mark;
+import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
+import org.snakeyaml.engine.v2.nodes.MappingNode;
+import org.snakeyaml.engine.v2.nodes.Node;
+import org.snakeyaml.engine.v2.nodes.NodeTuple;
+import org.snakeyaml.engine.v2.nodes.NodeType;
+import org.snakeyaml.engine.v2.nodes.ScalarNode;
+import org.snakeyaml.engine.v2.nodes.SequenceNode;
+import org.snakeyaml.engine.v2.nodes.Tag;
+import org.snakeyaml.engine.v2.parser.Parser;
+import org.snakeyaml.engine.v2.resolver.ScalarResolver;
+
+/**
+ * Construct the Java instances directly from the parser events. The node graph of the document is
+ * not created: the scalars, Lists, Maps and Sets are constructed as soon as their events are
+ * parsed. Only the anchored nodes (they may be referenced by the aliases) and the collections with
+ * the tags which are not constructed by the standard List, Map or Set constructors are composed by
+ * the Composer and constructed by the StandardConstructor. The result is the same as the one of the
+ * StandardConstructor, but the document is walked once and it is not kept in memory as Nodes.
+ * <p>
+ * The merge keys are applied as by the Composer. The only difference is that the value of the
+ * duplicate key (when the duplicate keys are allowed) is constructed before it is replaced.
+ * </p>
+ */
+public class EventConstructor {
+
+  private final StandardConstructor constructor;
+  private final LoadSettings settings;
+  private final ScalarResolver scalarResolver;
+  // the buffers for the items of the collections which are constructed (one per nesting level)
+  private final List<List<Object>> buffers = new ArrayList<>();
+  private int depth = 0;
+  // the start mark of the root node of the last document
+  private Optional<Mark> documentMark = Optional.empty();
+
+  /**
+   * Create
+   *
+   * @param constructor - the constructor for the composed nodes and for the scalars
+   */
+  public EventConstructor(StandardConstructor constructor) {
+    this.constructor = constructor;
+    this.settings = constructor.settings;
+    this.scalarResolver = settings.getSchema().getScalarResolver();
+  }
+
+  /**
+   * Ensure that the stream contains a single document and construct it (the same way as
+   * Composer.getSingleNode() and BaseConstructor.constructSingleDocument())
+   *
+   * @param composer - the source of the events
+   * @return constructed instance
+   */
+  public Object constructSingleDocument(Composer composer) {
+    Parser parser = composer.getParser();
+    // Drop the STREAM-START event.
+    parser.next();
+    Object data;
+    if (parser.checkEvent(Event.ID.StreamEnd)) {
+      data = constructor.constructSingleDocument(Optional.empty());
+    } else {
+      data = constructDocument(composer);
+    }
+    // Ensure that the stream contains no more documents.
+    if (!parser.checkEvent(Event.ID.StreamEnd)) {
+      Event event = parser.next();
+      throw new ComposerException("expected a single document in the stream", documentMark,
+          "but found another document", event.getStartMark());
+    }
+    // Drop the STREAM-END event.
+    parser.next();
+    return data;
+  }
+
+  /**
+   * Construct the next document (the same way as Composer.next() and
+   * BaseConstructor.constructSingleDocument())
+   *
+   * @param composer - the source of the events
+   * @return constructed instance
+   */
+  public Object constructDocument(Composer composer) {
+    Parser parser = composer.getParser();
+    // Drop the DOCUMENT-START event.
+    parser.next();
+    documentMark = parser.peekEvent().getStartMark();
+    Object data = construct(composer);
+    composer.finishDocument();
+    return data;
+  }
+
+  /**
+   * Construct the node which starts with the next event as a complete document (it is used to
+   * construct the parts of a document one by one)
+   *
+   * @param composer - the source of the events
+   * @return constructed instance
+   */
+  public Object constructNode(Composer composer) {
+    return construct(composer);
+  }
+
+  /**
+   * Construct the next node as a document. The buffers of the failed construction are cleared,
+   * because this instance is kept by Load for the next documents.
+   */
+  private Object construct(Composer composer) {
+    try {
+      return constructor.constructDocument(() -> constructNext(composer));
+    } finally {
+      for (int i = 0; i < depth; i++) {
+        buffers.get(i).clear();
+      }
+      depth = 0;
+    }
+  }
+
+  /**
+   * Check whether the collection with the tag can be constructed directly
+   */
+  private boolean isStandard(Tag tag, Class<?> standard) {
+    ConstructNode construct = settings.getTagConstructors().get(tag);
+    if (construct == null) {
+      construct = constructor.tagConstructors.get(tag);
+    }
+    return construct != null && construct.getClass() == standard;
+  }
+
+  private static Tag collectionTag(CollectionStartEvent event, Tag defaultTag) {
+    Optional<String> tag = event.getTag();
+    if (tag.isEmpty() || tag.get().equals("!")) {
+      return defaultTag;
+    }
+    return new Tag(tag.get());
+  }
+
+  /**
+   * Create the node for the scalar event as the Composer does
+   */
+  private ScalarNode scalarNode(ScalarEvent ev) {
+    Optional<String> tag = ev.getTag();
+    boolean resolved = false;
+    Tag nodeTag;
+    Number parsedNumber = null;
+    if (tag.isEmpty() || tag.get().equals("!")) {
+      boolean implicit = ev.getImplicit().canOmitTagInPlainScalar();
+      if (implicit) {
+        parsedNumber = scalarResolver.resolveNumber(ev.getValue());
+      }
+      if (parsedNumber == null) {
+        nodeTag = scalarResolver.resolve(ev.getValue(), implicit);
+      } else {
+        nodeTag = parsedNumber instanceof Double ? Tag.FLOAT : Tag.INT;
+      }
+      resolved = true;
+    } else {
+      nodeTag = new Tag(tag.get());
+    }
+    ScalarNode node = new ScalarNode(nodeTag, resolved, ev.getValue(), ev.getScalarStyle(),
+        ev.getStartMark(), ev.getEndMark());
+    node.setParsedNumber(parsedNumber);
+    return node;
+  }
+
+  /**
+   * Construct the scalar which is not referenced (it is not kept in the constructed objects)
+   */
+  private Object constructScalar(ScalarNode node) {
+    ConstructNode construct = constructor.findConstructorFor(node)
+        .orElseThrow(() -> new ConstructorException(null, Optional.empty(),
+            "could not determine a constructor for the tag " + node.getTag(), node.getStartMark()));
+    return construct.construct(node);
+  }
+
+  /**
+   * Check if the next node must be composed (to be constructed by the StandardConstructor)
+   */
+  private boolean isComposed(Parser parser) {
+    Event event = parser.peekEvent();
+    switch (event.getEventId()) {
+      case Alias:
+        return true;
+      case Scalar:
+        return ((NodeEvent) event).getAnchor().isPresent();
+      case SequenceStart:
+        return ((NodeEvent) event).getAnchor().isPresent()
+            || !isStandard(collectionTag((CollectionStartEvent) event, Tag.SEQ),
+                StandardConstructor.ConstructYamlSeq.class);
+      default:
+        CollectionStartEvent start = (CollectionStartEvent) event;
+        if (start.getAnchor().isPresent()) {
+          return true;
+        }
+        Tag tag = collectionTag(start, Tag.MAP);
+        return !isStandard(tag, StandardConstructor.ConstructYamlMap.class)
+            && !isStandard(tag, StandardConstructor.ConstructYamlSet.class);
+    }
+  }
+
+  /**
+   * Construct the instance for the node which starts with the next event
+   */
+  private Object constructNext(Composer composer) {
+    Parser parser = composer.getParser();
+    if (isComposed(parser)) {
+      return constructor.constructObject(composer.composeNextNode());
+    }
+    if (parser.checkEvent(Event.ID.Scalar)) {
+      return constructScalar(scalarNode((ScalarEvent) nextNodeEvent(parser)));
+    }
+    CollectionStartEvent event = (CollectionStartEvent) parser.next();
+    if (event.getEventId() == Event.ID.SequenceStart) {
+      return constructSequence(composer);
+    }
+    return constructMapping(composer, event);
+  }
+
+  /**
+   * Take the last event of the node. The next event is parsed (as the Composer does when it
+   * collects the comments) to report the errors in the same order.
+   */
+  private static Event nextNodeEvent(Parser parser) {
+    Event event = parser.next();
+    parser.peekEvent();
+    return event;
+  }
+
+  /**
+   * Get the empty buffer for the items of the collection at the current level
+   */
+  private List<Object> pushBuffer() {
+    if (depth == buffers.size()) {
+      buffers.add(new ArrayList<>());
+    }
+    return buffers.get(depth++);
+  }
+
+  private void popBuffer(List<Object> buffer) {
+    buffer.clear();
+    depth--;
+  }
+
+  private List<Object> constructSequence(Composer composer) {
+    Parser parser = composer.getParser();
+    List<Object> items = pushBuffer();
+    // the tag of the items when all of them are scalars with the same tag
+    Tag itemTag = null;
+    boolean sameTag = true;
+    while (!parser.checkEvent(Event.ID.SequenceEnd)) {
+      Tag tag;
+      if (isComposed(parser)) {
+        Node node = composer.composeNextNode();
+        tag = node.getNodeType() == NodeType.SCALAR ? node.getTag() : null;
+        items.add(constructor.constructObject(node));
+      } else if (parser.checkEvent(Event.ID.Scalar)) {
+        ScalarNode node = scalarNode((ScalarEvent) nextNodeEvent(parser));
+        tag = node.getTag();
+        items.add(constructScalar(node));
+      } else {
+        tag = null;
+        items.add(constructNext(composer));
+      }
+      if (items.size() == 1) {
+        itemTag = tag;
+      } else if (tag == null || !tag.equals(itemTag)) {
+        sameTag = false;
+      }
+    }
+    // Drop the SEQUENCE-END event.
+    nextNodeEvent(parser);
+    List<Object> result = null;
+    if (settings.getUsePrimitiveLists() && sameTag && itemTag != null
+        && (Tag.INT.equals(itemTag) || Tag.FLOAT.equals(itemTag))) {
+      result = BaseConstructor.toPrimitiveList(items, itemTag);
+    }
+    if (result == null) {
+      result = settings.getDefaultList().apply(items.size());
+      result.addAll(items);
+    }
+    popBuffer(items);
+    return result;
+  }
+
+  /**
+   * Construct Map or Set. The buffer keeps 4 items for every entry: the key node (when the key is a
+   * scalar or it is composed), the mark of the key, the key and the value.
+   */
+  private Object constructMapping(Composer composer, CollectionStartEvent startEvent) {
+    Parser parser = composer.getParser();
+    Tag tag = collectionTag(startEvent, Tag.MAP);
+    boolean isSet = !isStandard(tag, StandardConstructor.ConstructYamlMap.class);
+    List<Object> entries = pushBuffer();
+    List<Node> merges = null;
+    while (!parser.checkEvent(Event.ID.MappingEnd)) {
+      Node keyNode;
+      Optional<Mark> keyMark;
+      Object key;
+      if (isComposed(parser)) {
+        keyNode = composer.composeNextNode();
+        checkKey(keyNode.getNodeType() == NodeType.SCALAR);
+        keyMark = keyNode.getStartMark();
+        key = Tag.MERGE.equals(keyNode.getTag()) ? null : constructor.constructObject(keyNode);
+      } else if (parser.checkEvent(Event.ID.Scalar)) {
+        ScalarNode scalar = scalarNode((ScalarEvent) nextNodeEvent(parser));
+        keyNode = scalar;
+        keyMark = scalar.getStartMark();
+        key = Tag.MERGE.equals(scalar.getTag()) ? null : constructScalar(scalar);
+      } else {
+        keyNode = null;
+        keyMark = parser.peekEvent().getStartMark();
+        key = constructNext(composer);
+        checkKey(false);
+      }
+      if (keyNode != null && Tag.MERGE.equals(keyNode.getTag())) {
+        if (merges == null) {
+          merges = new ArrayList<>(2);
+        }
+        merges.add(composer.composeNextNode());
+      } else {
+        entries.add(keyNode);
+        entries.add(keyMark);
+        entries.add(key);
+        // the values of the Set are composed (for the anchors) but they are not constructed
+        entries.add(isSet ? composer.composeNextNode() : constructNext(composer));
+      }
+    }
+    if (merges != null) {
+      merge(entries, merges, isSet);
+    }
+    // Drop the MAPPING-END event.
+    nextNodeEvent(parser);
+    Object result;
+    if (isSet) {
+      Set<Object> set = settings.getDefaultSet().apply(entries.size() / 4);
+      fill(startEvent.getStartMark(), entries, null, set);
+      result = set;
+    } else {
+      Map<Object, Object> mapping = settings.getDefaultMap().apply(entries.size() / 4);
+      fill(startEvent.getStartMark(), entries, mapping, null);
+      result = mapping;
+    }
+    popBuffer(entries);
+    return result;
+  }
+
+  private void checkKey(boolean scalar) {
+    if (!scalar && !settings.getAllowNonScalarKeys()) {
+      throw new YamlEngineException(
+          "Non scalar key is detected but it is not configured to be allowed.");
+    }
+  }
+
+  /**
+   * Add the entries of the merged mappings as MergeUtils does: the keys of the mapping and the keys
+   * of the previous merged mappings are not replaced.
+   */
+  private void merge(List<Object> entries, List<Node> merges, boolean isSet) {
+    Set<String> keys = new HashSet<>();
+    for (int i = 0; i < entries.size(); i += 4) {
+      if (entries.get(i) instanceof ScalarNode) {
+        keys.add(((ScalarNode) entries.get(i)).getValue());
+      }
+    }
+    for (Node merge : merges) {
+      List<Node> mergeables;
+      if (merge instanceof SequenceNode) {
+        mergeables = ((SequenceNode) merge).getValue();
+      } else {
+        mergeables = List.of(merge);
+      }
+      for (Node mergeable : mergeables) {
+        if (!(mergeable instanceof MappingNode)) {
+          throw new ComposerException("Expected mapping node or an anchor referencing mapping",
+              mergeable.getStartMark());
+        }
+        Set<String> added = new HashSet<>();
+        for (NodeTuple tuple : ((MappingNode) mergeable).getValue()) {
+          Node keyNode = tuple.getKeyNode();
+          if (keyNode instanceof ScalarNode) {
+            String value = ((ScalarNode) keyNode).getValue();
+            if (keys.contains(value)) {
+              continue;
+            }
+            added.add(value);
+          }
+          entries.add(keyNode);
+          entries.add(keyNode.getStartMark());
+          entries.add(constructor.constructObject(keyNode));
+          entries.add(
+              isSet ? tuple.getValueNode() : constructor.constructObject(tuple.getValueNode()));
+        }
+        keys.addAll(added);
+      }
+    }
+  }
+
+  /**
+   * Put the entries to the Map or to the Set as StandardConstructor does
+   */
+  private void fill(Optional<Mark> mappingMark, List<Object> entries, Map<Object, Object> mapping,
+      Set<Object> set) {
+    for (int i = 0; i < entries.size(); i += 4) {
+      Node keyNode = (Node) entries.get(i);
+      @SuppressWarnings("unchecked")
+      Optional<Mark> keyMark = (Optional<Mark>) entries.get(i + 1);
+      Object key = entries.get(i + 2);
+      if (key != null) {
+        try {
+          key.hashCode();// check circular dependencies
+        } catch (Exception e) {
+          throw new ConstructorException("while constructing a mapping", mappingMark,
+              "found unacceptable key " + key, keyMark, e);
+        }
+      }
+      boolean duplicate = mapping != null ? mapping.containsKey(key) : set.contains(key);
+      if (duplicate) {
+        if (!settings.getAllowDuplicateKeys()) {
+          throw new DuplicateKeyException(mappingMark, key, keyMark);
+        }
+        if (mapping != null) {
+          mapping.remove(key);
+        } else {
+          set.remove(key);
+        }
+      }
+      boolean recursive = keyNode != null && keyNode.isRecursive();
+      if (recursive && !settings.getAllowRecursiveKeys()) {
+        throw new YamlEngineException(
+            "Recursive key for mapping is detected but it is not configured to be allowed.");
+      }
+      if (mapping != null) {
+        Object value = entries.get(i + 3);
+        if (recursive) {
+          constructor.postponeMapFilling(mapping, key, value);
+        } else {
+          mapping.put(key, value);
+        }
+      } else if (recursive) {
+        constructor.postponeSetFilling(set, key);
+      } else {
+        set.add(key);
+      }
+    }
+  }
+}
@@ -26,4 +26,9 @@ public class ConstructYamlCoreFloat extends ConstructYamlJsonFloat {
     // to lower case to parse the special values in any case
     return ((ScalarNode) node).getValue().toLowerCase();
   }
+
+  @Override
+  protected boolean acceptParsedNumber() {
+    return getClass() == ConstructYamlCoreFloat.class;
+  }
 }
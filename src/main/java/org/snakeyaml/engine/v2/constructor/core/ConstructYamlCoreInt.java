@@ -14,9 +14,11 @@
 package org.snakeyaml.engine.v2.constructor.core;
 
 import java.math.BigInteger;
+import org.snakeyaml.engine.v2.common.NumberParser;
 import org.snakeyaml.engine.v2.constructor.ConstructScalar;
 import org.snakeyaml.engine.v2.exceptions.ConstructorException;
 import org.snakeyaml.engine.v2.nodes.Node;
+import org.snakeyaml.engine.v2.nodes.ScalarNode;
 
 /**
  * Create instances for numbers (Integer, Long, BigInteger)
@@ -51,6 +53,10 @@ public class ConstructYamlCoreInt extends ConstructScalar {
 
   @Override
   public Object construct(Node node) {
+    Number parsed = ((ScalarNode) node).getParsedNumber();
+    if (parsed != null && !(parsed instanceof Double) && acceptParsedNumber()) {
+      return parsed;
+    }
     String value = constructScalar(node);
     if (value.isEmpty()) {
       throw new ConstructorException("while constructing an int", node.getStartMark(),
@@ -59,7 +65,20 @@ public class ConstructYamlCoreInt extends ConstructScalar {
     return createIntNumber(value);
   }
 
+  /**
+   * The number parsed by the ScalarResolver can be used only when the parsing is not customized.
+   *
+   * @return true for this class, false for subclasses (unless they override it)
+   */
+  protected boolean acceptParsedNumber() {
+    return getClass() == ConstructYamlCoreInt.class;
+  }
+
   public Object createIntNumber(String value) {
+    Number parsed = parseIntNumber(value);
+    if (parsed != null) {
+      return parsed;
+    }
     int sign = +1;
     char first = value.charAt(0);
     if (first == '-') {
@@ -83,6 +102,29 @@ public class ConstructYamlCoreInt extends ConstructScalar {
     return createNumber(sign, value, base);
   }
 
+  /**
+   * Parse the value without creating the intermediate Strings
+   *
+   * @param value - the source
+   * @return the same number as createNumber() or null if the value is invalid (to report the error)
+   */
+  private static Number parseIntNumber(String value) {
+    int start = 0;
+    char first = value.charAt(0);
+    if (first == '-' || first == '+') {
+      start++;
+    }
+    int radix = 10;
+    if (value.startsWith("0x", start)) {
+      radix = 16;
+      start += 2;
+    } else if (value.startsWith("0o", start)) {
+      radix = 8;
+      start += 2;
+    }
+    return NumberParser.parseInteger(value, start, first == '-', radix, true);
+  }
+
   private Number createNumber(int sign, String number, int radix) {
     final int len = number != null ? number.length() : 0;
     if (sign < 0) {
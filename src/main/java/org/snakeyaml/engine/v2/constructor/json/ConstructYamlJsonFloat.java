@@ -13,8 +13,10 @@
  */
 package org.snakeyaml.engine.v2.constructor.json;
 
+import org.snakeyaml.engine.v2.common.NumberParser;
 import org.snakeyaml.engine.v2.constructor.ConstructScalar;
 import org.snakeyaml.engine.v2.nodes.Node;
+import org.snakeyaml.engine.v2.nodes.ScalarNode;
 
 /**
  * Create Double instances for float
@@ -23,8 +25,12 @@ public class ConstructYamlJsonFloat extends ConstructScalar {
 
   @Override
   public Object construct(Node node) {
+    Number parsed = ((ScalarNode) node).getParsedNumber();
+    if (parsed instanceof Double && acceptParsedNumber()) {
+      return parsed;
+    }
     String value = constructScalar(node);
-    if (".inf".equals(value)) {
+    if (".inf".equals(value) || "+.inf".equals(value)) {
       return Double.POSITIVE_INFINITY;
     } else if ("-.inf".equals(value)) {
       return Double.NEGATIVE_INFINITY;
@@ -35,7 +41,20 @@ public class ConstructYamlJsonFloat extends ConstructScalar {
     }
   }
 
+  /**
+   * The number parsed by the ScalarResolver can be used only when the parsing is not customized.
+   *
+   * @return true for this class, false for subclasses (unless they override it)
+   */
+  protected boolean acceptParsedNumber() {
+    return getClass() == ConstructYamlJsonFloat.class;
+  }
+
   protected Object constructFromString(String value) {
+    Double parsed = NumberParser.parseDouble(value);
+    if (parsed != null) {
+      return parsed;
+    }
     int sign = +1;
     char first = value.charAt(0);
     if (first == '-') {
@@ -14,8 +14,10 @@
 package org.snakeyaml.engine.v2.constructor.json;
 
 import java.math.BigInteger;
+import org.snakeyaml.engine.v2.common.NumberParser;
 import org.snakeyaml.engine.v2.constructor.ConstructScalar;
 import org.snakeyaml.engine.v2.nodes.Node;
+import org.snakeyaml.engine.v2.nodes.ScalarNode;
 
 /**
  * Create instances for numbers (Integer, Long, BigInteger)
@@ -24,10 +26,23 @@ public class ConstructYamlJsonInt extends ConstructScalar {
 
   @Override
   public Object construct(Node node) {
+    Number parsed = ((ScalarNode) node).getParsedNumber();
+    if (parsed != null && !(parsed instanceof Double) && acceptParsedNumber()) {
+      return parsed;
+    }
     String value = constructScalar(node);
     return createIntNumber(value);
   }
 
+  /**
+   * The number parsed by the ScalarResolver can be used only when the parsing is not customized.
+   *
+   * @return true for this class, false for subclasses (unless they override it)
+   */
+  protected boolean acceptParsedNumber() {
+    return getClass() == ConstructYamlJsonInt.class;
+  }
+
   /**
    * Create number trying fist Integer, then Long, then BigInteger
    *
@@ -35,7 +50,13 @@ public class ConstructYamlJsonInt extends ConstructScalar {
    * @return number that fits the source
    */
   protected Number createIntNumber(String number) {
-    Number result;
+    int start = !number.isEmpty() && (number.charAt(0) == '-' || number.charAt(0) == '+') ? 1 : 0;
+    Number result =
+        NumberParser.parseInteger(number, start, start == 1 && number.charAt(0) == '-', 10, false);
+    if (result != null) {
+      return result;
+    }
+    // the JDK reports the error
     try {
       // first try integer
       result = Integer.valueOf(number);
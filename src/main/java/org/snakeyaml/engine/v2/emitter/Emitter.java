@@ -14,6 +14,7 @@
 package org.snakeyaml.engine.v2.emitter;
 
 import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -76,6 +77,28 @@ public final class Emitter implements Emitable {
 
   private static final String SPACE = " ";
 
+  private static final int BUFFER_SIZE = 8192;
+
+  // The ASCII chars which are the indicators in a scalar.
+  private static final byte[] INDICATORS = new byte[128];
+  // The indicator at the beginning of a scalar.
+  private static final byte LEADING_INDICATOR = 1;
+  // The flow indicator inside a scalar.
+  private static final byte FLOW_INDICATOR = 2;
+
+  static {
+    for (char c : "#,[]{}&*!|>'\"%@`".toCharArray()) {
+      INDICATORS[c] |= LEADING_INDICATOR;
+    }
+    for (char c : ",?[]{}".toCharArray()) {
+      INDICATORS[c] |= FLOW_INDICATOR;
+    }
+  }
+
+  // The analysis of the short scalars is cached, it is cleared when it becomes too big.
+  private static final int ANALYSIS_CACHE_SIZE = 1024;
+  private static final int CACHED_SCALAR_LENGTH = 64;
+
   static {
     ESCAPE_REPLACEMENTS.put('\0', "0");
     ESCAPE_REPLACEMENTS.put('\u0007', "a");
@@ -99,7 +122,10 @@ public final class Emitter implements Emitable {
     DEFAULT_TAG_PREFIXES.put(Tag.PREFIX, "!!");
   }
 
-  private final StreamDataWriter stream;
+  private StreamDataWriter stream;
+  // The output is collected here and it is written to the stream in big chunks.
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private int count = 0;
 
   // Emitter is a state machine with a stack of states to handle nested structures.
   private final ArrayStack<EmitterState> states;
@@ -155,6 +181,8 @@ public final class Emitter implements Emitable {
 
   // Scalar analysis and style.
   private ScalarAnalysis analysis;
+  // The analysis depends only on the scalar and on the settings, the cache is kept after reset().
+  private final Map<String, ScalarAnalysis> analysisCache = new HashMap<>();
   private ScalarStyle scalarStyle;
 
   // Comment processing
@@ -234,6 +262,50 @@ public final class Emitter implements Emitable {
     this.inlineCommentsCollector = new CommentEventsCollector(events, CommentType.IN_LINE);
   }
 
+  /**
+   * Point the emitter to the new output. The stacks, the queue and the map of the tag prefixes are
+   * reused.
+   *
+   * @param stream - output stream
+   */
+  public void reset(StreamDataWriter stream) {
+    this.stream = stream;
+    this.count = 0;
+    this.states.clear();
+    this.state = new ExpectStreamStart();
+    this.events.clear();
+    this.event = null;
+    this.indents.clear();
+    this.indent = null;
+    this.flowLevel = 0;
+    this.rootContext = false;
+    this.mappingContext = false;
+    this.simpleKeyContext = false;
+    this.column = 0;
+    this.whitespace = true;
+    this.indention = true;
+    this.openEnded = false;
+    this.tagPrefixes.clear();
+    this.preparedAnchor = Optional.empty();
+    this.preparedTag = null;
+    this.analysis = null;
+    this.scalarStyle = null;
+    if (!blockCommentsCollector.isEmpty()) {
+      blockCommentsCollector.consume();
+    }
+    if (!inlineCommentsCollector.isEmpty()) {
+      inlineCommentsCollector.consume();
+    }
+  }
+
+  /**
+   * Drop the output and the state of the finished emission. The instance is kept without them until
+   * it is reset to the next output.
+   */
+  public void release() {
+    reset(null);
+  }
+
   public void emit(Event event) {
     this.events.add(event);
     while (!needMoreEvents()) {
@@ -241,6 +313,8 @@ public final class Emitter implements Emitable {
       this.state.expect();
       this.event = null;
     }
+    // the output of the emitted events is in the stream
+    drain();
   }
 
   // In some cases, we wait for a few next events before emitting.
@@ -1116,6 +1190,21 @@ public final class Emitter implements Emitable {
 
 
   private ScalarAnalysis analyzeScalar(String scalar) {
+    if (scalar.length() > CACHED_SCALAR_LENGTH) {
+      return analyzeScalarText(scalar);
+    }
+    ScalarAnalysis cached = analysisCache.get(scalar);
+    if (cached == null) {
+      if (analysisCache.size() == ANALYSIS_CACHE_SIZE) {
+        analysisCache.clear();
+      }
+      cached = analyzeScalarText(scalar);
+      analysisCache.put(scalar, cached);
+    }
+    return cached;
+  }
+
+  private ScalarAnalysis analyzeScalarText(String scalar) {
     // Empty scalar is a special case.
     if (scalar.isEmpty()) {
       return new ScalarAnalysis(scalar, true, false, false, true, true, false);
@@ -1153,10 +1242,11 @@ public final class Emitter implements Emitable {
 
     while (index < scalar.length()) {
       int c = scalar.codePointAt(index);
+      int indicators = c < INDICATORS.length ? INDICATORS[c] : 0;
       // Check for indicators.
       if (index == 0) {
         // Leading indicators are special characters.
-        if ("#,[]{}&*!|>'\"%@`".indexOf(c) != -1) {
+        if ((indicators & LEADING_INDICATOR) != 0) {
           flowIndicators = true;
           blockIndicators = true;
         }
@@ -1172,7 +1262,7 @@ public final class Emitter implements Emitable {
         }
       } else {
         // Some indicators cannot appear within a scalar as well.
-        if (",?[]{}".indexOf(c) != -1) {
+        if ((indicators & FLOW_INDICATOR) != 0) {
           flowIndicators = true;
         }
         if (c == ':') {
@@ -1237,10 +1327,12 @@ public final class Emitter implements Emitable {
       preceededByWhitespace = CharConstants.NULL_BL_T.has(c) || isLineBreak;
       followedByWhitespace = true;
       if (index + 1 < scalar.length()) {
-        int nextIndex = index + Character.charCount(scalar.codePointAt(index));
+        // only the ASCII chars are checked, the surrogate pair is not ASCII
+        int nextIndex = index + (Character.isHighSurrogate(scalar.charAt(index))
+            && Character.isLowSurrogate(scalar.charAt(index + 1)) ? 2 : 1);
         if (nextIndex < scalar.length()) {
           followedByWhitespace =
-              (CharConstants.NULL_BL_T.has(scalar.codePointAt(nextIndex))) || isLineBreak;
+              (CharConstants.NULL_BL_T.has(scalar.charAt(nextIndex))) || isLineBreak;
         }
       }
     }
@@ -1288,9 +1380,33 @@ public final class Emitter implements Emitable {
   // Writers.
 
   void flushStream() {
+    drain();
     stream.flush();
   }
 
+  private void drain() {
+    if (count > 0) {
+      stream.writeChars(buffer, 0, count);
+      count = 0;
+    }
+  }
+
+  private void write(String str) {
+    write(str, 0, str.length());
+  }
+
+  private void write(String str, int off, int len) {
+    if (len > buffer.length - count) {
+      drain();
+      if (len >= buffer.length) {
+        stream.write(str, off, len);
+        return;
+      }
+    }
+    str.getChars(off, off + len, buffer, count);
+    count += len;
+  }
+
   void writeStreamStart() {
     // BOM is written by Writer.
   }
@@ -1303,13 +1419,13 @@ public final class Emitter implements Emitable {
       boolean indentation) {
     if (!this.whitespace && needWhitespace) {
       this.column++;
-      stream.write(SPACE);
+      write(SPACE);
     }
     this.whitespace = whitespace;
     this.indention = this.indention && indentation;
     this.column += indicator.length();
     openEnded = false;
-    stream.write(indicator);
+    write(indicator);
   }
 
   int writeIndent() {
@@ -1333,10 +1449,16 @@ public final class Emitter implements Emitable {
       return;
     }
     this.whitespace = true;
-    for (int i = 0; i < length; i++) {
-      stream.write(" ");
-    }
     this.column += length;
+    while (length > 0) {
+      if (count == buffer.length) {
+        drain();
+      }
+      int chunk = Math.min(length, buffer.length - count);
+      Arrays.fill(buffer, count, count + chunk, ' ');
+      count += chunk;
+      length -= chunk;
+    }
   }
 
   private void writeLineBreak(String data) {
@@ -1344,25 +1466,25 @@ public final class Emitter implements Emitable {
     this.indention = true;
     this.column = 0;
     if (data == null) {
-      stream.write(this.bestLineBreak);
+      write(this.bestLineBreak);
     } else {
-      stream.write(data);
+      write(data);
     }
   }
 
   void writeVersionDirective(String versionText) {
-    stream.write("%YAML ");
-    stream.write(versionText);
+    write("%YAML ");
+    write(versionText);
     writeLineBreak(null);
   }
 
   void writeTagDirective(String handleText, String prefixText) {
     // XXX: not sure 4 invocations better then StringBuilders created by str
     // + str
-    stream.write("%TAG ");
-    stream.write(handleText);
-    stream.write(SPACE);
-    stream.write(prefixText);
+    write("%TAG ");
+    write(handleText);
+    write(SPACE);
+    write(prefixText);
     writeLineBreak(null);
   }
 
@@ -1387,7 +1509,7 @@ public final class Emitter implements Emitable {
           } else {
             int len = end - start;
             this.column += len;
-            stream.write(text, start, len);
+            write(text, start, len);
           }
           start = end;
         }
@@ -1412,14 +1534,14 @@ public final class Emitter implements Emitable {
           if (start < end) {
             int len = end - start;
             this.column += len;
-            stream.write(text, start, len);
+            write(text, start, len);
             start = end;
           }
         }
       }
       if (ch == '\'') {
         this.column += 2;
-        stream.write("''");
+        write("''");
         start = end + 1;
       }
       if (ch != 0) {
@@ -1445,7 +1567,7 @@ public final class Emitter implements Emitable {
         if (start < end) {
           int len = end - start;
           this.column += len;
-          stream.write(text, start, len);
+          write(text, start, len);
           start = end;
         }
         if (ch != null) {
@@ -1487,7 +1609,7 @@ public final class Emitter implements Emitable {
           }
 
           this.column += data.length();
-          stream.write(data);
+          write(data);
           start = end + 1;
         }
       }
@@ -1503,14 +1625,14 @@ public final class Emitter implements Emitable {
           start = end;
         }
         this.column += data.length();
-        stream.write(data);
+        write(data);
         writeIndent();
         this.whitespace = false;
         this.indention = false;
         if (text.charAt(start) == ' ') {
           data = "\\";
           this.column += data.length();
-          stream.write(data);
+          write(data);
         }
       }
       end += 1;
@@ -1533,7 +1655,7 @@ public final class Emitter implements Emitable {
             writeWhitespace(indentColumns - prevColumns);
             writeIndicator("#", false, false, false);
           }
-          stream.write(commentLine.getValue());
+          write(commentLine.getValue());
           writeLineBreak(null);
           prevColumns = 0;
         } else {
@@ -1616,7 +1738,7 @@ public final class Emitter implements Emitable {
           } else {
             int len = end - start;
             this.column += len;
-            stream.write(text, start, len);
+            write(text, start, len);
           }
           start = end;
         }
@@ -1624,7 +1746,7 @@ public final class Emitter implements Emitable {
         if (CharConstants.LINEBR.has(ch, "\0 ")) {
           int len = end - start;
           this.column += len;
-          stream.write(text, start, len);
+          write(text, start, len);
           if (ch == 0) {
             writeLineBreak(null);
           }
@@ -1673,7 +1795,7 @@ public final class Emitter implements Emitable {
         }
       } else {
         if (ch == 0 || CharConstants.LINEBR.has(ch)) {
-          stream.write(text, start, end - start);
+          write(text, start, end - start);
           if (ch == 0) {
             writeLineBreak(null);
           }
@@ -1696,7 +1818,7 @@ public final class Emitter implements Emitable {
     }
     if (!this.whitespace) {
       this.column++;
-      stream.write(SPACE);
+      write(SPACE);
     }
     this.whitespace = false;
     this.indention = false;
@@ -1718,7 +1840,7 @@ public final class Emitter implements Emitable {
           } else {
             int len = end - start;
             this.column += len;
-            stream.write(text, start, len);
+            write(text, start, len);
           }
           start = end;
         }
@@ -1744,7 +1866,7 @@ public final class Emitter implements Emitable {
         if (CharConstants.LINEBR.has(ch, "\0 ")) {
           int len = end - start;
           this.column += len;
-          stream.write(text, start, len);
+          write(text, start, len);
           start = end;
         }
       }
@@ -19,6 +19,11 @@ package org.snakeyaml.engine.v2.events;
  */
 public class ImplicitTuple {
 
+  private static final ImplicitTuple BOTH = new ImplicitTuple(true, true);
+  private static final ImplicitTuple PLAIN = new ImplicitTuple(true, false);
+  private static final ImplicitTuple NON_PLAIN = new ImplicitTuple(false, true);
+  private static final ImplicitTuple NONE = new ImplicitTuple(false, false);
+
   private final boolean plain;
   private final boolean nonPlain;
 
@@ -27,6 +32,20 @@ public class ImplicitTuple {
     this.nonPlain = nonplain;
   }
 
+  /**
+   * Get the shared instance
+   *
+   * @param plain - true when tag may be omitted when the scalar is emitted in a plain style
+   * @param nonPlain - true when tag may be omitted when the scalar is emitted in a non-plain style
+   * @return the immutable tuple
+   */
+  public static ImplicitTuple of(boolean plain, boolean nonPlain) {
+    if (plain) {
+      return nonPlain ? BOTH : PLAIN;
+    }
+    return nonPlain ? NON_PLAIN : NONE;
+  }
+
   /**
    * @return true when tag may be omitted when the scalar is emitted in a plain style.
    */
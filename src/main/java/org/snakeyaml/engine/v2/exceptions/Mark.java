@@ -27,6 +27,10 @@ public final class Mark implements Serializable {
   private final int line;
   private final int column;
   private final int[] buffer;
+  /**
+   * The data when all the code points are below U+0100 (buffer is null then)
+   */
+  private final byte[] latin1Buffer;
   private final int pointer;
 
   /**
@@ -46,9 +50,61 @@ public final class Mark implements Serializable {
     this.line = line;
     this.column = column;
     this.buffer = buffer;
+    this.latin1Buffer = null;
     this.pointer = pointer;
   }
 
+  /**
+   * Creates {@link Mark} for the data where all the code points are below U+0100
+   *
+   * @param name - the name to be used as identifier
+   * @param index - the index from the beginning of the stream
+   * @param line - line of the mark from beginning of the stream
+   * @param column - column of the mark from beginning of the line
+   * @param latin1Buffer - the data (one byte per code point)
+   * @param pointer - the position of the mark from the beginning of the data
+   */
+  public Mark(String name, int index, int line, int column, byte[] latin1Buffer, int pointer) {
+    super();
+    this.name = name;
+    this.index = index;
+    this.line = line;
+    this.column = column;
+    this.buffer = null;
+    this.latin1Buffer = latin1Buffer;
+    this.pointer = pointer;
+  }
+
+  /**
+   * Creates {@link Mark} without the data. It keeps only the position, the snippet is empty.
+   *
+   * @param name - the name to be used as identifier
+   * @param index - the index from the beginning of the stream
+   * @param line - line of the mark from beginning of the stream
+   * @param column - column of the mark from beginning of the line
+   */
+  public Mark(String name, int index, int line, int column) {
+    super();
+    this.name = name;
+    this.index = index;
+    this.line = line;
+    this.column = column;
+    this.buffer = null;
+    this.latin1Buffer = null;
+    this.pointer = 0;
+  }
+
+  private Mark(Mark mark, int index, int line, int column) {
+    super();
+    this.name = mark.name;
+    this.index = index;
+    this.line = line;
+    this.column = column;
+    this.buffer = mark.buffer;
+    this.latin1Buffer = mark.latin1Buffer;
+    this.pointer = mark.pointer;
+  }
+
   /**
    * This constructor is only for test
    *
@@ -63,6 +119,19 @@ public final class Mark implements Serializable {
     this(name, index, line, column, toCodePoints(str), pointer);
   }
 
+  /**
+   * Create the same position in the stream when the data of this mark is only a part of the stream
+   *
+   * @param index - the index of the beginning of the part in the stream
+   * @param line - the line of the beginning of the part in the stream
+   * @param column - the column of the beginning of the part in its line
+   * @return the mark relative to the stream (the first line of the part is shifted by the column)
+   */
+  public Mark moveBy(int index, int line, int column) {
+    return new Mark(this, this.index + index, this.line + line,
+        this.line == 0 ? this.column + column : this.column);
+  }
+
   private static int[] toCodePoints(char[] str) {
     int[] codePoints = new int[Character.codePointCount(str, 0, str.length)];
     int i = 0;
@@ -80,6 +149,23 @@ public final class Mark implements Serializable {
     return CharConstants.NULL_OR_LINEBR.has(c);
   }
 
+  private int codePointAt(int i) {
+    return buffer != null ? buffer[i] : latin1Buffer[i] & 0xFF;
+  }
+
+  private int length() {
+    return buffer != null ? buffer.length : latin1Buffer.length;
+  }
+
+  /**
+   * Check whether the data is kept to create the snippet
+   *
+   * @return false when the Mark keeps only the position
+   */
+  public boolean hasSnippet() {
+    return buffer != null || latin1Buffer != null;
+  }
+
   /**
    * Create readable snippet
    *
@@ -88,10 +174,13 @@ public final class Mark implements Serializable {
    * @return readable piece of YAML where a problem detected
    */
   public String createSnippet(int indent, int maxLength) {
+    if (!hasSnippet()) {
+      return "";
+    }
     float half = maxLength / 2f - 1f;
     int start = pointer;
     String head = "";
-    while ((start > 0) && !isLineBreak(buffer[start - 1])) {
+    while ((start > 0) && !isLineBreak(codePointAt(start - 1))) {
       start -= 1;
       if (pointer - start > half) {
         head = " ... ";
@@ -101,7 +190,8 @@ public final class Mark implements Serializable {
     }
     String tail = "";
     int end = pointer;
-    while ((end < buffer.length) && !isLineBreak(buffer[end])) {
+    int length = length();
+    while ((end < length) && !isLineBreak(codePointAt(end))) {
       end += 1;
       if (end - pointer > half) {
         tail = " ... ";
@@ -116,7 +206,7 @@ public final class Mark implements Serializable {
     }
     result.append(head);
     for (int i = start; i < end; i++) {
-      result.appendCodePoint(buffer[i]);
+      result.appendCodePoint(codePointAt(i));
     }
     result.append(tail);
     result.append("\n");
@@ -138,8 +228,8 @@ public final class Mark implements Serializable {
 
   @Override
   public String toString() {
-    String snippet = createSnippet();
-    return " in " + name + ", line " + (line + 1) + ", column " + (column + 1) + ":\n" + snippet;
+    String position = " in " + name + ", line " + (line + 1) + ", column " + (column + 1);
+    return hasSnippet() ? position + ":\n" + createSnippet() : position;
   }
 
   /**
@@ -179,12 +269,21 @@ public final class Mark implements Serializable {
   }
 
   /**
-   * getter
+   * getter (the code points are copied when the data is kept as bytes)
    *
-   * @return data with the error
+   * @return data with the error (empty when the Mark keeps only the position)
    */
   public int[] getBuffer() {
-    return buffer;
+    if (buffer != null) {
+      return buffer;
+    } else if (latin1Buffer == null) {
+      return new int[0];
+    }
+    int[] codePoints = new int[latin1Buffer.length];
+    for (int i = 0; i < codePoints.length; i++) {
+      codePoints[i] = latin1Buffer[i] & 0xFF;
+    }
+    return codePoints;
   }
 
 
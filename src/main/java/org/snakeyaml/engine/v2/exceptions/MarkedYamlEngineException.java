@@ -22,9 +22,9 @@ import java.util.Optional;
 public class MarkedYamlEngineException extends YamlEngineException {
 
   private final String context;
-  private final Optional<Mark> contextMark;
+  private Optional<Mark> contextMark;
   private final String problem;
-  private final Optional<Mark> problemMark;
+  private Optional<Mark> problemMark;
 
   /**
    * Create
@@ -59,6 +59,18 @@ public class MarkedYamlEngineException extends YamlEngineException {
     this(context, contextMark, problem, problemMark, null);
   }
 
+  /**
+   * Move the marks when the problem was found in a part of the stream which was loaded separately
+   *
+   * @param index - the index of the beginning of the part in the stream
+   * @param line - the line of the beginning of the part in the stream
+   * @param column - the column of the beginning of the part in its line
+   */
+  public void moveMarks(int index, int line, int column) {
+    contextMark = contextMark.map(mark -> mark.moveBy(index, line, column));
+    problemMark = problemMark.map(mark -> mark.moveBy(index, line, column));
+  }
+
   /**
    * Getter
    *
@@ -16,6 +16,7 @@ package org.snakeyaml.engine.v2.nodes;
 import java.util.Objects;
 import java.util.Optional;
 import org.snakeyaml.engine.v2.common.ScalarStyle;
+import org.snakeyaml.engine.v2.events.ImplicitTuple;
 import org.snakeyaml.engine.v2.exceptions.Mark;
 
 /**
@@ -28,6 +29,14 @@ public class ScalarNode extends Node {
 
   private final ScalarStyle style;
   private final String value;
+  /**
+   * The number which is parsed when the tag is resolved (null if it is not parsed)
+   */
+  private Number parsedNumber;
+  /**
+   * The implicit flag which is known by the representer (null if it must be resolved)
+   */
+  private ImplicitTuple implicit;
 
   public ScalarNode(Tag tag, boolean resolved, String value, ScalarStyle style,
       Optional<Mark> startMark, Optional<Mark> endMark) {
@@ -69,6 +78,56 @@ public class ScalarNode extends Node {
     return value;
   }
 
+  /**
+   * The number which is parsed by the ScalarResolver together with the resolution of the tag. The
+   * constructor may use it instead of parsing the value again.
+   *
+   * @return parsed value or null when the value is not parsed
+   */
+  public Number getParsedNumber() {
+    return parsedNumber;
+  }
+
+  /**
+   * Keep the value which is parsed while the tag is resolved
+   *
+   * @param parsedNumber - Integer, Long or BigInteger for INT, Double for FLOAT
+   */
+  public void setParsedNumber(Number parsedNumber) {
+    this.parsedNumber = parsedNumber;
+  }
+
+  /**
+   * The new tag invalidates the implicit flag
+   *
+   * @param tag - the new tag
+   */
+  @Override
+  public void setTag(Tag tag) {
+    super.setTag(tag);
+    this.implicit = null;
+  }
+
+  /**
+   * The implicit flag which is known when the node is created. The serializer uses it instead of
+   * resolving the value.
+   *
+   * @return the implicit flag or null when it must be resolved
+   */
+  public ImplicitTuple getImplicit() {
+    return implicit;
+  }
+
+  /**
+   * Keep the implicit flag which is known by the representer. It must be the same as
+   * ScalarResolver.resolveImplicit() of the schema gives for the value and the tag.
+   *
+   * @param implicit - the implicit flag for the ScalarEvent
+   */
+  public void setImplicit(ImplicitTuple implicit) {
+    this.implicit = implicit;
+  }
+
   public String toString() {
     return "<" + this.getClass().getName() + " (tag=" + getTag() + ", value=" + getValue() + ")>";
   }
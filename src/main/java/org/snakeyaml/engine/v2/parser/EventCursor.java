@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.parser;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.comments.CommentType;
+import org.snakeyaml.engine.v2.common.Anchor;
+import org.snakeyaml.engine.v2.common.FlowStyle;
+import org.snakeyaml.engine.v2.common.ScalarStyle;
+import org.snakeyaml.engine.v2.common.SpecVersion;
+import org.snakeyaml.engine.v2.events.AliasEvent;
+import org.snakeyaml.engine.v2.events.CommentEvent;
+import org.snakeyaml.engine.v2.events.DocumentEndEvent;
+import org.snakeyaml.engine.v2.events.DocumentStartEvent;
+import org.snakeyaml.engine.v2.events.Event;
+import org.snakeyaml.engine.v2.events.ImplicitTuple;
+import org.snakeyaml.engine.v2.events.MappingEndEvent;
+import org.snakeyaml.engine.v2.events.MappingStartEvent;
+import org.snakeyaml.engine.v2.events.ScalarEvent;
+import org.snakeyaml.engine.v2.events.SequenceEndEvent;
+import org.snakeyaml.engine.v2.events.SequenceStartEvent;
+import org.snakeyaml.engine.v2.events.StreamEndEvent;
+import org.snakeyaml.engine.v2.events.StreamStartEvent;
+import org.snakeyaml.engine.v2.exceptions.Mark;
+import org.snakeyaml.engine.v2.scanner.ScannerImpl;
+import org.snakeyaml.engine.v2.scanner.StreamReader;
+
+/**
+ * Pull parser in the cursor style (like XMLStreamReader of StAX). The data of the current event is
+ * available from the accessors of the cursor, no event instance is created for it. The cursor is
+ * meant for the consumers which inspect every event only once (validation, conversion). The tokens
+ * of the scanner are still created, the cursor removes only the events. When the event must be
+ * kept, it is created by toEvent(). This class is not thread-safe.
+ *
+ * <pre>
+ * EventCursor cursor = new Parse(settings).cursorFromReader(reader);
+ * while (cursor.hasNext()) {
+ *   if (cursor.next() == Event.ID.Scalar) {
+ *     String value = cursor.getValue();
+ *   }
+ * }
+ * </pre>
+ */
+public class EventCursor {
+
+  private final ParserImpl parser;
+  // the parser may produce the next event before the current one is consumed
+  private Data current = new Data();
+  private Data next = new Data();
+
+  /**
+   * Create
+   *
+   * @param settings - configuration options
+   * @param reader - the input
+   */
+  public EventCursor(LoadSettings settings, StreamReader reader) {
+    this.parser = new ParserImpl(settings, new ScannerImpl(settings, reader), new Events());
+  }
+
+  /**
+   * Check if there are more events
+   *
+   * @return true if next() can be called
+   */
+  public boolean hasNext() {
+    return parser.hasNext();
+  }
+
+  /**
+   * Move to the next event
+   *
+   * @return the ID of the event
+   * @throws java.util.NoSuchElementException if there are no more events
+   */
+  public Event.ID next() {
+    parser.next();
+    Data data = current;
+    current = next;
+    next = data;
+    return current.eventId;
+  }
+
+  /**
+   * @return the ID of the current event or null before the first event
+   */
+  public Event.ID getEventId() {
+    return current.eventId;
+  }
+
+  /**
+   * @return the value of the scalar or of the comment, null for other events
+   */
+  public String getValue() {
+    return current.value;
+  }
+
+  /**
+   * @return the tag of the scalar or of the collection, null if it is not present
+   */
+  public String getTag() {
+    return current.tag.orElse(null);
+  }
+
+  /**
+   * @return the anchor of the node (or the anchor which the alias refers to), null if it is not
+   *         present
+   */
+  public String getAnchor() {
+    return current.anchor.isPresent() ? current.anchor.get().getValue() : null;
+  }
+
+  /**
+   * @return the style of the scalar, null for other events
+   */
+  public ScalarStyle getScalarStyle() {
+    return current.scalarStyle;
+  }
+
+  /**
+   * @return the implicit flags of the scalar, null for other events
+   */
+  public ImplicitTuple getImplicitTuple() {
+    return current.implicitTuple;
+  }
+
+  /**
+   * @return the flow style of the started collection, null for other events
+   */
+  public FlowStyle getFlowStyle() {
+    return current.flowStyle;
+  }
+
+  /**
+   * @return true if the tag of the started collection may be omitted
+   */
+  public boolean isImplicit() {
+    return current.implicit;
+  }
+
+  /**
+   * @return true if the document starts or ends with the explicit marker
+   */
+  public boolean isExplicit() {
+    return current.explicit;
+  }
+
+  /**
+   * @return the version of the document start, null if it is not present
+   */
+  public SpecVersion getSpecVersion() {
+    return current.specVersion.orElse(null);
+  }
+
+  /**
+   * @return the tag directives of the document start, empty for other events
+   */
+  public Map<String, String> getDocumentTags() {
+    return current.tags;
+  }
+
+  /**
+   * @return the type of the comment, null for other events
+   */
+  public CommentType getCommentType() {
+    return current.commentType;
+  }
+
+  /**
+   * @return the position of the beginning of the event (empty when the marks are not used)
+   */
+  public Optional<Mark> getStartMark() {
+    return current.startMark;
+  }
+
+  /**
+   * @return the position of the end of the event (empty when the marks are not used)
+   */
+  public Optional<Mark> getEndMark() {
+    return current.endMark;
+  }
+
+  /**
+   * @return the line of the beginning of the event (starts with 0) or -1 without marks
+   */
+  public int getLine() {
+    return current.startMark.isPresent() ? current.startMark.get().getLine() : -1;
+  }
+
+  /**
+   * @return the column of the beginning of the event (starts with 0) or -1 without marks
+   */
+  public int getColumn() {
+    return current.startMark.isPresent() ? current.startMark.get().getColumn() : -1;
+  }
+
+  /**
+   * Create the event with the data of the current event
+   *
+   * @return the new event which can be kept
+   */
+  public Event toEvent() {
+    Data data = current;
+    if (data.eventId == null) {
+      throw new IllegalStateException("No current event, next() must be called.");
+    }
+    switch (data.eventId) {
+      case StreamStart:
+        return new StreamStartEvent(data.startMark, data.endMark);
+      case StreamEnd:
+        return new StreamEndEvent(data.startMark, data.endMark);
+      case DocumentStart:
+        return new DocumentStartEvent(data.explicit, data.specVersion, data.tags, data.startMark,
+            data.endMark);
+      case DocumentEnd:
+        return new DocumentEndEvent(data.explicit, data.startMark, data.endMark);
+      case Alias:
+        return new AliasEvent(data.anchor, data.startMark, data.endMark);
+      case Scalar:
+        return new ScalarEvent(data.anchor, data.tag, data.implicitTuple, data.value,
+            data.scalarStyle, data.startMark, data.endMark);
+      case SequenceStart:
+        return new SequenceStartEvent(data.anchor, data.tag, data.implicit, data.flowStyle,
+            data.startMark, data.endMark);
+      case SequenceEnd:
+        return new SequenceEndEvent(data.startMark, data.endMark);
+      case MappingStart:
+        return new MappingStartEvent(data.anchor, data.tag, data.implicit, data.flowStyle,
+            data.startMark, data.endMark);
+      case MappingEnd:
+        return new MappingEndEvent(data.startMark, data.endMark);
+      default:
+        return new CommentEvent(data.commentType, data.value, data.startMark, data.endMark);
+    }
+  }
+
+  /**
+   * The data of one event
+   */
+  private static final class Data {
+
+    private Event.ID eventId;
+    private Optional<Anchor> anchor = Optional.empty();
+    private Optional<String> tag = Optional.empty();
+    private String value;
+    private ScalarStyle scalarStyle;
+    private ImplicitTuple implicitTuple;
+    private FlowStyle flowStyle;
+    private boolean implicit;
+    private boolean explicit;
+    private Optional<SpecVersion> specVersion = Optional.empty();
+    private Map<String, String> tags = Collections.emptyMap();
+    private CommentType commentType;
+    private Optional<Mark> startMark = Optional.empty();
+    private Optional<Mark> endMark = Optional.empty();
+
+    private Data set(Event.ID eventId, Optional<Mark> startMark, Optional<Mark> endMark) {
+      this.eventId = eventId;
+      this.startMark = startMark;
+      this.endMark = endMark;
+      anchor = Optional.empty();
+      tag = Optional.empty();
+      value = null;
+      scalarStyle = null;
+      implicitTuple = null;
+      flowStyle = null;
+      implicit = false;
+      explicit = false;
+      specVersion = Optional.empty();
+      tags = Collections.emptyMap();
+      commentType = null;
+      return this;
+    }
+  }
+
+  /**
+   * Keep the data of the produced event for the cursor
+   */
+  private final class Events extends EventFactory.Placeholders {
+
+    @Override
+    Event streamStart(Optional<Mark> startMark, Optional<Mark> endMark) {
+      next.set(Event.ID.StreamStart, startMark, endMark);
+      return super.streamStart(startMark, endMark);
+    }
+
+    @Override
+    Event streamEnd(Optional<Mark> startMark, Optional<Mark> endMark) {
+      next.set(Event.ID.StreamEnd, startMark, endMark);
+      return super.streamEnd(startMark, endMark);
+    }
+
+    @Override
+    Event documentStart(boolean explicit, Optional<SpecVersion> specVersion,
+        Map<String, String> tags, Optional<Mark> startMark, Optional<Mark> endMark) {
+      Data data = next.set(Event.ID.DocumentStart, startMark, endMark);
+      data.explicit = explicit;
+      data.specVersion = specVersion;
+      data.tags = tags;
+      return super.documentStart(explicit, specVersion, tags, startMark, endMark);
+    }
+
+    @Override
+    Event documentEnd(boolean explicit, Optional<Mark> startMark, Optional<Mark> endMark) {
+      next.set(Event.ID.DocumentEnd, startMark, endMark).explicit = explicit;
+      return super.documentEnd(explicit, startMark, endMark);
+    }
+
+    @Override
+    Event alias(Optional<Anchor> anchor, Optional<Mark> startMark, Optional<Mark> endMark) {
+      next.set(Event.ID.Alias, startMark, endMark).anchor = anchor;
+      return super.alias(anchor, startMark, endMark);
+    }
+
+    @Override
+    Event scalar(Optional<Anchor> anchor, Optional<String> tag, ImplicitTuple implicit,
+        String value, ScalarStyle style, Optional<Mark> startMark, Optional<Mark> endMark) {
+      Data data = next.set(Event.ID.Scalar, startMark, endMark);
+      data.anchor = anchor;
+      data.tag = tag;
+      data.implicitTuple = implicit;
+      data.value = value;
+      data.scalarStyle = style;
+      return super.scalar(anchor, tag, implicit, value, style, startMark, endMark);
+    }
+
+    @Override
+    Event sequenceStart(Optional<Anchor> anchor, Optional<String> tag, boolean implicit,
+        FlowStyle flowStyle, Optional<Mark> startMark, Optional<Mark> endMark) {
+      Data data = next.set(Event.ID.SequenceStart, startMark, endMark);
+      data.anchor = anchor;
+      data.tag = tag;
+      data.implicit = implicit;
+      data.flowStyle = flowStyle;
+      return super.sequenceStart(anchor, tag, implicit, flowStyle, startMark, endMark);
+    }
+
+    @Override
+    Event sequenceEnd(Optional<Mark> startMark, Optional<Mark> endMark) {
+      next.set(Event.ID.SequenceEnd, startMark, endMark);
+      return super.sequenceEnd(startMark, endMark);
+    }
+
+    @Override
+    Event mappingStart(Optional<Anchor> anchor, Optional<String> tag, boolean implicit,
+        FlowStyle flowStyle, Optional<Mark> startMark, Optional<Mark> endMark) {
+      Data data = next.set(Event.ID.MappingStart, startMark, endMark);
+      data.anchor = anchor;
+      data.tag = tag;
+      data.implicit = implicit;
+      data.flowStyle = flowStyle;
+      return super.mappingStart(anchor, tag, implicit, flowStyle, startMark, endMark);
+    }
+
+    @Override
+    Event mappingEnd(Optional<Mark> startMark, Optional<Mark> endMark) {
+      next.set(Event.ID.MappingEnd, startMark, endMark);
+      return super.mappingEnd(startMark, endMark);
+    }
+
+    @Override
+    Event comment(CommentType type, String value, Optional<Mark> startMark,
+        Optional<Mark> endMark) {
+      Data data = next.set(Event.ID.Comment, startMark, endMark);
+      data.commentType = type;
+      data.value = value;
+      return super.comment(type, value, startMark, endMark);
+    }
+  }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.parser;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import org.snakeyaml.engine.v2.common.Anchor;
+import org.snakeyaml.engine.v2.common.FlowStyle;
+import org.snakeyaml.engine.v2.common.ScalarStyle;
+import org.snakeyaml.engine.v2.common.SpecVersion;
+import org.snakeyaml.engine.v2.comments.CommentType;
+import org.snakeyaml.engine.v2.events.AliasEvent;
+import org.snakeyaml.engine.v2.events.CommentEvent;
+import org.snakeyaml.engine.v2.events.DocumentEndEvent;
+import org.snakeyaml.engine.v2.events.DocumentStartEvent;
+import org.snakeyaml.engine.v2.events.Event;
+import org.snakeyaml.engine.v2.events.ImplicitTuple;
+import org.snakeyaml.engine.v2.events.MappingEndEvent;
+import org.snakeyaml.engine.v2.events.MappingStartEvent;
+import org.snakeyaml.engine.v2.events.ScalarEvent;
+import org.snakeyaml.engine.v2.events.SequenceEndEvent;
+import org.snakeyaml.engine.v2.events.SequenceStartEvent;
+import org.snakeyaml.engine.v2.events.StreamEndEvent;
+import org.snakeyaml.engine.v2.events.StreamStartEvent;
+import org.snakeyaml.engine.v2.exceptions.Mark;
+
+/**
+ * Helper for {@link ParserImpl}. Create the events for the parsed data. The subclass may keep the
+ * data instead of creating a new event for every call (see {@link EventCursor})
+ */
+class EventFactory {
+
+  Event streamStart(Optional<Mark> startMark, Optional<Mark> endMark) {
+    return new StreamStartEvent(startMark, endMark);
+  }
+
+  Event streamEnd(Optional<Mark> startMark, Optional<Mark> endMark) {
+    return new StreamEndEvent(startMark, endMark);
+  }
+
+  Event documentStart(boolean explicit, Optional<SpecVersion> specVersion, Map<String, String> tags,
+      Optional<Mark> startMark, Optional<Mark> endMark) {
+    return new DocumentStartEvent(explicit, specVersion, tags, startMark, endMark);
+  }
+
+  Event documentEnd(boolean explicit, Optional<Mark> startMark, Optional<Mark> endMark) {
+    return new DocumentEndEvent(explicit, startMark, endMark);
+  }
+
+  Event alias(Optional<Anchor> anchor, Optional<Mark> startMark, Optional<Mark> endMark) {
+    return new AliasEvent(anchor, startMark, endMark);
+  }
+
+  Event scalar(Optional<Anchor> anchor, Optional<String> tag, ImplicitTuple implicit, String value,
+      ScalarStyle style, Optional<Mark> startMark, Optional<Mark> endMark) {
+    return new ScalarEvent(anchor, tag, implicit, value, style, startMark, endMark);
+  }
+
+  Event sequenceStart(Optional<Anchor> anchor, Optional<String> tag, boolean implicit,
+      FlowStyle flowStyle, Optional<Mark> startMark, Optional<Mark> endMark) {
+    return new SequenceStartEvent(anchor, tag, implicit, flowStyle, startMark, endMark);
+  }
+
+  Event sequenceEnd(Optional<Mark> startMark, Optional<Mark> endMark) {
+    return new SequenceEndEvent(startMark, endMark);
+  }
+
+  Event mappingStart(Optional<Anchor> anchor, Optional<String> tag, boolean implicit,
+      FlowStyle flowStyle, Optional<Mark> startMark, Optional<Mark> endMark) {
+    return new MappingStartEvent(anchor, tag, implicit, flowStyle, startMark, endMark);
+  }
+
+  Event mappingEnd(Optional<Mark> startMark, Optional<Mark> endMark) {
+    return new MappingEndEvent(startMark, endMark);
+  }
+
+  Event comment(CommentType type, String value, Optional<Mark> startMark, Optional<Mark> endMark) {
+    return new CommentEvent(type, value, startMark, endMark);
+  }
+
+  /**
+   * Return the same event of the type for every call. It is used when the data of the events is not
+   * needed (or it is kept elsewhere).
+   */
+  static class Placeholders extends EventFactory {
+
+    private static final Event STREAM_START = new StreamStartEvent();
+    private static final Event STREAM_END = new StreamEndEvent();
+    private static final Event DOCUMENT_START =
+        new DocumentStartEvent(false, Optional.empty(), Collections.emptyMap());
+    private static final Event DOCUMENT_END = new DocumentEndEvent(false);
+    private static final Event ALIAS = new AliasEvent(Optional.of(new Anchor("alias")));
+    private static final Event SCALAR = new ScalarEvent(Optional.empty(), Optional.empty(),
+        ImplicitTuple.of(true, false), "", ScalarStyle.PLAIN);
+    private static final Event SEQUENCE_START =
+        new SequenceStartEvent(Optional.empty(), Optional.empty(), true, FlowStyle.BLOCK);
+    private static final Event SEQUENCE_END = new SequenceEndEvent();
+    private static final Event MAPPING_START =
+        new MappingStartEvent(Optional.empty(), Optional.empty(), true, FlowStyle.BLOCK);
+    private static final Event MAPPING_END = new MappingEndEvent();
+    private static final Event COMMENT =
+        new CommentEvent(CommentType.BLOCK, "", Optional.empty(), Optional.empty());
+
+    @Override
+    Event streamStart(Optional<Mark> startMark, Optional<Mark> endMark) {
+      return STREAM_START;
+    }
+
+    @Override
+    Event streamEnd(Optional<Mark> startMark, Optional<Mark> endMark) {
+      return STREAM_END;
+    }
+
+    @Override
+    Event documentStart(boolean explicit, Optional<SpecVersion> specVersion,
+        Map<String, String> tags, Optional<Mark> startMark, Optional<Mark> endMark) {
+      return DOCUMENT_START;
+    }
+
+    @Override
+    Event documentEnd(boolean explicit, Optional<Mark> startMark, Optional<Mark> endMark) {
+      return DOCUMENT_END;
+    }
+
+    @Override
+    Event alias(Optional<Anchor> anchor, Optional<Mark> startMark, Optional<Mark> endMark) {
+      return ALIAS;
+    }
+
+    @Override
+    Event scalar(Optional<Anchor> anchor, Optional<String> tag, ImplicitTuple implicit,
+        String value, ScalarStyle style, Optional<Mark> startMark, Optional<Mark> endMark) {
+      return SCALAR;
+    }
+
+    @Override
+    Event sequenceStart(Optional<Anchor> anchor, Optional<String> tag, boolean implicit,
+        FlowStyle flowStyle, Optional<Mark> startMark, Optional<Mark> endMark) {
+      return SEQUENCE_START;
+    }
+
+    @Override
+    Event sequenceEnd(Optional<Mark> startMark, Optional<Mark> endMark) {
+      return SEQUENCE_END;
+    }
+
+    @Override
+    Event mappingStart(Optional<Anchor> anchor, Optional<String> tag, boolean implicit,
+        FlowStyle flowStyle, Optional<Mark> startMark, Optional<Mark> endMark) {
+      return MAPPING_START;
+    }
+
+    @Override
+    Event mappingEnd(Optional<Mark> startMark, Optional<Mark> endMark) {
+      return MAPPING_END;
+    }
+
+    @Override
+    Event comment(CommentType type, String value, Optional<Mark> startMark,
+        Optional<Mark> endMark) {
+      return COMMENT;
+    }
+  }
+}
@@ -60,4 +60,27 @@ public interface Parser extends Iterator<Event> {
    * @throws NoSuchElementException in case no next event is available.
    */
   Event next();
+
+  /**
+   * Skip the next node with all its content (and the comments before it). The implementation may
+   * skip it without creating the events of the content, so the anchors of the skipped node are not
+   * reported.
+   *
+   * @throws ParserException in case of malformed input.
+   * @throws NoSuchElementException in case no next event is available.
+   */
+  default void skipNode() {
+    while (checkEvent(Event.ID.Comment)) {
+      next();
+    }
+    int depth = 0;
+    do {
+      Event.ID id = next().getEventId();
+      if (id == Event.ID.SequenceStart || id == Event.ID.MappingStart) {
+        depth++;
+      } else if (id == Event.ID.SequenceEnd || id == Event.ID.MappingEnd) {
+        depth--;
+      }
+    } while (depth > 0);
+  }
 }
@@ -28,19 +28,8 @@ import org.snakeyaml.engine.v2.common.ArrayStack;
 import org.snakeyaml.engine.v2.common.FlowStyle;
 import org.snakeyaml.engine.v2.common.ScalarStyle;
 import org.snakeyaml.engine.v2.common.SpecVersion;
-import org.snakeyaml.engine.v2.events.AliasEvent;
-import org.snakeyaml.engine.v2.events.CommentEvent;
-import org.snakeyaml.engine.v2.events.DocumentEndEvent;
-import org.snakeyaml.engine.v2.events.DocumentStartEvent;
 import org.snakeyaml.engine.v2.events.Event;
 import org.snakeyaml.engine.v2.events.ImplicitTuple;
-import org.snakeyaml.engine.v2.events.MappingEndEvent;
-import org.snakeyaml.engine.v2.events.MappingStartEvent;
-import org.snakeyaml.engine.v2.events.ScalarEvent;
-import org.snakeyaml.engine.v2.events.SequenceEndEvent;
-import org.snakeyaml.engine.v2.events.SequenceStartEvent;
-import org.snakeyaml.engine.v2.events.StreamEndEvent;
-import org.snakeyaml.engine.v2.events.StreamStartEvent;
 import org.snakeyaml.engine.v2.exceptions.Mark;
 import org.snakeyaml.engine.v2.exceptions.ParserException;
 import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
@@ -127,6 +116,8 @@ import org.snakeyaml.engine.v2.tokens.Token;
 public class ParserImpl implements Parser {
 
   private static final Map<String, String> DEFAULT_TAGS = new HashMap<>();
+  private static final EventFactory EVENTS = new EventFactory();
+  private static final EventFactory PLACEHOLDERS = new EventFactory.Placeholders();
 
   static {
     DEFAULT_TAGS.put("!", "!");
@@ -136,13 +127,47 @@ public class ParserImpl implements Parser {
   /**
    * tokeniser
    */
-  protected final Scanner scanner;
+  protected Scanner scanner;
   private final LoadSettings settings;
+  private EventFactory events;
   private final ArrayStack<Production> states;
   private final ArrayStack<Optional<Mark>> marksStack;
-  private Optional<Event> currentEvent; // parsed event
-  private Optional<Production> state;
+  private Event currentEvent; // parsed event, null when it is not produced yet
+  private Production state; // null after the end of the stream
   private Map<String, String> directiveTags;
+  // the last BLOCK-ENTRY token, its end is the mark of the empty sequence item
+  private BlockEntryToken blockEntry;
+  // the productions without their own state are created once for the parser
+  private final Production parseStreamStart = new ParseStreamStart();
+  private final Production parseImplicitDocumentStart = new ParseImplicitDocumentStart();
+  private final Production parseDocumentStart = new ParseDocumentStart();
+  private final Production parseDocumentEnd = new ParseDocumentEnd();
+  private final Production parseDocumentContent = new ParseDocumentContent();
+  private final Production parseBlockNode = new ParseBlockNode();
+  private final Production parseBlockSequenceFirstEntry = new ParseBlockSequenceFirstEntry();
+  private final Production parseBlockSequenceEntryKey = new ParseBlockSequenceEntryKey();
+  private final Production parseBlockSequenceEntryValue = new ParseBlockSequenceEntryValue();
+  private final Production parseIndentlessSequenceEntryKey = new ParseIndentlessSequenceEntryKey();
+  private final Production parseIndentlessSequenceEntryValue =
+      new ParseIndentlessSequenceEntryValue();
+  private final Production parseBlockMappingFirstKey = new ParseBlockMappingFirstKey();
+  private final Production parseBlockMappingKey = new ParseBlockMappingKey();
+  private final Production parseBlockMappingValue = new ParseBlockMappingValue();
+  private final Production parseFlowSequenceFirstEntry = new ParseFlowSequenceFirstEntry();
+  private final Production parseFlowSequenceFirstItem = new ParseFlowSequenceEntry(true);
+  private final Production parseFlowSequenceEntry = new ParseFlowSequenceEntry(false);
+  private final Production parseFlowEndComment = new ParseFlowEndComment();
+  private final Production parseFlowSequenceEntryMappingKey =
+      new ParseFlowSequenceEntryMappingKey();
+  private final Production parseFlowSequenceEntryMappingValue =
+      new ParseFlowSequenceEntryMappingValue();
+  private final Production parseFlowSequenceEntryMappingEnd =
+      new ParseFlowSequenceEntryMappingEnd();
+  private final Production parseFlowMappingFirstKey = new ParseFlowMappingFirstKey();
+  private final Production parseFlowMappingFirstItem = new ParseFlowMappingKey(true);
+  private final Production parseFlowMappingKey = new ParseFlowMappingKey(false);
+  private final Production parseFlowMappingValue = new ParseFlowMappingValue();
+  private final Production parseFlowMappingEmptyValue = new ParseFlowMappingEmptyValue();
 
   /**
    * Create
@@ -161,13 +186,40 @@ public class ParserImpl implements Parser {
    * @param scanner - input
    */
   public ParserImpl(LoadSettings settings, Scanner scanner) {
+    this(settings, scanner, EVENTS);
+  }
+
+  /**
+   * Create
+   *
+   * @param settings - configuration options
+   * @param scanner - input
+   * @param events - the factory for the parsed events
+   */
+  ParserImpl(LoadSettings settings, Scanner scanner, EventFactory events) {
     this.scanner = scanner;
     this.settings = settings;
-    currentEvent = Optional.empty();
+    this.events = events;
     directiveTags = new HashMap<>(DEFAULT_TAGS);
     states = new ArrayStack<>(100);
     marksStack = new ArrayStack<>(10);
-    state = Optional.of(new ParseStreamStart()); // prepare the next state
+    state = parseStreamStart; // prepare the next state
+  }
+
+  /**
+   * Point the parser to the new input. The stacks are reused.
+   *
+   * @param scanner - input
+   */
+  public void reset(Scanner scanner) {
+    this.scanner = scanner;
+    currentEvent = null;
+    blockEntry = null;
+    directiveTags.clear();
+    directiveTags.putAll(DEFAULT_TAGS);
+    states.clear();
+    marksStack.clear();
+    state = parseStreamStart;
   }
 
   /**
@@ -175,7 +227,7 @@ public class ParserImpl implements Parser {
    */
   public boolean checkEvent(Event.ID id) {
     peekEvent();
-    return currentEvent.isPresent() && currentEvent.get().getEventId() == id;
+    return currentEvent != null && currentEvent.getEventId() == id;
   }
 
   /**
@@ -183,7 +235,10 @@ public class ParserImpl implements Parser {
    */
   public Event peekEvent() {
     produce();
-    return currentEvent.orElseThrow(() -> new NoSuchElementException("No more Events found."));
+    if (currentEvent == null) {
+      throw new NoSuchElementException("No more Events found.");
+    }
+    return currentEvent;
   }
 
   /**
@@ -191,7 +246,7 @@ public class ParserImpl implements Parser {
    */
   public Event next() {
     Event value = peekEvent();
-    currentEvent = Optional.empty();
+    currentEvent = null;
     return value;
   }
 
@@ -203,21 +258,53 @@ public class ParserImpl implements Parser {
   @Override
   public boolean hasNext() {
     produce();
-    return currentEvent.isPresent();
+    return currentEvent != null;
+  }
+
+  /**
+   * Skip the next node. The content of the collection is parsed without the events and the scanner
+   * does not build the values of its scalars.
+   */
+  @Override
+  public void skipNode() {
+    while (checkEvent(Event.ID.Comment)) {
+      next();
+    }
+    Event.ID id = next().getEventId();
+    if (id != Event.ID.SequenceStart && id != Event.ID.MappingStart) {
+      return;
+    }
+    // the start token of the collection is still the next token
+    scanner.skipCollection();
+    EventFactory factory = events;
+    events = PLACEHOLDERS;
+    try {
+      int depth = 1;
+      while (depth > 0) {
+        id = next().getEventId();
+        if (id == Event.ID.SequenceStart || id == Event.ID.MappingStart) {
+          depth++;
+        } else if (id == Event.ID.SequenceEnd || id == Event.ID.MappingEnd) {
+          depth--;
+        }
+      }
+    } finally {
+      events = factory;
+    }
   }
 
   private void produce() {
-    if (currentEvent.isEmpty()) {
-      state.ifPresent(production -> currentEvent = Optional.of(production.produce()));
+    if (currentEvent == null && state != null) {
+      currentEvent = state.produce();
     }
   }
 
-  private CommentEvent produceCommentEvent(CommentToken token) {
+  private Event produceCommentEvent(CommentToken token) {
     String value = token.getValue();
     CommentType type = token.getCommentType();
 
     // state = state, that no change in state
-    return new CommentEvent(type, value, token.getStartMark(), token.getEndMark());
+    return events.comment(type, value, token.getStartMark(), token.getEndMark());
   }
 
   @SuppressWarnings("unchecked")
@@ -301,9 +388,8 @@ public class ParserImpl implements Parser {
     Optional<Mark> tagMark = Optional.empty();
     if (scanner.checkToken(Token.ID.Alias)) {
       AliasToken token = (AliasToken) scanner.next();
-      event =
-          new AliasEvent(Optional.of(token.getValue()), token.getStartMark(), token.getEndMark());
-      state = Optional.of(states.pop());
+      event = events.alias(Optional.of(token.getValue()), token.getStartMark(), token.getEndMark());
+      state = states.pop();
     } else {
       Optional<Anchor> anchor = Optional.empty();
       TagTuple tagTupleValue = null;
@@ -361,64 +447,57 @@ public class ParserImpl implements Parser {
         // Check if there's actual content after the comments
         if (hasNodeContent(block, indentlessSequence)) {
           // Content follows - emit comments first, then parse content
-          state = Optional.of(new ParseNodeWithPendingComments(block, indentlessSequence, anchor,
-              tag, startMark, endMark, tagMark, commentTokensAfterProperties, states.pop()));
+          state = new ParseNodeWithPendingComments(block, indentlessSequence, anchor, tag,
+              startMark, endMark, tagMark, commentTokensAfterProperties, states.pop());
           return produceCommentEvent(commentTokensAfterProperties.remove(0));
         } else {
           // No content follows - this is an empty scalar case.
           // Create the scalar event and set up state to emit DocumentEnd, then the comments.
           boolean implicit = tag.isEmpty();
-          Event scalarEvent = new ScalarEvent(anchor, tag, new ImplicitTuple(implicit, false), "",
+          Event scalarEvent = events.scalar(anchor, tag, ImplicitTuple.of(implicit, false), "",
               ScalarStyle.PLAIN, startMark, endMark);
           // Pop states to maintain stack consistency (normally ParseDocumentEnd would be popped)
           states.pop();
           // The next state should emit DocumentEnd, then the collected comments, then continue
-          state = Optional.of(new ParseDocumentEndThenComments(commentTokensAfterProperties));
+          state = new ParseDocumentEndThenComments(commentTokensAfterProperties);
           return scalarEvent;
         }
       }
       boolean implicit = (tag.isEmpty());
       if (indentlessSequence && scanner.checkToken(Token.ID.BlockEntry)) {
         endMark = scanner.peekToken().getEndMark();
-        event = new SequenceStartEvent(anchor, tag, implicit, FlowStyle.BLOCK, startMark, endMark);
-        state = Optional.of(new ParseIndentlessSequenceEntryKey());
+        event = events.sequenceStart(anchor, tag, implicit, FlowStyle.BLOCK, startMark, endMark);
+        state = parseIndentlessSequenceEntryKey;
       } else {
         if (scanner.checkToken(Token.ID.Scalar)) {
           ScalarToken token = (ScalarToken) scanner.next();
           endMark = token.getEndMark();
-          ImplicitTuple implicitValues;
-          if ((token.isPlain() && tag.isEmpty())) {
-            implicitValues = new ImplicitTuple(true, false);
-          } else if (tag.isEmpty()) {
-            implicitValues = new ImplicitTuple(false, true);
-          } else {
-            implicitValues = new ImplicitTuple(false, false);
-          }
-          event = new ScalarEvent(anchor, tag, implicitValues, token.getValue(), token.getStyle(),
+          ImplicitTuple implicitValues =
+              ImplicitTuple.of(token.isPlain() && tag.isEmpty(), !token.isPlain() && tag.isEmpty());
+          event = events.scalar(anchor, tag, implicitValues, token.getValue(), token.getStyle(),
               startMark, endMark);
-          state = Optional.of(states.pop());
+          state = states.pop();
         } else if (scanner.checkToken(Token.ID.FlowSequenceStart)) {
           endMark = scanner.peekToken().getEndMark();
-          event = new SequenceStartEvent(anchor, tag, implicit, FlowStyle.FLOW, startMark, endMark);
-          state = Optional.of(new ParseFlowSequenceFirstEntry());
+          event = events.sequenceStart(anchor, tag, implicit, FlowStyle.FLOW, startMark, endMark);
+          state = parseFlowSequenceFirstEntry;
         } else if (scanner.checkToken(Token.ID.FlowMappingStart)) {
           endMark = scanner.peekToken().getEndMark();
-          event = new MappingStartEvent(anchor, tag, implicit, FlowStyle.FLOW, startMark, endMark);
-          state = Optional.of(new ParseFlowMappingFirstKey());
+          event = events.mappingStart(anchor, tag, implicit, FlowStyle.FLOW, startMark, endMark);
+          state = parseFlowMappingFirstKey;
         } else if (block && scanner.checkToken(Token.ID.BlockSequenceStart)) {
           endMark = scanner.peekToken().getStartMark();
-          event =
-              new SequenceStartEvent(anchor, tag, implicit, FlowStyle.BLOCK, startMark, endMark);
-          state = Optional.of(new ParseBlockSequenceFirstEntry());
+          event = events.sequenceStart(anchor, tag, implicit, FlowStyle.BLOCK, startMark, endMark);
+          state = parseBlockSequenceFirstEntry;
         } else if (block && scanner.checkToken(Token.ID.BlockMappingStart)) {
           endMark = scanner.peekToken().getStartMark();
-          event = new MappingStartEvent(anchor, tag, implicit, FlowStyle.BLOCK, startMark, endMark);
-          state = Optional.of(new ParseBlockMappingFirstKey());
+          event = events.mappingStart(anchor, tag, implicit, FlowStyle.BLOCK, startMark, endMark);
+          state = parseBlockMappingFirstKey;
         } else if (anchor.isPresent() || tag.isPresent()) {
           // Empty scalars are allowed even if a tag or an anchor is specified.
-          event = new ScalarEvent(anchor, tag, new ImplicitTuple(implicit, false), "",
+          event = events.scalar(anchor, tag, ImplicitTuple.of(implicit, false), "",
               ScalarStyle.PLAIN, startMark, endMark);
-          state = Optional.of(states.pop());
+          state = states.pop();
         } else {
           Token token = scanner.peekToken();
           throw new ParserException("while parsing a " + (block ? "block" : "flow") + " node",
@@ -439,7 +518,7 @@ public class ParserImpl implements Parser {
    * </pre>
    */
   private Event processEmptyScalar(Optional<Mark> mark) {
-    return new ScalarEvent(Optional.empty(), Optional.empty(), new ImplicitTuple(true, false), "",
+    return events.scalar(Optional.empty(), Optional.empty(), ImplicitTuple.of(true, false), "",
         ScalarStyle.PLAIN, mark, mark);
   }
 
@@ -456,9 +535,9 @@ public class ParserImpl implements Parser {
     public Event produce() {
       // Parse the stream start.
       StreamStartToken token = (StreamStartToken) scanner.next();
-      Event event = new StreamStartEvent(token.getStartMark(), token.getEndMark());
+      Event event = events.streamStart(token.getStartMark(), token.getEndMark());
       // Prepare the next state.
-      state = Optional.of(new ParseImplicitDocumentStart());
+      state = parseImplicitDocumentStart;
       return event;
     }
   }
@@ -467,22 +546,22 @@ public class ParserImpl implements Parser {
 
     public Event produce() {
       if (scanner.checkToken(Token.ID.Comment)) {
-        state = Optional.of(new ParseImplicitDocumentStart());
+        state = this;
         return produceCommentEvent((CommentToken) scanner.next());
       }
       if (!scanner.checkToken(Token.ID.Directive, Token.ID.DocumentStart, Token.ID.StreamEnd)) {
         // Parse an implicit document.
         Token token = scanner.peekToken();
         Optional<Mark> startMark = token.getStartMark();
-        Event event = new DocumentStartEvent(false, Optional.empty(), Collections.emptyMap(),
+        Event event = events.documentStart(false, Optional.empty(), Collections.emptyMap(),
             startMark, startMark);
         // Prepare the next state.
-        states.push(new ParseDocumentEnd());
-        state = Optional.of(new ParseBlockNode());
+        states.push(parseDocumentEnd);
+        state = parseBlockNode;
         return event;
       } else {
         // explicit document detected
-        return new ParseDocumentStart().produce();
+        return parseDocumentStart.produce();
       }
     }
   }
@@ -491,7 +570,7 @@ public class ParserImpl implements Parser {
 
     public Event produce() {
       if (scanner.checkToken(Token.ID.Comment)) {
-        state = Optional.of(new ParseDocumentStart());
+        state = this;
         return produceCommentEvent((CommentToken) scanner.next());
       }
       // Parse any extra document end indicators.
@@ -499,7 +578,7 @@ public class ParserImpl implements Parser {
         scanner.next();
       }
       if (scanner.checkToken(Token.ID.Comment)) {
-        state = Optional.of(new ParseDocumentStart());
+        state = this;
         return produceCommentEvent((CommentToken) scanner.next());
       }
       // Parse an explicit document.
@@ -521,10 +600,10 @@ public class ParserImpl implements Parser {
           }
           token = scanner.next();
           Optional<Mark> endMark = token.getEndMark();
-          event = new DocumentStartEvent(true, tuple.getSpecVersion(), tuple.getTags(), startMark,
+          event = events.documentStart(true, tuple.getSpecVersion(), tuple.getTags(), startMark,
               endMark);
-          states.push(new ParseDocumentEnd());
-          state = Optional.of(new ParseDocumentContent());
+          states.push(parseDocumentEnd);
+          state = parseDocumentContent;
           return event;
         } else {
           throw new ParserException(
@@ -534,14 +613,14 @@ public class ParserImpl implements Parser {
       }
       // Parse the end of the stream.
       StreamEndToken token = (StreamEndToken) scanner.next();
-      event = new StreamEndEvent(token.getStartMark(), token.getEndMark());
+      event = events.streamEnd(token.getStartMark(), token.getEndMark());
       if (!states.isEmpty()) {
         throw new YamlEngineException("Unexpected end of stream. States left: " + states);
       }
       if (!markEmpty()) {
         throw new YamlEngineException("Unexpected end of stream. Marks left: " + marksStack);
       }
-      state = Optional.empty();
+      state = null;
       return event;
     }
 
@@ -570,9 +649,9 @@ public class ParserImpl implements Parser {
             + scanner.peekToken().getTokenId() + "'", scanner.peekToken().getStartMark());
       }
       directiveTags.clear(); // directive tags do not survive between the documents
-      Event event = new DocumentEndEvent(explicit, startMark, endMark);
+      Event event = events.documentEnd(explicit, startMark, endMark);
       // Prepare the next state.
-      state = Optional.of(new ParseDocumentStart());
+      state = parseDocumentStart;
       return event;
     }
   }
@@ -581,16 +660,16 @@ public class ParserImpl implements Parser {
 
     public Event produce() {
       if (scanner.checkToken(Token.ID.Comment)) {
-        state = Optional.of(new ParseDocumentContent());
+        state = this;
         return produceCommentEvent((CommentToken) scanner.next());
       }
       if (scanner.checkToken(Token.ID.Directive, Token.ID.DocumentStart, Token.ID.DocumentEnd,
           Token.ID.StreamEnd)) {
         Event event = processEmptyScalar(scanner.peekToken().getStartMark());
-        state = Optional.of(states.pop());
+        state = states.pop();
         return event;
       } else {
-        return new ParseBlockNode().produce();
+        return parseBlockNode.produce();
       }
     }
   }
@@ -629,7 +708,7 @@ public class ParserImpl implements Parser {
     public Event produce() {
       Token token = scanner.next();
       markPush(token.getStartMark());
-      return new ParseBlockSequenceEntryKey().produce();
+      return parseBlockSequenceEntryKey.produce();
     }
   }
 
@@ -637,12 +716,13 @@ public class ParserImpl implements Parser {
 
     public Event produce() {
       if (scanner.checkToken(Token.ID.Comment)) {
-        state = Optional.of(new ParseBlockSequenceEntryKey());
+        state = this;
         return produceCommentEvent((CommentToken) scanner.next());
       }
       if (scanner.checkToken(Token.ID.BlockEntry)) {
         BlockEntryToken token = (BlockEntryToken) scanner.next();
-        return new ParseBlockSequenceEntryValue(token).produce();
+        blockEntry = token;
+        return parseBlockSequenceEntryValue.produce();
       }
       if (!scanner.checkToken(Token.ID.BlockEnd)) {
         Token token = scanner.peekToken();
@@ -650,8 +730,8 @@ public class ParserImpl implements Parser {
             "expected <block end>, but found '" + token.getTokenId() + "'", token.getStartMark());
       }
       Token token = scanner.next();
-      Event event = new SequenceEndEvent(token.getStartMark(), token.getEndMark());
-      state = Optional.of(states.pop());
+      Event event = events.sequenceEnd(token.getStartMark(), token.getEndMark());
+      state = states.pop();
       markPop();
       return event;
     }
@@ -659,23 +739,17 @@ public class ParserImpl implements Parser {
 
   private class ParseBlockSequenceEntryValue implements Production {
 
-    BlockEntryToken token;
-
-    public ParseBlockSequenceEntryValue(final BlockEntryToken token) {
-      this.token = token;
-    }
-
     public Event produce() {
       if (scanner.checkToken(Token.ID.Comment)) {
-        state = Optional.of(new ParseBlockSequenceEntryValue(token));
+        state = this;
         return produceCommentEvent((CommentToken) scanner.next());
       }
       if (!scanner.checkToken(Token.ID.BlockEntry, Token.ID.BlockEnd)) {
-        states.push(new ParseBlockSequenceEntryKey());
-        return new ParseBlockNode().produce();
+        states.push(parseBlockSequenceEntryKey);
+        return parseBlockNode.produce();
       } else {
-        state = Optional.of(new ParseBlockSequenceEntryKey());
-        return processEmptyScalar(token.getEndMark());
+        state = parseBlockSequenceEntryKey;
+        return processEmptyScalar(blockEntry.getEndMark());
       }
     }
   }
@@ -684,40 +758,35 @@ public class ParserImpl implements Parser {
 
     public Event produce() {
       if (scanner.checkToken(Token.ID.Comment)) {
-        state = Optional.of(new ParseIndentlessSequenceEntryKey());
+        state = this;
         return produceCommentEvent((CommentToken) scanner.next());
       }
       if (scanner.checkToken(Token.ID.BlockEntry)) {
         BlockEntryToken token = (BlockEntryToken) scanner.next();
-        return new ParseIndentlessSequenceEntryValue(token).produce();
+        blockEntry = token;
+        return parseIndentlessSequenceEntryValue.produce();
       }
       Token token = scanner.peekToken();
-      Event event = new SequenceEndEvent(token.getStartMark(), token.getEndMark());
-      state = Optional.of(states.pop());
+      Event event = events.sequenceEnd(token.getStartMark(), token.getEndMark());
+      state = states.pop();
       return event;
     }
   }
 
   private class ParseIndentlessSequenceEntryValue implements Production {
 
-    BlockEntryToken token;
-
-    public ParseIndentlessSequenceEntryValue(final BlockEntryToken token) {
-      this.token = token;
-    }
-
     public Event produce() {
       if (scanner.checkToken(Token.ID.Comment)) {
-        state = Optional.of(new ParseIndentlessSequenceEntryValue(token));
+        state = this;
         return produceCommentEvent((CommentToken) scanner.next());
       }
       if (!scanner.checkToken(Token.ID.BlockEntry, Token.ID.Key, Token.ID.Value,
           Token.ID.BlockEnd)) {
-        states.push(new ParseIndentlessSequenceEntryKey());
-        return new ParseBlockNode().produce();
+        states.push(parseIndentlessSequenceEntryKey);
+        return parseBlockNode.produce();
       } else {
-        state = Optional.of(new ParseIndentlessSequenceEntryKey());
-        return processEmptyScalar(token.getEndMark());
+        state = parseIndentlessSequenceEntryKey;
+        return processEmptyScalar(blockEntry.getEndMark());
       }
     }
   }
@@ -727,7 +796,7 @@ public class ParserImpl implements Parser {
     public Event produce() {
       Token token = scanner.next();
       markPush(token.getStartMark());
-      return new ParseBlockMappingKey().produce();
+      return parseBlockMappingKey.produce();
     }
   }
 
@@ -735,16 +804,16 @@ public class ParserImpl implements Parser {
 
     public Event produce() {
       if (scanner.checkToken(Token.ID.Comment)) {
-        state = Optional.of(new ParseBlockMappingKey());
+        state = this;
         return produceCommentEvent((CommentToken) scanner.next());
       }
       if (scanner.checkToken(Token.ID.Key)) {
         Token token = scanner.next();
         if (!scanner.checkToken(Token.ID.Key, Token.ID.Value, Token.ID.BlockEnd)) {
-          states.push(new ParseBlockMappingValue());
+          states.push(parseBlockMappingValue);
           return parseBlockNodeOrIndentlessSequence();
         } else {
-          state = Optional.of(new ParseBlockMappingValue());
+          state = parseBlockMappingValue;
           return processEmptyScalar(token.getEndMark());
         }
       }
@@ -754,8 +823,8 @@ public class ParserImpl implements Parser {
             "expected <block end>, but found '" + token.getTokenId() + "'", token.getStartMark());
       }
       Token token = scanner.next();
-      Event event = new MappingEndEvent(token.getStartMark(), token.getEndMark());
-      state = Optional.of(states.pop());
+      Event event = events.mappingEnd(token.getStartMark(), token.getEndMark());
+      state = states.pop();
       markPop();
       return event;
     }
@@ -768,20 +837,20 @@ public class ParserImpl implements Parser {
         Token token = scanner.next();
         if (scanner.checkToken(Token.ID.Comment)) {
           Production p = new ParseBlockMappingValueComment();
-          state = Optional.of(p);
+          state = p;
           return p.produce();
         } else if (!scanner.checkToken(Token.ID.Key, Token.ID.Value, Token.ID.BlockEnd)) {
-          states.push(new ParseBlockMappingKey());
+          states.push(parseBlockMappingKey);
           return parseBlockNodeOrIndentlessSequence();
         } else {
-          state = Optional.of(new ParseBlockMappingKey());
+          state = parseBlockMappingKey;
           return processEmptyScalar(token.getEndMark());
         }
       } else if (scanner.checkToken(Token.ID.Scalar)) {
-        states.push(new ParseBlockMappingKey());
+        states.push(parseBlockMappingKey);
         return parseBlockNodeOrIndentlessSequence();
       }
-      state = Optional.of(new ParseBlockMappingKey());
+      state = parseBlockMappingKey;
       Token token = scanner.peekToken();
       return processEmptyScalar(token.getStartMark());
     }
@@ -799,10 +868,10 @@ public class ParserImpl implements Parser {
         if (!tokens.isEmpty()) {
           return produceCommentEvent(tokens.remove(0));
         }
-        states.push(new ParseBlockMappingKey());
+        states.push(parseBlockMappingKey);
         return parseBlockNodeOrIndentlessSequence();
       } else {
-        state = Optional.of(new ParseBlockMappingValueCommentList(tokens));
+        state = new ParseBlockMappingValueCommentList(tokens);
         return processEmptyScalar(scanner.peekToken().getStartMark());
       }
     }
@@ -820,7 +889,7 @@ public class ParserImpl implements Parser {
       if (!tokens.isEmpty()) {
         return produceCommentEvent(tokens.remove(0));
       }
-      return new ParseBlockMappingKey().produce();
+      return parseBlockMappingKey.produce();
     }
   }
 
@@ -842,7 +911,7 @@ public class ParserImpl implements Parser {
     public Event produce() {
       Token token = scanner.next();
       markPush(token.getStartMark());
-      return new ParseFlowSequenceEntry(true).produce();
+      return parseFlowSequenceFirstItem.produce();
     }
   }
 
@@ -856,7 +925,7 @@ public class ParserImpl implements Parser {
 
     public Event produce() {
       if (scanner.checkToken(Token.ID.Comment)) {
-        state = Optional.of(new ParseFlowSequenceEntry(first));
+        state = this;
         return produceCommentEvent((CommentToken) scanner.next());
       }
       if (!scanner.checkToken(Token.ID.FlowSequenceEnd)) {
@@ -864,7 +933,7 @@ public class ParserImpl implements Parser {
           if (scanner.checkToken(Token.ID.FlowEntry)) {
             scanner.next();
             if (scanner.checkToken(Token.ID.Comment)) {
-              state = Optional.of(new ParseFlowSequenceEntry(true));
+              state = parseFlowSequenceFirstItem;
               return produceCommentEvent((CommentToken) scanner.next());
             }
           } else {
@@ -875,21 +944,21 @@ public class ParserImpl implements Parser {
         }
         if (scanner.checkToken(Token.ID.Key)) {
           Token token = scanner.peekToken();
-          Event event = new MappingStartEvent(Optional.empty(), Optional.empty(), true,
+          Event event = events.mappingStart(Optional.empty(), Optional.empty(), true,
               FlowStyle.FLOW, token.getStartMark(), token.getEndMark());
-          state = Optional.of(new ParseFlowSequenceEntryMappingKey());
+          state = parseFlowSequenceEntryMappingKey;
           return event;
         } else if (!scanner.checkToken(Token.ID.FlowSequenceEnd)) {
-          states.push(new ParseFlowSequenceEntry(false));
+          states.push(parseFlowSequenceEntry);
           return parseFlowNode();
         }
       }
       Token token = scanner.next();
-      Event event = new SequenceEndEvent(token.getStartMark(), token.getEndMark());
+      Event event = events.sequenceEnd(token.getStartMark(), token.getEndMark());
       if (!scanner.checkToken(Token.ID.Comment)) {
-        state = Optional.of(states.pop());
+        state = states.pop();
       } else {
-        state = Optional.of(new ParseFlowEndComment());
+        state = parseFlowEndComment;
       }
       markPop();
       return event;
@@ -901,7 +970,7 @@ public class ParserImpl implements Parser {
     public Event produce() {
       Event event = produceCommentEvent((CommentToken) scanner.next());
       if (!scanner.checkToken(Token.ID.Comment)) {
-        state = Optional.of(states.pop());
+        state = states.pop();
       }
       return event;
     }
@@ -912,10 +981,10 @@ public class ParserImpl implements Parser {
     public Event produce() {
       Token token = scanner.next();
       if (!scanner.checkToken(Token.ID.Value, Token.ID.FlowEntry, Token.ID.FlowSequenceEnd)) {
-        states.push(new ParseFlowSequenceEntryMappingValue());
+        states.push(parseFlowSequenceEntryMappingValue);
         return parseFlowNode();
       } else {
-        state = Optional.of(new ParseFlowSequenceEntryMappingValue());
+        state = parseFlowSequenceEntryMappingValue;
         return processEmptyScalar(token.getEndMark());
       }
     }
@@ -927,14 +996,14 @@ public class ParserImpl implements Parser {
       if (scanner.checkToken(Token.ID.Value)) {
         Token token = scanner.next();
         if (!scanner.checkToken(Token.ID.FlowEntry, Token.ID.FlowSequenceEnd)) {
-          states.push(new ParseFlowSequenceEntryMappingEnd());
+          states.push(parseFlowSequenceEntryMappingEnd);
           return parseFlowNode();
         } else {
-          state = Optional.of(new ParseFlowSequenceEntryMappingEnd());
+          state = parseFlowSequenceEntryMappingEnd;
           return processEmptyScalar(token.getEndMark());
         }
       } else {
-        state = Optional.of(new ParseFlowSequenceEntryMappingEnd());
+        state = parseFlowSequenceEntryMappingEnd;
         Token token = scanner.peekToken();
         return processEmptyScalar(token.getStartMark());
       }
@@ -944,9 +1013,9 @@ public class ParserImpl implements Parser {
   private class ParseFlowSequenceEntryMappingEnd implements Production {
 
     public Event produce() {
-      state = Optional.of(new ParseFlowSequenceEntry(false));
+      state = parseFlowSequenceEntry;
       Token token = scanner.peekToken();
-      return new MappingEndEvent(token.getStartMark(), token.getEndMark());
+      return events.mappingEnd(token.getStartMark(), token.getEndMark());
     }
   }
 
@@ -964,7 +1033,7 @@ public class ParserImpl implements Parser {
     public Event produce() {
       Token token = scanner.next();
       markPush(token.getStartMark());
-      return new ParseFlowMappingKey(true).produce();
+      return parseFlowMappingFirstItem.produce();
     }
   }
 
@@ -978,7 +1047,7 @@ public class ParserImpl implements Parser {
 
     public Event produce() {
       if (scanner.checkToken(Token.ID.Comment)) {
-        state = Optional.of(new ParseFlowMappingKey(first));
+        state = this;
         return produceCommentEvent((CommentToken) scanner.next());
       }
       if (!scanner.checkToken(Token.ID.FlowMappingEnd)) {
@@ -986,7 +1055,7 @@ public class ParserImpl implements Parser {
           if (scanner.checkToken(Token.ID.FlowEntry)) {
             scanner.next();
             if (scanner.checkToken(Token.ID.Comment)) {
-              state = Optional.of(new ParseFlowMappingKey(true));
+              state = parseFlowMappingFirstItem;
               return produceCommentEvent((CommentToken) scanner.next());
             }
           } else {
@@ -998,24 +1067,24 @@ public class ParserImpl implements Parser {
         if (scanner.checkToken(Token.ID.Key)) {
           Token token = scanner.next();
           if (!scanner.checkToken(Token.ID.Value, Token.ID.FlowEntry, Token.ID.FlowMappingEnd)) {
-            states.push(new ParseFlowMappingValue());
+            states.push(parseFlowMappingValue);
             return parseFlowNode();
           } else {
-            state = Optional.of(new ParseFlowMappingValue());
+            state = parseFlowMappingValue;
             return processEmptyScalar(token.getEndMark());
           }
         } else if (!scanner.checkToken(Token.ID.FlowMappingEnd)) {
-          states.push(new ParseFlowMappingEmptyValue());
+          states.push(parseFlowMappingEmptyValue);
           return parseFlowNode();
         }
       }
       Token token = scanner.next();
-      Event event = new MappingEndEvent(token.getStartMark(), token.getEndMark());
+      Event event = events.mappingEnd(token.getStartMark(), token.getEndMark());
       markPop();
       if (!scanner.checkToken(Token.ID.Comment)) {
-        state = Optional.of(states.pop());
+        state = states.pop();
       } else {
-        state = Optional.of(new ParseFlowEndComment());
+        state = parseFlowEndComment;
       }
       return event;
     }
@@ -1027,14 +1096,14 @@ public class ParserImpl implements Parser {
       if (scanner.checkToken(Token.ID.Value)) {
         Token token = scanner.next();
         if (!scanner.checkToken(Token.ID.FlowEntry, Token.ID.FlowMappingEnd)) {
-          states.push(new ParseFlowMappingKey(false));
+          states.push(parseFlowMappingKey);
           return parseFlowNode();
         } else {
-          state = Optional.of(new ParseFlowMappingKey(false));
+          state = parseFlowMappingKey;
           return processEmptyScalar(token.getEndMark());
         }
       } else {
-        state = Optional.of(new ParseFlowMappingKey(false));
+        state = parseFlowMappingKey;
         Token token = scanner.peekToken();
         return processEmptyScalar(token.getStartMark());
       }
@@ -1044,7 +1113,7 @@ public class ParserImpl implements Parser {
   private class ParseFlowMappingEmptyValue implements Production {
 
     public Event produce() {
-      state = Optional.of(new ParseFlowMappingKey(false));
+      state = parseFlowMappingKey;
       return processEmptyScalar(scanner.peekToken().getStartMark());
     }
   }
@@ -1082,13 +1151,13 @@ public class ParserImpl implements Parser {
 
     public Event produce() {
       if (!pendingComments.isEmpty()) {
-        state = Optional.of(this);
+        state = this;
         return produceCommentEvent(pendingComments.remove(0));
       }
       // All comments emitted, now parse the actual node content
-      state = Optional.of(new ParseNodeContent(block, indentlessSequence, anchor, tag, startMark,
-          endMark, tagMark, nextState));
-      return state.get().produce();
+      state = new ParseNodeContent(block, indentlessSequence, anchor, tag, startMark, endMark,
+          tagMark, nextState);
+      return state.produce();
     }
   }
 
@@ -1129,48 +1198,42 @@ public class ParserImpl implements Parser {
       boolean implicit = tag.isEmpty();
       if (indentlessSequence && scanner.checkToken(Token.ID.BlockEntry)) {
         endMark = scanner.peekToken().getEndMark();
-        event = new SequenceStartEvent(anchor, tag, implicit, FlowStyle.BLOCK, startMark, endMark);
+        event = events.sequenceStart(anchor, tag, implicit, FlowStyle.BLOCK, startMark, endMark);
         states.push(nextState);
-        state = Optional.of(new ParseIndentlessSequenceEntryKey());
+        state = parseIndentlessSequenceEntryKey;
       } else if (scanner.checkToken(Token.ID.Scalar)) {
         ScalarToken token = (ScalarToken) scanner.next();
         endMark = token.getEndMark();
-        ImplicitTuple implicitValues;
-        if ((token.isPlain() && tag.isEmpty())) {
-          implicitValues = new ImplicitTuple(true, false);
-        } else if (tag.isEmpty()) {
-          implicitValues = new ImplicitTuple(false, true);
-        } else {
-          implicitValues = new ImplicitTuple(false, false);
-        }
-        event = new ScalarEvent(anchor, tag, implicitValues, token.getValue(), token.getStyle(),
+        ImplicitTuple implicitValues =
+            ImplicitTuple.of(token.isPlain() && tag.isEmpty(), !token.isPlain() && tag.isEmpty());
+        event = events.scalar(anchor, tag, implicitValues, token.getValue(), token.getStyle(),
             startMark, endMark);
-        state = Optional.of(nextState);
+        state = nextState;
       } else if (scanner.checkToken(Token.ID.FlowSequenceStart)) {
         endMark = scanner.peekToken().getEndMark();
-        event = new SequenceStartEvent(anchor, tag, implicit, FlowStyle.FLOW, startMark, endMark);
+        event = events.sequenceStart(anchor, tag, implicit, FlowStyle.FLOW, startMark, endMark);
         states.push(nextState);
-        state = Optional.of(new ParseFlowSequenceFirstEntry());
+        state = parseFlowSequenceFirstEntry;
       } else if (scanner.checkToken(Token.ID.FlowMappingStart)) {
         endMark = scanner.peekToken().getEndMark();
-        event = new MappingStartEvent(anchor, tag, implicit, FlowStyle.FLOW, startMark, endMark);
+        event = events.mappingStart(anchor, tag, implicit, FlowStyle.FLOW, startMark, endMark);
         states.push(nextState);
-        state = Optional.of(new ParseFlowMappingFirstKey());
+        state = parseFlowMappingFirstKey;
       } else if (block && scanner.checkToken(Token.ID.BlockSequenceStart)) {
         endMark = scanner.peekToken().getStartMark();
-        event = new SequenceStartEvent(anchor, tag, implicit, FlowStyle.BLOCK, startMark, endMark);
+        event = events.sequenceStart(anchor, tag, implicit, FlowStyle.BLOCK, startMark, endMark);
         states.push(nextState);
-        state = Optional.of(new ParseBlockSequenceFirstEntry());
+        state = parseBlockSequenceFirstEntry;
       } else if (block && scanner.checkToken(Token.ID.BlockMappingStart)) {
         endMark = scanner.peekToken().getStartMark();
-        event = new MappingStartEvent(anchor, tag, implicit, FlowStyle.BLOCK, startMark, endMark);
+        event = events.mappingStart(anchor, tag, implicit, FlowStyle.BLOCK, startMark, endMark);
         states.push(nextState);
-        state = Optional.of(new ParseBlockMappingFirstKey());
+        state = parseBlockMappingFirstKey;
       } else if (anchor.isPresent() || tag.isPresent()) {
         // Empty scalars are allowed even if a tag or an anchor is specified.
-        event = new ScalarEvent(anchor, tag, new ImplicitTuple(implicit, false), "",
-            ScalarStyle.PLAIN, startMark, endMark);
-        state = Optional.of(nextState);
+        event = events.scalar(anchor, tag, ImplicitTuple.of(implicit, false), "", ScalarStyle.PLAIN,
+            startMark, endMark);
+        state = nextState;
       } else {
         Token token = scanner.peekToken();
         throw new ParserException("while parsing a " + (block ? "block" : "flow") + " node",
@@ -1209,16 +1272,16 @@ public class ParserImpl implements Parser {
           explicit = true;
         }
         directiveTags.clear();
-        state = Optional.of(this);
-        return new DocumentEndEvent(explicit, startMark, endMark);
+        state = this;
+        return events.documentEnd(explicit, startMark, endMark);
       }
       // Then emit any pending comments
       if (!pendingComments.isEmpty()) {
-        state = Optional.of(this);
+        state = this;
         return produceCommentEvent(pendingComments.remove(0));
       }
       // Finally, continue with ParseDocumentStart
-      return new ParseDocumentStart().produce();
+      return parseDocumentStart.produce();
     }
   }
 }
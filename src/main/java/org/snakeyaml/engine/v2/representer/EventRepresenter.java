@@ -0,0 +1,326 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.representer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import org.snakeyaml.engine.v2.api.DumpSettings;
+import org.snakeyaml.engine.v2.api.RepresentToNode;
+import org.snakeyaml.engine.v2.common.Anchor;
+import org.snakeyaml.engine.v2.common.FlowStyle;
+import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
+import org.snakeyaml.engine.v2.nodes.MappingNode;
+import org.snakeyaml.engine.v2.nodes.Node;
+import org.snakeyaml.engine.v2.nodes.NodeType;
+import org.snakeyaml.engine.v2.nodes.ScalarNode;
+import org.snakeyaml.engine.v2.nodes.SequenceNode;
+import org.snakeyaml.engine.v2.nodes.Tag;
+import org.snakeyaml.engine.v2.serializer.Serializer;
+
+/**
+ * Represent the standard collections (List, Map, Set, Iterator and Object[]) directly as events of
+ * the Serializer. Only their items which are not standard collections are represented to Nodes by
+ * the StandardRepresenter and they are serialized one by one, so the Node graph of the document is
+ * not kept in memory. The collections get the same tags and flow styles as their Nodes (for
+ * FlowStyle.AUTO the items are represented ahead until the first one which is not a plain scalar).
+ * <p>
+ * The instances which are found more than once get anchors. They are found by a walk over the
+ * collections before the document is emitted, the walk is skipped when the aliases are
+ * dereferenced. The Iterators are not walked (they can be iterated only once) and the references
+ * between the Nodes of different items are not detected, such instances are emitted as copies.
+ * </p>
+ */
+public class EventRepresenter {
+
+  private final StandardRepresenter representer;
+  private final DumpSettings settings;
+  // true for the instances which are found more than once (false for the others)
+  private final Map<Object, Boolean> shared = new IdentityHashMap<>();
+  // the anchors of the emitted shared instances
+  private final Map<Object, Anchor> anchors = new IdentityHashMap<>();
+  // the collections which are being emitted
+  private final Set<Object> emitting = Collections.newSetFromMap(new IdentityHashMap<>());
+  private Serializer serializer;
+
+  /**
+   * Create
+   *
+   * @param representer - the representer for the items which are not standard collections
+   */
+  public EventRepresenter(StandardRepresenter representer) {
+    this.representer = representer;
+    this.settings = representer.settings;
+  }
+
+  /**
+   * Represent the instance as a document (the same way as BaseRepresenter.represent() and
+   * Serializer.serializeDocument())
+   *
+   * @param data - the instance to represent
+   * @param serializer - the destination for the events
+   */
+  public void representDocument(Object data, Serializer serializer) {
+    this.serializer = serializer;
+    try {
+      RepresentToNode collection = findCollectionRepresenter(data);
+      if (collection != null && !settings.isDereferenceAliases()) {
+        findShared(data);
+      }
+      serializer.emitDocumentStart();
+      if (collection != null) {
+        representCollection(data, collection, settings.getExplicitRootTag());
+      } else {
+        Node node = representer.represent(data);
+        settings.getExplicitRootTag().ifPresent(node::setTag);
+        serializer.serializePart(node, Optional.empty());
+      }
+      serializer.emitDocumentEnd();
+    } finally {
+      this.serializer = null;
+      shared.clear();
+      anchors.clear();
+      emitting.clear();
+    }
+  }
+
+  /**
+   * Find the representer of the standard collection
+   *
+   * @param data - the instance to represent
+   * @return the representer or null when the instance is not a standard collection
+   */
+  private RepresentToNode findCollectionRepresenter(Object data) {
+    if (data == null) {
+      return null;
+    }
+    RepresentToNode found = representer.findRepresenterFor(data).orElse(null);
+    if (found instanceof StandardRepresenter.RepresentList
+        || found instanceof StandardRepresenter.RepresentMap
+        || found instanceof StandardRepresenter.RepresentSet
+        || found instanceof StandardRepresenter.RepresentIterator
+        || found instanceof StandardRepresenter.RepresentArray) {
+      return found;
+    }
+    return null;
+  }
+
+  private static boolean isScalar(RepresentToNode found) {
+    return found instanceof StandardRepresenter.RepresentString
+        || found instanceof StandardRepresenter.RepresentNumber
+        || found instanceof StandardRepresenter.RepresentBoolean
+        || found instanceof StandardRepresenter.RepresentEnum
+        || found instanceof StandardRepresenter.RepresentUuid
+        || found instanceof StandardRepresenter.RepresentByteArray;
+  }
+
+  /**
+   * Walk the collections to find the instances which may be referenced more than once (the scalars
+   * are never referenced)
+   */
+  private void findShared(Object data) {
+    if (data == null) {
+      return;
+    }
+    RepresentToNode found = representer.findRepresenterFor(data).orElse(null);
+    if (isScalar(found)) {
+      return;
+    }
+    if (shared.containsKey(data)) {
+      shared.put(data, Boolean.TRUE);
+      return;
+    }
+    shared.put(data, Boolean.FALSE);
+    if (found instanceof StandardRepresenter.RepresentList) {
+      for (Object item : (List<?>) data) {
+        findShared(item);
+      }
+    } else if (found instanceof StandardRepresenter.RepresentArray) {
+      for (Object item : (Object[]) data) {
+        findShared(item);
+      }
+    } else if (found instanceof StandardRepresenter.RepresentSet) {
+      for (Object item : (Set<?>) data) {
+        findShared(item);
+      }
+    } else if (found instanceof StandardRepresenter.RepresentMap) {
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) data).entrySet()) {
+        findShared(entry.getKey());
+        findShared(entry.getValue());
+      }
+    }
+  }
+
+  /**
+   * Emit the collection (the same way as representSequence() or representMapping() create the Node)
+   *
+   * @param data - the collection
+   * @param found - its representer
+   * @param explicitTag - the tag to use instead of the one of the representer
+   */
+  private void representCollection(Object data, RepresentToNode found, Optional<Tag> explicitTag) {
+    if (!emitting.add(data)) {
+      throw new YamlEngineException("Cannot stream the recursive structure without an anchor.");
+    }
+    boolean mapping = false;
+    Tag tag;
+    Iterator<?> items;
+    if (found instanceof StandardRepresenter.RepresentList) {
+      tag = representer.getTag(data.getClass(), Tag.SEQ);
+      items = ((List<?>) data).iterator();
+    } else if (found instanceof StandardRepresenter.RepresentIterator) {
+      tag = representer.getTag(data.getClass(), Tag.SEQ);
+      items = (Iterator<?>) data;
+    } else if (found instanceof StandardRepresenter.RepresentArray) {
+      tag = Tag.SEQ;
+      items = Arrays.asList((Object[]) data).iterator();
+    } else if (found instanceof StandardRepresenter.RepresentSet) {
+      mapping = true;
+      tag = representer.getTag(data.getClass(), Tag.SET);
+      items = new KeysAndValues(((Set<?>) data).iterator(), false);
+    } else {
+      mapping = true;
+      tag = representer.getTag(data.getClass(), Tag.MAP);
+      items = new KeysAndValues(((Map<?, ?>) data).entrySet().iterator(), true);
+    }
+    tag = explicitTag.orElse(tag);
+    // the items which are represented ahead to choose the flow style
+    List<Object> ahead = new ArrayList<>();
+    List<Node> aheadNodes = new ArrayList<>();
+    FlowStyle flowStyle = settings.getDefaultFlowStyle();
+    if (flowStyle == FlowStyle.AUTO) {
+      if (representer.defaultFlowStyle != FlowStyle.AUTO) {
+        flowStyle = representer.defaultFlowStyle;
+      } else {
+        flowStyle = FlowStyle.FLOW;
+        while (items.hasNext()) {
+          Object item = items.next();
+          Node node = representAhead(item);
+          ahead.add(item);
+          aheadNodes.add(node);
+          if (!(node instanceof ScalarNode && ((ScalarNode) node).isPlain())) {
+            flowStyle = FlowStyle.BLOCK;
+            break;
+          }
+        }
+      }
+    }
+    Node node = mapping ? new MappingNode(tag, Collections.emptyList(), flowStyle)
+        : new SequenceNode(tag, Collections.emptyList(), flowStyle);
+    Optional<Anchor> anchor = Optional.empty();
+    if (shared.get(data) == Boolean.TRUE) {
+      anchor = Optional.of(settings.getAnchorGenerator().nextAnchor(node));
+      anchors.put(data, anchor.get());
+    }
+    serializer.emitCollectionStart(node, anchor);
+    for (int i = 0; i < ahead.size(); i++) {
+      representItem(ahead.get(i), aheadNodes.get(i));
+    }
+    while (items.hasNext()) {
+      representItem(items.next(), null);
+    }
+    serializer.emitCollectionEnd(node);
+    emitting.remove(data);
+  }
+
+  /**
+   * Represent the item to check its style
+   *
+   * @return the Node or null for the aliases and for the standard collections
+   */
+  private Node representAhead(Object item) {
+    if (anchors.containsKey(item) || findCollectionRepresenter(item) != null) {
+      return null;
+    }
+    return representer.represent(item);
+  }
+
+  /**
+   * Emit the item of the collection
+   *
+   * @param item - the instance to emit
+   * @param node - its Node when it is represented ahead or null
+   */
+  private void representItem(Object item, Node node) {
+    if (node == null) {
+      Anchor alias = anchors.get(item);
+      if (alias != null) {
+        serializer.emitAlias(alias);
+        return;
+      }
+      RepresentToNode collection = findCollectionRepresenter(item);
+      if (collection != null) {
+        representCollection(item, collection, Optional.empty());
+        return;
+      }
+      node = representer.represent(item);
+    }
+    Optional<Anchor> anchor = Optional.empty();
+    if (node.getNodeType() != NodeType.SCALAR && shared.get(item) == Boolean.TRUE) {
+      anchor = Optional.of(settings.getAnchorGenerator().nextAnchor(node));
+      anchors.put(item, anchor.get());
+    }
+    serializer.serializePart(node, anchor);
+  }
+
+  /**
+   * The keys and the values of the Map entries (or the keys of the Set with null values) one after
+   * another
+   */
+  private static final class KeysAndValues implements Iterator<Object> {
+
+    private final Iterator<?> source;
+    private final boolean entries;
+    private Object value;
+    private boolean atValue = false;
+
+    KeysAndValues(Iterator<?> source, boolean entries) {
+      this.source = source;
+      this.entries = entries;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return atValue || source.hasNext();
+    }
+
+    @Override
+    public Object next() {
+      if (atValue) {
+        atValue = false;
+        Object result = value;
+        value = null;
+        return result;
+      }
+      if (!source.hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Object next = source.next();
+      atValue = true;
+      if (entries) {
+        Map.Entry<?, ?> entry = (Map.Entry<?, ?>) next;
+        value = entry.getValue();
+        return entry.getKey();
+      }
+      return next;
+    }
+  }
+}
@@ -32,9 +32,12 @@ import org.snakeyaml.engine.v2.api.RepresentToNode;
 import org.snakeyaml.engine.v2.common.FlowStyle;
 import org.snakeyaml.engine.v2.common.NonPrintableStyle;
 import org.snakeyaml.engine.v2.common.ScalarStyle;
+import org.snakeyaml.engine.v2.events.ImplicitTuple;
 import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
 import org.snakeyaml.engine.v2.nodes.Node;
+import org.snakeyaml.engine.v2.nodes.ScalarNode;
 import org.snakeyaml.engine.v2.nodes.Tag;
+import org.snakeyaml.engine.v2.resolver.ScalarResolver;
 import org.snakeyaml.engine.v2.scanner.StreamReader;
 
 /**
@@ -55,6 +58,11 @@ public class StandardRepresenter extends BaseRepresenter {
    */
   protected DumpSettings settings;
 
+  // the implicit flags of the constant scalars
+  private final ImplicitTuple nullImplicit;
+  private final ImplicitTuple trueImplicit;
+  private final ImplicitTuple falseImplicit;
+
   /**
    * Create
    *
@@ -90,6 +98,24 @@ public class StandardRepresenter extends BaseRepresenter {
     this.parentClassRepresenters.put(Enum.class, new RepresentEnum());
     classTags = new HashMap<>();
     this.settings = settings;
+    ScalarResolver scalarResolver = settings.getSchema().getScalarResolver();
+    this.nullImplicit = scalarResolver.resolveImplicit("null", Tag.NULL);
+    this.trueImplicit = scalarResolver.resolveImplicit("true", Tag.BOOL);
+    this.falseImplicit = scalarResolver.resolveImplicit("false", Tag.BOOL);
+  }
+
+  /**
+   * Keep the implicit flag of the constant scalar in the node, the Serializer does not resolve it
+   * again
+   */
+  private static Node withImplicit(Node node, Tag tag, String value, ImplicitTuple implicit) {
+    if (node instanceof ScalarNode) {
+      ScalarNode scalar = (ScalarNode) node;
+      if (scalar.getTag().equals(tag) && scalar.getValue().equals(value)) {
+        scalar.setImplicit(implicit);
+      }
+    }
+    return node;
   }
 
   /**
@@ -139,7 +165,7 @@ public class StandardRepresenter extends BaseRepresenter {
   protected class RepresentNull implements RepresentToNode {
 
     public Node representData(Object data) {
-      return representScalar(Tag.NULL, "null");
+      return withImplicit(representScalar(Tag.NULL, "null"), Tag.NULL, "null", nullImplicit);
     }
   }
 
@@ -181,13 +207,10 @@ public class StandardRepresenter extends BaseRepresenter {
   public class RepresentBoolean implements RepresentToNode {
 
     public Node representData(Object data) {
-      String value;
       if (Boolean.TRUE.equals(data)) {
-        value = "true";
-      } else {
-        value = "false";
+        return withImplicit(representScalar(Tag.BOOL, "true"), Tag.BOOL, "true", trueImplicit);
       }
-      return representScalar(Tag.BOOL, value);
+      return withImplicit(representScalar(Tag.BOOL, "false"), Tag.BOOL, "false", falseImplicit);
     }
   }
 
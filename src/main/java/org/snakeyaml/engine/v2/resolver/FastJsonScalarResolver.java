@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.resolver;
+
+import org.snakeyaml.engine.v2.events.ImplicitTuple;
+import org.snakeyaml.engine.v2.nodes.Tag;
+
+/**
+ * ScalarResolver for JSON Schema without regular expressions. It resolves the same tags as
+ * {@link JsonScalarResolver} but the value is checked by the hand-written recognizers. It is
+ * stateless and it can be shared. Custom implicit resolvers cannot be added, extend
+ * {@link JsonScalarResolver} for that.
+ */
+public final class FastJsonScalarResolver implements ScalarResolver {
+
+  @Override
+  public Tag resolve(String value, Boolean implicit) {
+    if (!implicit) {
+      return Tag.STR;
+    }
+    if (value.isEmpty()) {
+      return Tag.NULL;
+    }
+    switch (value.charAt(0)) {
+      case 't':
+      case 'f':
+        if (ScalarRecognizer.isJsonBool(value)) {
+          return Tag.BOOL;
+        }
+        break;
+      case '-':
+      case '.':
+      case '0':
+      case '1':
+      case '2':
+      case '3':
+      case '4':
+      case '5':
+      case '6':
+      case '7':
+      case '8':
+      case '9':
+        Tag number = ScalarRecognizer.jsonNumber(value);
+        if (number != null) {
+          return number;
+        }
+        break;
+      case '$':
+        if (ScalarRecognizer.isEnv(value)) {
+          return Tag.ENV_TAG;
+        }
+        break;
+      default:
+        break;
+    }
+    return ScalarRecognizer.isJsonNull(value) ? Tag.NULL : Tag.STR;
+  }
+
+  @Override
+  public ImplicitTuple resolveImplicit(String value, Tag tag) {
+    // the non-plain scalars are always strings
+    return ImplicitTuple.of(tag.equals(resolve(value, true)), tag.equals(Tag.STR));
+  }
+
+  @Override
+  public Number resolveNumber(String value) {
+    return ScalarRecognizer.jsonNumberValue(value);
+  }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.resolver;
+
+import org.snakeyaml.engine.v2.common.NumberParser;
+import org.snakeyaml.engine.v2.nodes.Tag;
+
+/**
+ * Hand-written recognizers for the implicit scalars of the Core and JSON schemas. Every method
+ * walks over the chars of the value once and does not allocate. They are equivalent to the regular
+ * expressions in {@link CoreScalarResolver}, {@link JsonScalarResolver} and
+ * {@link BaseScalarResolver#ENV_FORMAT}.
+ */
+final class ScalarRecognizer {
+
+  private ScalarRecognizer() {}
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isHexDigit(char c) {
+    return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+  }
+
+  /**
+   * Count the decimal digits from the position
+   */
+  private static int digits(String value, int start) {
+    int i = start;
+    while (i < value.length() && isDigit(value.charAt(i))) {
+      i++;
+    }
+    return i - start;
+  }
+
+  /**
+   * Check that the rest of the value (from the position) is one of the spellings of the same word
+   */
+  private static boolean isWord(String value, int start, String lower, String capitalized,
+      String upper) {
+    return value.length() - start == lower.length() && (value.startsWith(lower, start)
+        || value.startsWith(capitalized, start) || value.startsWith(upper, start));
+  }
+
+  /**
+   * Core: true|True|TRUE|false|False|FALSE
+   */
+  static boolean isCoreBool(String value) {
+    return isWord(value, 0, "true", "True", "TRUE") || isWord(value, 0, "false", "False", "FALSE");
+  }
+
+  /**
+   * Core: ~|null|Null|NULL| (and the empty value)
+   */
+  static boolean isCoreNull(String value) {
+    return value.isEmpty() || "~".equals(value) || " ".equals(value)
+        || isWord(value, 0, "null", "Null", "NULL");
+  }
+
+  /**
+   * Core: [-+]?[0-9]+ | 0o[0-7]+ | 0x[0-9a-fA-F]+ for INT and [-+]?(\.[0-9]+|[0-9]+(\.[0-9]*)?)
+   * ([eE][-+]?[0-9]+)? | [-+]?\.(inf|Inf|INF) | \.(nan|NaN|NAN) for FLOAT
+   *
+   * @return INT, FLOAT or null if the value is not a number
+   */
+  static Tag coreNumber(String value) {
+    int length = value.length();
+    if (length > 2 && value.charAt(0) == '0') {
+      char prefix = value.charAt(1);
+      if (prefix == 'o' || prefix == 'x') {
+        for (int i = 2; i < length; i++) {
+          char c = value.charAt(i);
+          if (prefix == 'o' ? c < '0' || c > '7' : !isHexDigit(c)) {
+            return null;
+          }
+        }
+        return Tag.INT;
+      }
+    }
+    int i = 0;
+    if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+      i++;
+    }
+    if (i == length) {
+      return null;
+    }
+    if (value.charAt(i) == '.' && (isWord(value, i + 1, "inf", "Inf", "INF")
+        || (i == 0 && isWord(value, 1, "nan", "NaN", "NAN")))) {
+      return Tag.FLOAT;
+    }
+    int integer = digits(value, i);
+    i += integer;
+    if (i == length) {
+      return Tag.INT;
+    }
+    if (value.charAt(i) == '.') {
+      int fraction = digits(value, i + 1);
+      if (integer == 0 && fraction == 0) {
+        return null;
+      }
+      i += 1 + fraction;
+    } else if (integer == 0) {
+      return null;
+    }
+    return isExponent(value, i) ? Tag.FLOAT : null;
+  }
+
+  /**
+   * Check that the rest of the value is empty or [eE][-+]?[0-9]+
+   */
+  private static boolean isExponent(String value, int start) {
+    int length = value.length();
+    if (start == length) {
+      return true;
+    }
+    char e = value.charAt(start);
+    if (e != 'e' && e != 'E') {
+      return false;
+    }
+    int i = start + 1;
+    if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+      i++;
+    }
+    int exponent = digits(value, i);
+    return exponent > 0 && i + exponent == length;
+  }
+
+  /**
+   * JSON: true|false
+   */
+  static boolean isJsonBool(String value) {
+    return "true".equals(value) || "false".equals(value);
+  }
+
+  /**
+   * JSON: null (and the empty value)
+   */
+  static boolean isJsonNull(String value) {
+    return value.isEmpty() || "null".equals(value);
+  }
+
+  /**
+   * JSON: -?(0|[1-9][0-9]*) for INT and -?(0|[1-9][0-9]*)(\.[0-9]*)?([eE][-+]?[0-9]+)? | -?\.inf |
+   * \.nan for FLOAT
+   *
+   * @return INT, FLOAT or null if the value is not a number
+   */
+  static Tag jsonNumber(String value) {
+    int length = value.length();
+    int i = 0;
+    if (length > 0 && value.charAt(0) == '-') {
+      i++;
+    }
+    if (i == length) {
+      return null;
+    }
+    char first = value.charAt(i);
+    if (first == '.') {
+      boolean special = value.regionMatches(i + 1, "inf", 0, 3)
+          || (i == 0 && value.regionMatches(1, "nan", 0, 3));
+      return special && length == i + 4 ? Tag.FLOAT : null;
+    } else if (first == '0') {
+      i++;
+    } else if (first >= '1' && first <= '9') {
+      i += 1 + digits(value, i + 1);
+    } else {
+      return null;
+    }
+    if (i == length) {
+      return Tag.INT;
+    }
+    if (value.charAt(i) == '.') {
+      i += 1 + digits(value, i + 1);
+    }
+    return isExponent(value, i) ? Tag.FLOAT : null;
+  }
+
+  /**
+   * Parse the Core number in the same pass as it is recognized. The type of the integer is chosen
+   * as in ConstructYamlCoreInt (by the number of digits, then by the value).
+   *
+   * @return Integer, Long, BigInteger or Double, null if the value is not a number
+   */
+  static Number coreNumberValue(String value) {
+    int length = value.length();
+    if (length > 2 && value.charAt(0) == '0') {
+      char prefix = value.charAt(1);
+      if (prefix == 'o') {
+        return NumberParser.parseInteger(value, 2, false, 8, true);
+      } else if (prefix == 'x') {
+        return NumberParser.parseInteger(value, 2, false, 16, true);
+      }
+    }
+    int start = length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+') ? 1 : 0;
+    Number integer =
+        NumberParser.parseInteger(value, start, start == 1 && value.charAt(0) == '-', 10, true);
+    if (integer != null) {
+      return integer;
+    }
+    if (coreNumber(value) != Tag.FLOAT) {
+      return null;
+    }
+    if (value.charAt(start) == '.' && !isDigit(value.charAt(start + 1))) {
+      char name = value.charAt(start + 1);
+      if (name == 'n' || name == 'N') {
+        return Double.NaN;
+      }
+      return value.charAt(0) == '-' ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+    }
+    return parseDouble(value);
+  }
+
+  /**
+   * Parse the JSON number in the same pass as it is recognized.
+   *
+   * @return Integer, Long, BigInteger or Double, null if the value is not a number
+   */
+  static Number jsonNumberValue(String value) {
+    int length = value.length();
+    int start = length > 0 && value.charAt(0) == '-' ? 1 : 0;
+    if (length <= start + 1 || value.charAt(start) != '0') {
+      // no leading zeros
+      Number integer = NumberParser.parseInteger(value, start, start == 1, 10, false);
+      if (integer != null) {
+        return integer;
+      }
+    }
+    if (jsonNumber(value) != Tag.FLOAT) {
+      return null;
+    }
+    if (value.endsWith(".inf")) {
+      return start == 0 ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+    } else if (".nan".equals(value)) {
+      return Double.NaN;
+    }
+    return parseDouble(value);
+  }
+
+  /**
+   * Use the fast path when possible, the JDK otherwise
+   */
+  private static Double parseDouble(String value) {
+    Double parsed = NumberParser.parseDouble(value);
+    return parsed != null ? parsed : Double.valueOf(value);
+  }
+
+  private static boolean isWordChar(char c) {
+    return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+  }
+
+  private static boolean isSpace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
+
+  /**
+   * ${ NAME :?- VALUE } (the separator and the value are optional) as in
+   * {@link BaseScalarResolver#ENV_FORMAT}
+   */
+  static boolean isEnv(String value) {
+    int length = value.length();
+    if (length < 3 || value.charAt(0) != '$' || value.charAt(1) != '{'
+        || value.charAt(length - 1) != '}') {
+      return false;
+    }
+    int i = 2;
+    int end = length - 1;
+    while (i < end && isSpace(value.charAt(i))) {
+      i++;
+    }
+    while (end > i && isSpace(value.charAt(end - 1))) {
+      end--;
+    }
+    int name = i;
+    while (i < end && isWordChar(value.charAt(i))) {
+      i++;
+    }
+    if (i == name) {
+      return false;
+    }
+    if (i == end) {
+      return true;
+    }
+    if (value.charAt(i) == ':') {
+      i++;
+    }
+    if (i == end || (value.charAt(i) != '-' && value.charAt(i) != '?')) {
+      return false;
+    }
+    i++;
+    while (i < end && isWordChar(value.charAt(i))) {
+      i++;
+    }
+    return i == end;
+  }
+}
@@ -13,6 +13,7 @@
  */
 package org.snakeyaml.engine.v2.resolver;
 
+import org.snakeyaml.engine.v2.events.ImplicitTuple;
 import org.snakeyaml.engine.v2.nodes.Tag;
 
 /**
@@ -28,4 +29,30 @@ public interface ScalarResolver {
    * @return the Tag that matches the contents
    */
   Tag resolve(String value, Boolean implicit);
+
+  /**
+   * Recognize and parse the number of the schema in the same pass (the constructor does not need to
+   * parse the value again). It is only an optimization: when it returns null the tag is resolved by
+   * {@link #resolve(String, Boolean)}.
+   *
+   * @param value - the value of the implicit plain scalar
+   * @return Integer, Long or BigInteger (for INT), Double (for FLOAT) or null when the value is not
+   *         such a number or it is not supported by the resolver
+   */
+  default Number resolveNumber(String value) {
+    return null;
+  }
+
+  /**
+   * Check if the tag of the scalar may be omitted when the scalar is emitted in a plain style (the
+   * tag is resolved from the value) and in a non-plain style. The implementations which know how
+   * the non-plain scalars are resolved answer both in one pass.
+   *
+   * @param value - the value of the scalar node
+   * @param tag - the tag of the scalar node
+   * @return the implicit flag for the ScalarEvent
+   */
+  default ImplicitTuple resolveImplicit(String value, Tag tag) {
+    return ImplicitTuple.of(tag.equals(resolve(value, true)), tag.equals(resolve(value, false)));
+  }
 }
@@ -76,4 +76,11 @@ public interface Scanner extends Iterator<Token> {
    * Set the document index to 0 after a document end
    */
   void resetDocumentIndex();
+
+  /**
+   * Scan the rest of the collection which starts with the next token without the values of its
+   * scalars (they become empty). It is used when the collection is skipped, its tokens must not be
+   * used for anything else. The scanner may ignore it.
+   */
+  default void skipCollection() {}
 }
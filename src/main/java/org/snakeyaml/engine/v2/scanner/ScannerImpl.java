@@ -101,9 +101,9 @@ public final class ScannerImpl implements Scanner {
    */
   private static final Pattern NOT_HEXA = Pattern.compile("[^0-9A-Fa-f]");
 
-  private final StreamReader reader;
+  private StreamReader reader;
   // List of processed tokens that are not yet emitted.
-  private final List<Token> tokens;
+  private final TokenQueue tokens;
   // Past indentation levels.
   private final ArrayStack<Integer> indents;
   /*
@@ -126,6 +126,9 @@ public final class ScannerImpl implements Scanner {
   private int tokensTaken = 0;
   // The current indentation level.
   private int indent = -1;
+  // The number of the open collections of the skipped collection at the scanned position. While it
+  // is positive, the values of the scalars are not built.
+  private int skipDepth = 0;
   /**
    * <pre>
    * A simple key is a key not denoted by the '?' indicator.
@@ -159,13 +162,33 @@ public final class ScannerImpl implements Scanner {
   public ScannerImpl(LoadSettings settings, StreamReader reader) {
     this.reader = reader;
     this.settings = settings;
-    this.tokens = new ArrayList<>(100);
+    this.tokens = new TokenQueue(100);
     this.indents = new ArrayStack<>(10);
     // The order in possibleSimpleKeys is kept for nextPossibleSimpleKey()
     this.possibleSimpleKeys = new LinkedHashMap<>();
     fetchStreamStart();// Add the STREAM-START token.
   }
 
+  /**
+   * Point the scanner to the new input. The queue of the tokens and the stacks are reused.
+   *
+   * @param reader - the input
+   */
+  public void reset(StreamReader reader) {
+    this.reader = reader;
+    this.tokens.clear();
+    this.indents.clear();
+    this.possibleSimpleKeys.clear();
+    this.done = false;
+    this.flowLevel = 0;
+    this.lastToken = null;
+    this.tokensTaken = 0;
+    this.indent = -1;
+    this.skipDepth = 0;
+    this.allowSimpleKey = true;
+    fetchStreamStart();
+  }
+
   /**
    * Check whether the next token is the given type.
    */
@@ -175,7 +198,7 @@ public final class ScannerImpl implements Scanner {
       fetchMoreTokens();
     }
     if (!this.tokens.isEmpty()) {
-      return this.tokens.get(0).getTokenId() == choice;
+      return this.tokens.peek().getTokenId() == choice;
     }
     return false;
   }
@@ -194,7 +217,7 @@ public final class ScannerImpl implements Scanner {
       }
       // since the profiler puts this method on top (it is used a lot), we
       // should not use 'foreach' here because of the performance reasons
-      Token firstToken = this.tokens.get(0);
+      Token firstToken = this.tokens.peek();
       Token.ID first = firstToken.getTokenId();
       for (Token.ID choice : choices) {
         if (first == choice) {
@@ -212,7 +235,7 @@ public final class ScannerImpl implements Scanner {
     while (needMoreTokens()) {
       fetchMoreTokens();
     }
-    return this.tokens.get(0);
+    return this.tokens.peek();
   }
 
   @Override
@@ -228,15 +251,64 @@ public final class ScannerImpl implements Scanner {
     if (this.tokens.isEmpty()) {
       throw new NoSuchElementException("No more Tokens found.");
     } else {
-      return this.tokens.remove(0);
+      return this.tokens.poll();
+    }
+  }
+
+  /**
+   * The tokens of the collection are counted from the next token (which must start the collection).
+   * All the tokens which are added before the collection is closed belong to it, because the end
+   * tokens are added before the following token is scanned. When the collection is already scanned,
+   * nothing is skipped.
+   */
+  @Override
+  public void skipCollection() {
+    skipDepth = 0;
+    if (tokens.isEmpty() || nesting(tokens.peek()) <= 0) {
+      // nothing to count for an indentless sequence
+      return;
+    }
+    int depth = 0;
+    for (int i = 0; i < tokens.size(); i++) {
+      depth += nesting(tokens.get(i));
+      if (depth == 0) {
+        return;
+      }
     }
+    skipDepth = depth;
   }
 
   // Private methods.
 
+  /**
+   * @return 1 for the start of a collection, -1 for the end and 0 for other tokens
+   */
+  private static int nesting(Token token) {
+    switch (token.getTokenId()) {
+      case BlockMappingStart:
+      case BlockSequenceStart:
+      case FlowMappingStart:
+      case FlowSequenceStart:
+        return 1;
+      case BlockEnd:
+      case FlowMappingEnd:
+      case FlowSequenceEnd:
+        return -1;
+      default:
+        return 0;
+    }
+  }
+
+  private boolean isSkipping() {
+    return skipDepth > 0;
+  }
+
   private void addToken(Token token) {
     lastToken = token;
     this.tokens.add(token);
+    if (isSkipping()) {
+      skipDepth += nesting(token);
+    }
   }
 
   private void addToken(int index, Token token) {
@@ -244,11 +316,17 @@ public final class ScannerImpl implements Scanner {
       lastToken = token;
     }
     this.tokens.add(index, token);
+    if (isSkipping()) {
+      skipDepth += nesting(token);
+    }
   }
 
   private void addAllTokens(List<Token> tokens) {
     lastToken = tokens.get(tokens.size() - 1);
     this.tokens.addAll(tokens);
+    for (int i = 0; i < tokens.size() && isSkipping(); i++) {
+      skipDepth += nesting(tokens.get(i));
+    }
   }
 
   private boolean isBlockContext() {
@@ -419,7 +497,7 @@ public final class ScannerImpl implements Scanner {
         "found character '%s' that cannot start any token. (Do not use %s for indentation)",
         chRepresentation, chRepresentation);
     throw new ScannerException("while scanning for the next token", Optional.empty(), text,
-        reader.getMark());
+        reader.getSnippetMark());
   }
 
   // Simple keys treatment.
@@ -462,7 +540,7 @@ public final class ScannerImpl implements Scanner {
             // If the key was required, this implies an error
             // condition.
             throw new ScannerException("while scanning a simple key", key.getMark(),
-                "could not find expected ':'", reader.getMark());
+                "could not find expected ':'", reader.getSnippetMark());
           }
           iterator.remove();
         }
@@ -509,7 +587,7 @@ public final class ScannerImpl implements Scanner {
     SimpleKey key = possibleSimpleKeys.remove(flowLevel);
     if (key != null && key.isRequired()) {
       throw new ScannerException("while scanning a simple key", key.getMark(),
-          "could not find expected ':'", reader.getMark());
+          "could not find expected ':'", reader.getSnippetMark());
     }
   }
 
@@ -758,7 +836,7 @@ public final class ScannerImpl implements Scanner {
       // Are we allowed to start a new entry?
       if (!this.allowSimpleKey) {
         throw new ScannerException("", Optional.empty(), "sequence entries are not allowed here",
-            reader.getMark());
+            reader.getSnippetMark());
       }
 
       // We may need to add BLOCK-SEQUENCE-START.
@@ -792,7 +870,7 @@ public final class ScannerImpl implements Scanner {
     if (isBlockContext()) {
       // Are we allowed to start a key (not necessary a simple)?
       if (!this.allowSimpleKey) {
-        throw new ScannerException("mapping keys are not allowed here", reader.getMark());
+        throw new ScannerException("mapping keys are not allowed here", reader.getSnippetMark());
       }
       // We may need to add BLOCK-MAPPING-START.
       if (addIndent(this.reader.getColumn())) {
@@ -841,7 +919,8 @@ public final class ScannerImpl implements Scanner {
         // We are allowed to start a complex value if and only if we can
         // start a simple key.
         if (!this.allowSimpleKey) {
-          throw new ScannerException("mapping values are not allowed here", reader.getMark());
+          throw new ScannerException("mapping values are not allowed here",
+              reader.getSnippetMark());
         }
       }
 
@@ -1217,7 +1296,7 @@ public final class ScannerImpl implements Scanner {
       if (c == 0x7F) {
         // DEL character is not allowed in comments per YAML 1.2 c-printable
         throw new ScannerException("while scanning a comment", startMark,
-            "DEL character (0x7F) is not allowed in comments", reader.getMark());
+            "DEL character (0x7F) is not allowed in comments", reader.getSnippetMark());
       }
       length++;
     }
@@ -1274,14 +1353,14 @@ public final class ScannerImpl implements Scanner {
     if (length == 0) {
       final String s = String.valueOf(Character.toChars(c));
       throw new ScannerException(DIRECTIVE_PREFIX, startMark,
-          EXPECTED_ALPHA_ERROR_PREFIX + s + "(" + c + ")", reader.getMark());
+          EXPECTED_ALPHA_ERROR_PREFIX + s + "(" + c + ")", reader.getSnippetMark());
     }
     String value = reader.prefixForward(length);
     c = reader.peek();
     if (CharConstants.NULL_BL_LINEBR.hasNo(c)) {
       final String s = String.valueOf(Character.toChars(c));
       throw new ScannerException(DIRECTIVE_PREFIX, startMark,
-          EXPECTED_ALPHA_ERROR_PREFIX + s + "(" + c + ")", reader.getMark());
+          EXPECTED_ALPHA_ERROR_PREFIX + s + "(" + c + ")", reader.getSnippetMark());
     }
     return value;
   }
@@ -1296,7 +1375,7 @@ public final class ScannerImpl implements Scanner {
     if (c != '.') {
       final String s = String.valueOf(Character.toChars(c));
       throw new ScannerException(DIRECTIVE_PREFIX, startMark,
-          "expected a digit or '.', but found " + s + "(" + c + ")", reader.getMark());
+          "expected a digit or '.', but found " + s + "(" + c + ")", reader.getSnippetMark());
     }
     reader.forward();
     Integer minor = scanYamlDirectiveNumber(startMark);
@@ -1304,7 +1383,7 @@ public final class ScannerImpl implements Scanner {
     if (CharConstants.NULL_BL_LINEBR.hasNo(c)) {
       final String s = String.valueOf(Character.toChars(c));
       throw new ScannerException(DIRECTIVE_PREFIX, startMark,
-          "expected a digit or ' ', but found " + s + "(" + c + ")", reader.getMark());
+          "expected a digit or ' ', but found " + s + "(" + c + ")", reader.getSnippetMark());
     }
     List<Integer> result = new ArrayList<>(2);
     result.add(major);
@@ -1322,7 +1401,7 @@ public final class ScannerImpl implements Scanner {
     if (!Character.isDigit(c)) {
       final String s = String.valueOf(Character.toChars(c));
       throw new ScannerException(DIRECTIVE_PREFIX, startMark,
-          "expected a digit, but found " + s + "(" + (c) + ")", reader.getMark());
+          "expected a digit, but found " + s + "(" + (c) + ")", reader.getSnippetMark());
     }
     int length = 0;
     while (Character.isDigit(reader.peek(length))) {
@@ -1331,7 +1410,8 @@ public final class ScannerImpl implements Scanner {
     String number = reader.prefixForward(length);
     if (length > 3) {
       throw new ScannerException("while scanning a YAML directive", startMark,
-          "found a number which cannot represent a valid version: " + number, reader.getMark());
+          "found a number which cannot represent a valid version: " + number,
+          reader.getSnippetMark());
     }
     return Integer.parseInt(number);
   }
@@ -1376,7 +1456,7 @@ public final class ScannerImpl implements Scanner {
     if (c != ' ') {
       final String s = String.valueOf(Character.toChars(c));
       throw new ScannerException(DIRECTIVE_PREFIX, startMark,
-          "expected ' ', but found " + s + "(" + c + ")", reader.getMark());
+          "expected ' ', but found " + s + "(" + c + ")", reader.getSnippetMark());
     }
     return value;
   }
@@ -1391,7 +1471,7 @@ public final class ScannerImpl implements Scanner {
     if (CharConstants.NULL_BL_LINEBR.hasNo(c)) {
       final String s = String.valueOf(Character.toChars(c));
       throw new ScannerException(DIRECTIVE_PREFIX, startMark,
-          "expected ' ', but found " + s + "(" + c + ")", reader.getMark());
+          "expected ' ', but found " + s + "(" + c + ")", reader.getSnippetMark());
     }
     return value;
   }
@@ -1412,7 +1492,8 @@ public final class ScannerImpl implements Scanner {
     if (scanLineBreak().isEmpty() && c != 0) {
       final String s = String.valueOf(Character.toChars(c));
       throw new ScannerException(DIRECTIVE_PREFIX, startMark,
-          "expected a comment or a line break, but found " + s + "(" + c + ")", reader.getMark());
+          "expected a comment or a line break, but found " + s + "(" + c + ")",
+          reader.getSnippetMark());
     }
     return commentToken;
   }
@@ -1448,14 +1529,14 @@ public final class ScannerImpl implements Scanner {
     if (length == 0) {
       final String s = String.valueOf(Character.toChars(c));
       throw new ScannerException("while scanning an " + name, startMark,
-          "unexpected character found " + s + "(" + c + ")", reader.getMark());
+          "unexpected character found " + s + "(" + c + ")", reader.getSnippetMark());
     }
     String value = reader.prefixForward(length);
     c = reader.peek();
     if (CharConstants.NULL_BL_T_LINEBR.hasNo(c, "?:,]}%@`")) {
       final String s = String.valueOf(Character.toChars(c));
       throw new ScannerException("while scanning an " + name, startMark,
-          "unexpected character found " + s + "(" + c + ")", reader.getMark());
+          "unexpected character found " + s + "(" + c + ")", reader.getSnippetMark());
     }
     Optional<Mark> endMark = reader.getMark();
     Token tok;
@@ -1504,7 +1585,7 @@ public final class ScannerImpl implements Scanner {
         // URI and the closing &gt;, then an error has occurred.
         final String s = String.valueOf(Character.toChars(c));
         throw new ScannerException("while scanning a tag", startMark,
-            "expected '>', but found '" + s + "' (" + c + ")", reader.getMark());
+            "expected '>', but found '" + s + "' (" + c + ")", reader.getSnippetMark());
       }
       reader.forward();
     } else if (CharConstants.NULL_BL_T_LINEBR.has(c)) {
@@ -1543,7 +1624,7 @@ public final class ScannerImpl implements Scanner {
     if (CharConstants.NULL_BL_LINEBR.hasNo(c)) {
       final String s = String.valueOf(Character.toChars(c));
       throw new ScannerException("while scanning a tag", startMark,
-          "expected ' ', but found '" + s + "' (" + (c) + ")", reader.getMark());
+          "expected ' ', but found '" + s + "' (" + (c) + ")", reader.getSnippetMark());
     }
     TagTuple value = new TagTuple(Optional.ofNullable(handle), suffix);
     Optional<Mark> endMark = reader.getMark();
@@ -1599,11 +1680,15 @@ public final class ScannerImpl implements Scanner {
         if (c == 0x7F) {
           // DEL character is not allowed in block scalars per YAML 1.2 c-printable
           throw new ScannerException(SCANNING_SCALAR, startMark,
-              "DEL character (0x7F) is not allowed in block scalars", reader.getMark());
+              "DEL character (0x7F) is not allowed in block scalars", reader.getSnippetMark());
         }
         length++;
       }
-      stringBuilder.append(reader.prefixForward(length));
+      if (isSkipping()) {
+        reader.skipForward(length);
+      } else {
+        stringBuilder.append(reader.prefixForward(length));
+      }
       lineBreakOpt = scanLineBreak();
       if (lineBreakOpt.isEmpty() && reader.peek() == 0) {
         // Per the YAML spec, if the stream ends without a final line break, one is assumed.
@@ -1639,8 +1724,8 @@ public final class ScannerImpl implements Scanner {
       stringBuilder.append(breaks);
     }
     // We are done.
-    ScalarToken scalarToken =
-        new ScalarToken(stringBuilder.toString(), false, style, startMark, endMark);
+    String value = isSkipping() ? "" : stringBuilder.toString();
+    ScalarToken scalarToken = new ScalarToken(value, false, style, startMark, endMark);
     return makeTokenList(commentToken, scalarToken);
   }
 
@@ -1668,7 +1753,8 @@ public final class ScannerImpl implements Scanner {
         int incr = Integer.parseInt(String.valueOf(Character.toChars(c)));
         if (incr == 0) {
           throw new ScannerException(SCANNING_SCALAR, startMark,
-              "expected indentation indicator in the range 1-9, but found 0", reader.getMark());
+              "expected indentation indicator in the range 1-9, but found 0",
+              reader.getSnippetMark());
         }
         increment = Optional.of(incr);
         reader.forward();
@@ -1677,7 +1763,8 @@ public final class ScannerImpl implements Scanner {
       int incr = Integer.parseInt(String.valueOf(Character.toChars(c)));
       if (incr == 0) {
         throw new ScannerException(SCANNING_SCALAR, startMark,
-            "expected indentation indicator in the range 1-9, but found 0", reader.getMark());
+            "expected indentation indicator in the range 1-9, but found 0",
+            reader.getSnippetMark());
       }
       increment = Optional.of(incr);
       reader.forward();
@@ -1692,7 +1779,7 @@ public final class ScannerImpl implements Scanner {
       final String s = String.valueOf(Character.toChars(c));
       throw new ScannerException(SCANNING_SCALAR, startMark,
           "expected chomping or indentation indicators, but found " + s + "(" + c + ")",
-          reader.getMark());
+          reader.getSnippetMark());
     }
     return new Chomping(indicator, increment);
   }
@@ -1720,7 +1807,8 @@ public final class ScannerImpl implements Scanner {
     if (!scanLineBreak().isPresent() && c != 0) {
       final String s = String.valueOf(Character.toChars(c));
       throw new ScannerException(SCANNING_SCALAR, startMark,
-          "expected a comment or a line break, but found " + s + "(" + c + ")", reader.getMark());
+          "expected a comment or a line break, but found " + s + "(" + c + ")",
+          reader.getSnippetMark());
     }
     return commentToken;
   }
@@ -1760,7 +1848,7 @@ public final class ScannerImpl implements Scanner {
       throw new ScannerException(
           "while scanning a block scalar", endMark, " the leading empty lines contain more spaces ("
               + maxIndentOnEmptyLine + ") than the first non-empty line (" + indent + ").",
-          reader.getMark());
+          reader.getSnippetMark());
     }
     // Pass several results back together
     return new BreakIntentHolder(chunks.toString(), indent, endMark);
@@ -1824,7 +1912,8 @@ public final class ScannerImpl implements Scanner {
     }
     reader.forward();
     Optional<Mark> endMark = reader.getMark();
-    return new ScalarToken(chunks.toString(), false, style, startMark, endMark);
+    String value = isSkipping() ? "" : chunks.toString();
+    return new ScalarToken(value, false, style, startMark, endMark);
   }
 
   /**
@@ -1841,7 +1930,11 @@ public final class ScannerImpl implements Scanner {
         length++;
       }
       if (length != 0) {
-        chunks.append(reader.prefixForward(length));
+        if (isSkipping()) {
+          reader.skipForward(length);
+        } else {
+          chunks.append(reader.prefixForward(length));
+        }
       }
       // Depending on our quoting-type, the characters ', " and \ have
       // differing meanings.
@@ -1870,7 +1963,7 @@ public final class ScannerImpl implements Scanner {
           if (NOT_HEXA.matcher(hex).find()) {
             throw new ScannerException("while scanning a double-quoted scalar", startMark,
                 "expected escape sequence of " + length + " hexadecimal numbers, but found: " + hex,
-                reader.getMark());
+                reader.getSnippetMark());
           }
           int decimal = Integer.parseInt(hex, 16);
           try {
@@ -1878,7 +1971,7 @@ public final class ScannerImpl implements Scanner {
             reader.forward(length);
           } catch (IllegalArgumentException e) {
             throw new ScannerException("while scanning a double-quoted scalar", startMark,
-                "found unknown escape character " + hex, reader.getMark());
+                "found unknown escape character " + hex, reader.getSnippetMark());
           }
         } else if ('\t' == c) {
           // https://yaml.org/spec/1.2.2/#57-escaped-characters
@@ -1892,7 +1985,7 @@ public final class ScannerImpl implements Scanner {
         } else {
           final String s = String.valueOf(Character.toChars(c));
           throw new ScannerException("while scanning a double-quoted scalar", startMark,
-              "found unknown escape character " + s + "(" + c + ")", reader.getMark());
+              "found unknown escape character " + s + "(" + c + ")", reader.getSnippetMark());
         }
       } else {
         return;
@@ -1913,7 +2006,7 @@ public final class ScannerImpl implements Scanner {
     if (c == 0) {
       // A flow scalar cannot end with an end-of-stream
       throw new ScannerException("while scanning a quoted scalar", startMark,
-          "found unexpected end of stream", reader.getMark());
+          "found unexpected end of stream", reader.getSnippetMark());
     }
     // If we encounter a line break, scan it into our assembled string...
     Optional<String> lineBreakOpt = scanLineBreak();
@@ -1940,7 +2033,7 @@ public final class ScannerImpl implements Scanner {
       if (("---".equals(prefix) || "...".equals(prefix))
           && CharConstants.NULL_BL_T_LINEBR.has(reader.peek(3))) {
         throw new ScannerException("while scanning a quoted scalar", startMark,
-            "found unexpected document separator", reader.getMark());
+            "found unexpected document separator", reader.getSnippetMark());
       }
       // Scan past any number of spaces and tabs, ignoring them
       while (" \t".indexOf(reader.peek()) != -1) {
@@ -1982,7 +2075,7 @@ public final class ScannerImpl implements Scanner {
         if (c == 0x7F) {
           // DEL character is not allowed in plain scalars per YAML 1.2 c-printable
           throw new ScannerException("while scanning a plain scalar", startMark,
-              "DEL character (0x7F) is not allowed in plain scalars", reader.getMark());
+              "DEL character (0x7F) is not allowed in plain scalars", reader.getSnippetMark());
         }
         if (CharConstants.NULL_BL_T_LINEBR.has(c) || (c == ':' && CharConstants.NULL_BL_T_LINEBR
             .has(reader.peek(length + 1), isFlowContext() ? ",[]{}" : ""))
@@ -1995,8 +2088,12 @@ public final class ScannerImpl implements Scanner {
         break;
       }
       this.allowSimpleKey = false;
-      chunks.append(spaces);
-      chunks.append(reader.prefixForward(length));
+      if (isSkipping()) {
+        reader.skipForward(length);
+      } else {
+        chunks.append(spaces);
+        chunks.append(reader.prefixForward(length));
+      }
       endMark = reader.getMark();
       spaces = scanPlainSpaces();
       if (spaces.isEmpty() || reader.peek() == '#'
@@ -2124,7 +2221,7 @@ public final class ScannerImpl implements Scanner {
     if (c != '!') {
       final String s = String.valueOf(Character.toChars(c));
       throw new ScannerException(SCANNING_PREFIX + name, startMark,
-          "expected '!', but found " + s + "(" + (c) + ")", reader.getMark());
+          "expected '!', but found " + s + "(" + (c) + ")", reader.getSnippetMark());
     }
     // Look for the next '!' in the stream, stopping if we hit a
     // non-word-character. If the first character is a space, then the
@@ -2147,7 +2244,7 @@ public final class ScannerImpl implements Scanner {
         reader.forward(length);
         final String s = String.valueOf(Character.toChars(c));
         throw new ScannerException(SCANNING_PREFIX + name, startMark,
-            "expected '!', but found " + s + "(" + (c) + ")", reader.getMark());
+            "expected '!', but found " + s + "(" + (c) + ")", reader.getSnippetMark());
       }
       length++;
     }
@@ -2190,7 +2287,7 @@ public final class ScannerImpl implements Scanner {
       // If no URI was found, an error has occurred.
       final String s = String.valueOf(Character.toChars(c));
       throw new ScannerException(SCANNING_PREFIX + name, startMark,
-          "expected URI, but found " + s + "(" + (c) + ")", reader.getMark());
+          "expected URI, but found " + s + "(" + (c) + ")", reader.getSnippetMark());
     }
     return chunks.toString();
   }
@@ -2230,7 +2327,7 @@ public final class ScannerImpl implements Scanner {
         throw new ScannerException(SCANNING_PREFIX + name, startMark,
             "expected URI escape sequence of 2 hexadecimal numbers, but found " + s1 + "(" + c1
                 + ") and " + s2 + "(" + c2 + ")",
-            reader.getMark());
+            reader.getSnippetMark());
       }
       reader.forward(2);
     }
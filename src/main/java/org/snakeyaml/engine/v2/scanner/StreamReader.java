@@ -13,12 +13,23 @@
  */
 package org.snakeyaml.engine.v2.scanner;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.io.SequenceInputStream;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.Optional;
 import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.api.YamlUnicodeReader;
 import org.snakeyaml.engine.v2.common.CharConstants;
 import org.snakeyaml.engine.v2.exceptions.Mark;
 import org.snakeyaml.engine.v2.exceptions.ReaderException;
@@ -27,20 +38,97 @@ import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
 /**
  * Read the provided stream of code points into String and implement look-ahead operations. Checks
  * if code points are in the allowed range.
+ * <p>
+ * By default, the window with the unconsumed code points is re-allocated on every read from the
+ * stream (the marks may then keep the old windows). When {@link LoadSettings#getUseRingBuffer()} is
+ * set, a circular window is re-used instead (its size is a power of two and it grows only when a
+ * single look-ahead does not fit into it).
+ * <p>
+ * When {@link LoadSettings#getUseCompactWindow()} is set, the window keeps the code points as bytes
+ * while they are below U+0100 (similar to the compact strings in JDK). It is inflated to int[] only
+ * when a wider code point is read, and it is deflated back when all the wide code points are gone.
+ * <p>
+ * UTF-8 input from an {@link InputStream} is decoded directly into code points (without the
+ * intermediate chars). Other encodings (detected by the BOM) are decoded by
+ * {@link YamlUnicodeReader}.
  */
 public final class StreamReader {
 
+  /**
+   * The number of code points around the current position to be copied into a {@link Mark} when the
+   * circular window is used (the window itself cannot be shared because it is overwritten)
+   */
+  private static final int MARK_CONTEXT = 64;
+  /**
+   * The maximum size of the file region mapped into memory at once
+   */
+  private static final int MAPPED_REGION = 1 << 30;
+
   private final String name;
-  private final Reader stream;
+  private final int bufferSize;
+  private Reader stream;
   // temp buffer for one read operation (to avoid creating the array in stack)
-  private final char[] buffer;
+  private char[] buffer;
+  /**
+   * UTF-8 input (null when the input is decoded by the Reader)
+   */
+  private InputStream byteStream;
+  /**
+   * UTF-8 file which is mapped into memory (null unless the input is a file)
+   */
+  private Path path;
+  /**
+   * The maximum size of one mapped region of the file
+   */
+  private int mappedRegion = MAPPED_REGION;
+  /**
+   * The position in the file after the last mapped region
+   */
+  private long mappedEnd;
+  /**
+   * True when the Reader is created here (and it must be closed at the end)
+   */
+  private boolean closeStream;
+  /**
+   * UTF-8 data which is not yet decoded (null when the input is decoded by the Reader)
+   */
+  private ByteBuffer bytes;
+  /**
+   * True until the BOM of the byteStream is checked
+   */
+  private boolean checkBom;
+  /**
+   * True when the end of the byteStream is reached (the bytes may still have the data to decode)
+   */
+  private boolean bytesEnded;
   private final boolean useMarks;
+  private final boolean ringBuffer;
+  private final boolean compactWindow;
+  private final boolean compactMarks;
+  /**
+   * The number of the consumed code points to keep in the circular window (for the marks)
+   */
+  private final int ringReserve;
   /**
-   * Read data (as a moving window for the input stream)
+   * Read data (as a moving window for the input stream). It is null while the latin1Window is used
    */
   private int[] codePointsWindow;
   /**
-   * Real length of the data in the codePointsWindow
+   * Read data when all the code points in the window are below U+0100 (only for the compact window)
+   */
+  private byte[] latin1Window;
+  /**
+   * The index (from the beginning of the stream) of the last code point above U+00FF
+   */
+  private int lastWideIndex = -1;
+  /**
+   * The mask to get the position in the window. It is -1 (no wrapping) unless the circular window
+   * is used
+   */
+  private int mask;
+  /**
+   * Real length of the data in the codePointsWindow (for the circular window it may exceed the
+   * length of the array, the position in the array is always taken with the mask)
    */
   private int dataLength;
   /**
@@ -67,14 +155,66 @@ public final class StreamReader {
    * @param reader - the input
    */
   public StreamReader(LoadSettings loadSettings, Reader reader) {
+    this(loadSettings);
+    this.stream = reader;
+    // read one less because the last char may be HighSurrogate
+    this.buffer = new char[bufferSize + 1];
+  }
+
+  /**
+   * Create an instance to read the stream of bytes. The BOM is respected to detect the encoding
+   * (and it is removed from the data). UTF-8 is decoded directly without an intermediate Reader.
+   *
+   * @param loadSettings - configuration options
+   * @param stream - the input
+   */
+  public StreamReader(LoadSettings loadSettings, InputStream stream) {
+    this(loadSettings);
+    this.byteStream = stream;
+    // the incomplete UTF-8 sequence (up to 3 bytes) is kept for the next read
+    this.bytes = ByteBuffer.allocate(bufferSize + 3);
+    this.bytes.flip();
+    this.checkBom = true;
+  }
+
+  /**
+   * Create an instance to read the file. The file is mapped into memory (in regions up to 1 GiB)
+   * and UTF-8 is decoded from the mapped bytes without copying. The BOM is respected to detect the
+   * encoding (and it is removed from the data). The file is opened only to map the next region.
+   *
+   * @param loadSettings - configuration options
+   * @param path - the input
+   */
+  public StreamReader(LoadSettings loadSettings, Path path) {
+    this(loadSettings, path, MAPPED_REGION);
+  }
+
+  StreamReader(LoadSettings loadSettings, Path path, int mappedRegion) {
+    this(loadSettings);
+    this.path = path;
+    // the incomplete UTF-8 sequence (up to 3 bytes) must fit into the next region
+    this.mappedRegion = Math.max(mappedRegion, 4);
+    this.bytes = ByteBuffer.allocate(0);
+    this.checkBom = true;
+  }
+
+  private StreamReader(LoadSettings loadSettings) {
     this.name = loadSettings.getLabel();
-    this.codePointsWindow = new int[0];
+    this.bufferSize = loadSettings.getBufferSize();
     this.dataLength = 0;
-    this.stream = reader;
     this.eof = false;
-    // read one less because the last char may be HighSurrogate
-    this.buffer = new char[loadSettings.getBufferSize() + 1];
     this.useMarks = loadSettings.getUseMarks();
+    this.ringBuffer = loadSettings.getUseRingBuffer();
+    this.ringReserve = useMarks ? MARK_CONTEXT : 0;
+    this.compactWindow = loadSettings.getUseCompactWindow();
+    this.compactMarks = loadSettings.getUseCompactMarks();
+    int capacity = ringBuffer ? ringCapacityFor(bufferSize + 1 + ringReserve) : 0;
+    if (compactWindow) {
+      this.latin1Window = new byte[capacity];
+    } else {
+      this.codePointsWindow = new int[capacity];
+    }
+    this.mask = ringBuffer ? capacity - 1 : -1;
   }
 
   /**
@@ -87,6 +227,96 @@ public final class StreamReader {
     this(loadSettings, new StringReader(stream));
   }
 
+  /**
+   * Point the instance to the new input. The read buffer and the circular window are reused (the
+   * Marks which are already created keep their own data).
+   *
+   * @param reader - the input
+   */
+  public void reset(Reader reader) {
+    resetState();
+    this.stream = reader;
+    if (buffer == null) {
+      this.buffer = new char[bufferSize + 1];
+    }
+  }
+
+  /**
+   * Point the instance to the new input. The buffers are reused.
+   *
+   * @param stream - the input
+   */
+  public void reset(String stream) {
+    reset(new StringReader(stream));
+  }
+
+  /**
+   * Point the instance to the new stream of bytes. The buffers are reused.
+   *
+   * @param stream - the input
+   */
+  public void reset(InputStream stream) {
+    resetState();
+    this.byteStream = stream;
+    if (bytes == null || !bytes.hasArray() || bytes.capacity() != bufferSize + 3) {
+      this.bytes = ByteBuffer.allocate(bufferSize + 3);
+    }
+    this.bytes.clear();
+    this.bytes.flip();
+    this.checkBom = true;
+  }
+
+  /**
+   * Point the instance to the new file. The window is reused.
+   *
+   * @param path - the input
+   */
+  public void reset(Path path) {
+    resetState();
+    this.path = path;
+    this.bytes = ByteBuffer.allocate(0);
+    this.checkBom = true;
+  }
+
+  private void resetState() {
+    if (closeStream) {
+      try {
+        stream.close();
+      } catch (IOException e) {
+        throw new YamlEngineException(e);
+      }
+    }
+    stream = null;
+    byteStream = null;
+    path = null;
+    if (bytes != null && !bytes.hasArray()) {
+      // do not keep the mapped region of the previous file
+      bytes = null;
+    }
+    mappedEnd = 0;
+    closeStream = false;
+    checkBom = false;
+    bytesEnded = false;
+    if (!ringBuffer) {
+      // the window is copied by every read, it may be kept by the Marks
+      if (compactWindow) {
+        latin1Window = new byte[0];
+        codePointsWindow = null;
+      } else {
+        codePointsWindow = new int[0];
+        latin1Window = null;
+      }
+    }
+    lastWideIndex = -1;
+    dataLength = 0;
+    pointer = 0;
+    eof = false;
+    index = 0;
+    documentIndex = 0;
+    line = 0;
+    column = 0;
+  }
+
   /**
    * Check if all the data is human-readable (used in Representer)
    *
@@ -124,14 +354,77 @@ public final class StreamReader {
    * @return {@link Mark} of the current position or empty {@link Optional} otherwise
    */
   public Optional<Mark> getMark() {
-    if (useMarks) {
+    if (useMarks && compactMarks) {
+      return Optional.of(new Mark(name, this.index, this.line, this.column));
+    }
+    return getSnippetMark();
+  }
+
+  /**
+   * Generate {@link Mark} with the snippet of the data even if the compact marks are configured. It
+   * is used to create the exceptions.
+   *
+   * @return current position with the data or empty if the marks are not used
+   */
+  public Optional<Mark> getSnippetMark() {
+    if (!useMarks) {
+      return Optional.empty();
+    } else if (ringBuffer) {
+      return Optional.of(createRingMark());
+    } else if (latin1Window != null) {
+      return Optional
+          .of(new Mark(name, this.index, this.line, this.column, this.latin1Window, this.pointer));
+    } else {
       return Optional.of(
           new Mark(name, this.index, this.line, this.column, this.codePointsWindow, this.pointer));
+    }
+  }
+
+  /**
+   * Get the code point from the window
+   *
+   * @param position - the position in the window (the mask is applied)
+   * @return the code point
+   */
+  private int codePointAt(int position) {
+    if (latin1Window != null) {
+      return latin1Window[position & mask] & 0xFF;
     } else {
-      return Optional.empty();
+      return codePointsWindow[position & mask];
     }
   }
 
+  private int windowLength() {
+    return latin1Window != null ? latin1Window.length : codePointsWindow.length;
+  }
+
+  /**
+   * The circular window is overwritten by the next reads. Copy the current line (limited to
+   * MARK_CONTEXT code points in both directions) to create the snippet later.
+   *
+   * @return the Mark with its own copy of the data
+   */
+  private Mark createRingMark() {
+    int after = 0;
+    while (after < MARK_CONTEXT && CharConstants.NULL_OR_LINEBR.hasNo(peek(after))) {
+      after++;
+    }
+    // how many consumed code points are still present in the window
+    int validBefore = Math.min(index, windowLength() - (dataLength - pointer));
+    int before = 0;
+    while (before < Math.min(validBefore, MARK_CONTEXT)
+        && CharConstants.NULL_OR_LINEBR.hasNo(codePointAt(pointer - before - 1))) {
+      before++;
+    }
+    int start = pointer - before;
+    int end = pointer + after;
+    int[] snippet = new int[end - start];
+    for (int i = 0; i < snippet.length; i++) {
+      snippet[i] = codePointAt(start + i);
+    }
+    return new Mark(name, this.index, this.line, this.column, snippet, pointer - start);
+  }
+
   /**
    * Read the next character and move the pointer. If the last character is high surrogate, one more
    * character will be read
@@ -148,11 +441,11 @@ public final class StreamReader {
    */
   public void forward(int length) {
     for (int i = 0; i < length && ensureEnoughData(); i++) {
-      int c = codePointsWindow[pointer++];
+      int c = codePointAt(pointer++);
       moveIndices(1);
       if (CharConstants.LINEBR.has(c)
           // do not count CR if it is followed by LF
-          || (c == '\r' && (ensureEnoughData() && codePointsWindow[pointer] != '\n'))) {
+          || (c == '\r' && (ensureEnoughData() && codePointAt(pointer) != '\n'))) {
         this.line++;
         this.column = 0;
       } else if (c != 0xFEFF) {
@@ -167,7 +460,7 @@ public final class StreamReader {
    * @return the next code point or 0 if empty
    */
   public int peek() {
-    return (ensureEnoughData()) ? codePointsWindow[pointer] : 0;
+    return (ensureEnoughData()) ? codePointAt(pointer) : 0;
   }
 
   /**
@@ -177,7 +470,7 @@ public final class StreamReader {
    * @return the next index-th code point or 0 if empty
    */
   public int peek(int index) {
-    return (ensureEnoughData(index)) ? codePointsWindow[pointer + index] : 0;
+    return (ensureEnoughData(index)) ? codePointAt(pointer + index) : 0;
   }
 
   /**
@@ -190,9 +483,28 @@ public final class StreamReader {
     if (length == 0) {
       return "";
     } else if (ensureEnoughData(length)) {
-      return new String(this.codePointsWindow, pointer, length);
+      return stringFromWindow(length);
     } else {
-      return new String(this.codePointsWindow, pointer, Math.min(length, dataLength - pointer));
+      return stringFromWindow(Math.min(length, dataLength - pointer));
+    }
+  }
+
+  private String stringFromWindow(int length) {
+    int start = pointer & mask;
+    int tail = windowLength() - start;
+    if (length <= tail) {
+      return stringFromWindow(start, length);
+    } else {
+      // the circular window wraps around
+      return stringFromWindow(start, tail) + stringFromWindow(0, length - tail);
+    }
+  }
+
+  private String stringFromWindow(int start, int length) {
+    if (latin1Window != null) {
+      return new String(this.latin1Window, start, length, StandardCharsets.ISO_8859_1);
+    } else {
+      return new String(this.codePointsWindow, start, length);
     }
   }
 
@@ -211,20 +523,32 @@ public final class StreamReader {
     return prefix;
   }
 
+  /**
+   * prefixForward(length) without creating the String. It is used when the value is not needed.
+   *
+   * @param length number of the characters to skip (they must not contain line breaks)
+   */
+  public void skipForward(int length) {
+    ensureEnoughData(length);
+    this.pointer += length;
+    moveIndices(length);
+    this.column += length;
+  }
+
   private boolean ensureEnoughData() {
     return ensureEnoughData(0);
   }
 
   /**
    * Ensures that there is enough data available in the buffer for the specified size. If the
-   * current buffer does not contain enough data and the end of the stream has not been reached, an
-   * update is triggered to read more data into the buffer.
+   * current buffer does not contain enough data and the end of the stream has not been reached, the
+   * updates are triggered to read more data into the buffer.
    *
    * @param size the required amount of data to check for in the buffer
    * @return true if there is enough data available in the buffer, false otherwise
    */
   private boolean ensureEnoughData(int size) {
-    if (!eof && pointer + size >= dataLength) {
+    while (!eof && pointer + size >= dataLength) {
       update();
     }
     return (this.pointer + size) < dataLength;
@@ -238,21 +562,148 @@ public final class StreamReader {
    */
   private void update() {
     try {
-      // Read one less to ensure space for a potential high surrogate extension
-      int read = stream.read(buffer, 0, buffer.length - 1);
-      if (read <= 0) {
-        eof = true;
-        return;
+      if (stream == null) {
+        updateFromBytes();
+      } else {
+        updateFromChars();
       }
-      int cpIndex = prepareWindowFor(read);
-      read = extendIfTrailingHighSurrogate(read);
-      dataLength = transcodeAndValidateToWindow(read, cpIndex);
-      pointer = 0;
     } catch (IOException ioe) {
       throw new YamlEngineException(ioe);
     }
   }
 
+  private void updateFromChars() throws IOException {
+    // Read one less to ensure space for a potential high surrogate extension
+    int read = stream.read(buffer, 0, ringBuffer ? Math.min(bufferSize, ringFree()) : bufferSize);
+    if (read <= 0) {
+      eof = true;
+      if (closeStream) {
+        stream.close();
+      }
+      return;
+    }
+    int cpIndex = ringBuffer ? prepareRingFor() : prepareWindowFor(read);
+    read = extendIfTrailingHighSurrogate(read);
+    dataLength = transcodeAndValidateToWindow(read, cpIndex);
+  }
+
+  /**
+   * Read the next portion of the UTF-8 input and decode it into the window. There is at most one
+   * code point for every byte.
+   */
+  private void updateFromBytes() throws IOException {
+    if (!bytesEnded && !readBytes()) {
+      // the input is not UTF-8, it is already read via the Reader
+      return;
+    }
+    if (!bytes.hasRemaining()) {
+      eof = true;
+      return;
+    }
+    int free = ringBuffer ? ringFree() : bufferSize;
+    int limit = Math.min(free, bytes.remaining());
+    int cpIndex = ringBuffer ? prepareRingFor() : prepareWindowFor(limit);
+    dataLength = decodeAndValidateToWindow(limit, cpIndex);
+    if (dataLength == cpIndex && bytesEnded) {
+      // the incomplete UTF-8 sequence at the end of the stream
+      throw new YamlEngineException(new MalformedInputException(bytes.remaining()));
+    }
+  }
+
+  /**
+   * Read from the byteStream. The undecoded bytes (the incomplete UTF-8 sequence) are kept.
+   *
+   * @return false when the input is not UTF-8 and it is already read via the Reader
+   */
+  private boolean readBytes() throws IOException {
+    if (path != null) {
+      return mapBytes();
+    }
+    bytes.compact();
+    int read;
+    if (checkBom) {
+      // read at least 4 bytes to check the BOM
+      read = 0;
+      int chunk = 0;
+      while (read < 4 && chunk != -1) {
+        chunk = byteStream.read(bytes.array(), read, bytes.capacity() - read);
+        read += Math.max(chunk, 0);
+      }
+      bytesEnded = chunk == -1;
+    } else {
+      read = byteStream.read(bytes.array(), bytes.position(), bytes.remaining());
+      bytesEnded = read == -1;
+    }
+    bytes.position(bytes.position() + Math.max(read, 0));
+    bytes.flip();
+    if (checkBom) {
+      checkBom = false;
+      return skipUtf8Bom();
+    }
+    return true;
+  }
+
+  /**
+   * Map the next region of the file. The region starts with the undecoded bytes (the incomplete
+   * UTF-8 sequence) of the current region.
+   *
+   * @return false when the input is not UTF-8 and it is already read via the Reader
+   */
+  private boolean mapBytes() throws IOException {
+    if (bytes.remaining() >= 4) {
+      // the current region is not decoded yet
+      return true;
+    }
+    long position = mappedEnd - bytes.remaining();
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      long size = Math.min(channel.size() - position, mappedRegion);
+      bytes = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+      mappedEnd = position + size;
+      bytesEnded = mappedEnd >= channel.size();
+    }
+    if (checkBom) {
+      checkBom = false;
+      return skipUtf8Bom();
+    }
+    return true;
+  }
+
+  /**
+   * Skip the UTF-8 BOM. If the BOM indicates another encoding, switch to the YamlUnicodeReader
+   *
+   * @return false when the input is not UTF-8 and it is already read via the Reader
+   */
+  private boolean skipUtf8Bom() throws IOException {
+    int length = bytes.remaining();
+    int b0 = length > 0 ? bytes.get(0) & 0xFF : -1;
+    int b1 = length > 1 ? bytes.get(1) & 0xFF : -1;
+    int b2 = length > 2 ? bytes.get(2) & 0xFF : -1;
+    int b3 = length > 3 ? bytes.get(3) & 0xFF : -1;
+    if (b0 == 0xEF && b1 == 0xBB && b2 == 0xBF) {
+      bytes.position(3);
+      return true;
+    } else if ((b0 == 0xFE && b1 == 0xFF) || (b0 == 0xFF && b1 == 0xFE)
+        || (b0 == 0 && b1 == 0 && b2 == 0xFE && b3 == 0xFF)) {
+      // UTF-16 or UTF-32
+      if (path != null) {
+        stream = new YamlUnicodeReader(Files.newInputStream(path));
+        closeStream = true;
+      } else {
+        byte[] head = new byte[length];
+        bytes.get(head);
+        stream = new YamlUnicodeReader(
+            new SequenceInputStream(new ByteArrayInputStream(head), byteStream));
+      }
+      buffer = new char[bufferSize + 1];
+      bytes = null;
+      byteStream = null;
+      path = null;
+      updateFromChars();
+      return false;
+    }
+    return true;
+  }
+
   /**
    * Prepare the code points window for appending new code points by compacting the already consumed
    * part and ensuring space for the newly read chars.
@@ -261,10 +712,97 @@ public final class StreamReader {
    */
   private int prepareWindowFor(int read) {
     int cpIndex = (dataLength - pointer);
-    codePointsWindow = Arrays.copyOfRange(codePointsWindow, pointer, dataLength + read);
+    if (latin1Window != null) {
+      latin1Window = Arrays.copyOfRange(latin1Window, pointer, dataLength + read);
+    } else if (compactWindow && lastWideIndex < index) {
+      // the wide code points are consumed
+      latin1Window = new byte[cpIndex + read];
+      for (int i = 0; i < cpIndex; i++) {
+        latin1Window[i] = (byte) codePointsWindow[pointer + i];
+      }
+      codePointsWindow = null;
+    } else {
+      codePointsWindow = Arrays.copyOfRange(codePointsWindow, pointer, dataLength + read);
+    }
+    pointer = 0;
     return cpIndex;
   }
 
+  /**
+   * Calculate how many code points can be added to the circular window without overwriting the
+   * unconsumed code points (and the code points reserved for the marks before the pointer). The
+   * window is doubled only when it is full (the look-ahead needs more room).
+   *
+   * @return the number of code points which can be added to the window
+   */
+  private int ringFree() {
+    int free = windowLength() - (dataLength - pointer) - ringReserve;
+    if (free <= 0) {
+      growRing();
+      free = windowLength() - (dataLength - pointer) - ringReserve;
+    }
+    return free;
+  }
+
+  /**
+   * Double the circular window. The order is kept, the consumed code points remain before the
+   * pointer (for the marks)
+   */
+  private void growRing() {
+    int length = windowLength();
+    int start = dataLength & mask;
+    if (latin1Window != null) {
+      byte[] grown = new byte[length * 2];
+      System.arraycopy(latin1Window, start, grown, 0, length - start);
+      System.arraycopy(latin1Window, 0, grown, length - start, start);
+      latin1Window = grown;
+    } else {
+      int[] grown = new int[length * 2];
+      System.arraycopy(codePointsWindow, start, grown, 0, length - start);
+      System.arraycopy(codePointsWindow, 0, grown, length - start, start);
+      codePointsWindow = grown;
+    }
+    mask = length * 2 - 1;
+    pointer = length - (dataLength - pointer);
+    dataLength = length;
+  }
+
+  /**
+   * Keep the pointer of the circular window within its length (to avoid the overflow)
+   *
+   * @return the position in the circular window where new code points should start to be written
+   */
+  private int prepareRingFor() {
+    int shift = pointer & ~mask;
+    pointer -= shift;
+    dataLength -= shift;
+    if (codePointsWindow != null && compactWindow
+    // the wide code points are overwritten (the index of the oldest code point in the window)
+        && lastWideIndex < index + (dataLength - pointer) - codePointsWindow.length) {
+      latin1Window = new byte[codePointsWindow.length];
+      for (int i = 0; i < latin1Window.length; i++) {
+        latin1Window[i] = (byte) codePointsWindow[i];
+      }
+      codePointsWindow = null;
+    }
+    return dataLength;
+  }
+
+  /**
+   * A wider code point is read, the compact window cannot be used anymore
+   */
+  private void inflate() {
+    codePointsWindow = new int[latin1Window.length];
+    for (int i = 0; i < latin1Window.length; i++) {
+      codePointsWindow[i] = latin1Window[i] & 0xFF;
+    }
+    latin1Window = null;
+  }
+
+  private static int ringCapacityFor(int size) {
+    return Integer.highestOneBit(Math.max(size, 2) - 1) << 1;
+  }
+
   /**
    * If the last char in the buffer is a high surrogate, attempt to read one more char to complete
    * the surrogate pair. Throws ReaderException if low surrogate is missing.
@@ -284,27 +822,154 @@ public final class StreamReader {
 
   /**
    * Convert chars in the buffer into code points, validate printability, and place them into the
-   * codePointsWindow starting at cpIndexStart.
+   * window starting at cpIndexStart.
    *
    * @return the new cpIndex (i.e., dataLength) after filling
    */
   private int transcodeAndValidateToWindow(int read, int cpIndexStart) {
     int cpIndex = cpIndexStart;
     int i = 0;
+    if (latin1Window != null) {
+      // fast path while the chars are below U+0100 (surrogates are above)
+      while (i < read) {
+        char c = buffer[i];
+        if (c > 0xFF) {
+          inflate();
+          break;
+        }
+        latin1Window[cpIndex & mask] = (byte) c;
+        if (!isPrintable(c)) {
+          // the pointer is at the absolute position 'index'
+          throw new ReaderException(name, index + cpIndex - pointer, c,
+              "special characters are not allowed");
+        }
+        i++;
+        cpIndex++;
+      }
+    }
     while (i < read) {
       int codePoint = Character.codePointAt(buffer, i);
-      codePointsWindow[cpIndex] = codePoint;
+      codePointsWindow[cpIndex & mask] = codePoint;
       if (!isPrintable(codePoint)) {
-        // index + cpIndex is the absolute position of this code point
-        throw new ReaderException(name, index + cpIndex, codePoint,
+        // the pointer is at the absolute position 'index'
+        throw new ReaderException(name, index + cpIndex - pointer, codePoint,
             "special characters are not allowed");
       }
+      if (codePoint > 0xFF) {
+        lastWideIndex = index + cpIndex - pointer;
+      }
       i += Character.charCount(codePoint);
       cpIndex++;
     }
     return cpIndex;
   }
 
+  /**
+   * Decode UTF-8 bytes into code points, validate printability, and place them into the window
+   * starting at cpIndexStart. The incomplete sequence at the end of the bytes is left for the next
+   * read.
+   *
+   * @param maxCodePoints - the number of code points the window can take
+   * @param cpIndexStart - the position in the window for the first code point
+   * @return the new cpIndex (i.e., dataLength) after filling
+   */
+  private int decodeAndValidateToWindow(int maxCodePoints, int cpIndexStart) {
+    int cpIndex = cpIndexStart;
+    int end = cpIndexStart + maxCodePoints;
+    int position = bytes.position();
+    int limit = bytes.limit();
+    while (cpIndex < end && position < limit) {
+      int b = bytes.get(position);
+      if (b >= 0) {
+        // fast path for the run of ASCII bytes
+        if (latin1Window != null) {
+          while (b >= 0 && isPrintable(b)) {
+            latin1Window[cpIndex++ & mask] = (byte) b;
+            if (++position == limit || cpIndex == end) {
+              break;
+            }
+            b = bytes.get(position);
+          }
+        } else {
+          while (b >= 0 && isPrintable(b)) {
+            codePointsWindow[cpIndex++ & mask] = b;
+            if (++position == limit || cpIndex == end) {
+              break;
+            }
+            b = bytes.get(position);
+          }
+        }
+        if (b >= 0 && !isPrintable(b)) {
+          throw new ReaderException(name, index + cpIndex - pointer, b,
+              "special characters are not allowed");
+        }
+        continue;
+      }
+      int length = utf8SequenceLength(b);
+      if (position + length > limit) {
+        // wait for the rest of the sequence
+        break;
+      }
+      int codePoint = decodeUtf8Sequence(position, length);
+      if (!isPrintable(codePoint)) {
+        throw new ReaderException(name, index + cpIndex - pointer, codePoint,
+            "special characters are not allowed");
+      }
+      storeCodePoint(cpIndex, codePoint);
+      position += length;
+      cpIndex++;
+    }
+    bytes.position(position);
+    return cpIndex;
+  }
+
+  private void storeCodePoint(int cpIndex, int codePoint) {
+    if (latin1Window != null) {
+      if (codePoint <= 0xFF) {
+        latin1Window[cpIndex & mask] = (byte) codePoint;
+        return;
+      }
+      inflate();
+    }
+    codePointsWindow[cpIndex & mask] = codePoint;
+    if (codePoint > 0xFF) {
+      lastWideIndex = index + cpIndex - pointer;
+    }
+  }
+
+  private static int utf8SequenceLength(int firstByte) {
+    int b = firstByte & 0xFF;
+    if (b >= 0xC2 && b <= 0xDF) {
+      return 2;
+    } else if (b >= 0xE0 && b <= 0xEF) {
+      return 3;
+    } else if (b >= 0xF0 && b <= 0xF4) {
+      return 4;
+    } else {
+      throw new YamlEngineException(new MalformedInputException(1));
+    }
+  }
+
+  /**
+   * Decode the multibyte UTF-8 sequence. Overlong forms, surrogates and the values above U+10FFFF
+   * are rejected (as the UTF-8 CharsetDecoder does).
+   */
+  private int decodeUtf8Sequence(int position, int length) {
+    int codePoint = bytes.get(position) & (0xFF >> (length + 1));
+    for (int i = 1; i < length; i++) {
+      int b = bytes.get(position + i);
+      if ((b & 0xC0) != 0x80) {
+        throw new YamlEngineException(new MalformedInputException(i));
+      }
+      codePoint = (codePoint << 6) | (b & 0x3F);
+    }
+    if ((length == 3 && (codePoint < 0x800 || Character.isSurrogate((char) codePoint)))
+        || (length == 4 && (codePoint < 0x10000 || codePoint > Character.MAX_CODE_POINT))) {
+      throw new YamlEngineException(new MalformedInputException(length));
+    }
+    return codePoint;
+  }
+
   /**
    * @return current position as a number (in characters) from the beginning of the current line
    */
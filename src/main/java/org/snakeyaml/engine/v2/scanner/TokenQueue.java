@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.scanner;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.snakeyaml.engine.v2.tokens.Token;
+
+/**
+ * Queue of the scanned tokens which are not yet emitted.
+ * <p>
+ * Helper class for {@link ScannerImpl}. It is a circular array: the head is removed in constant
+ * time and the token for a simple key is inserted by moving the shorter part of the queue (the
+ * insertion point is usually close to one of the ends).
+ * </p>
+ */
+final class TokenQueue {
+
+  private Token[] elements;
+  // the position of the head in the array
+  private int head = 0;
+  private int size = 0;
+
+  /**
+   * Create empty queue
+   *
+   * @param initSize - the initial capacity (it is rounded up to the power of 2)
+   */
+  TokenQueue(int initSize) {
+    elements = new Token[Integer.highestOneBit(Math.max(initSize, 2) * 2 - 1)];
+  }
+
+  /**
+   * Remove all the tokens (the capacity is kept)
+   */
+  void clear() {
+    Arrays.fill(elements, null);
+    head = 0;
+    size = 0;
+  }
+
+  /**
+   * @return the number of tokens in the queue
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * @return true when it contains nothing
+   */
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Get the head without removing it
+   *
+   * @return the head
+   */
+  Token peek() {
+    if (size == 0) {
+      throw new NoSuchElementException("No more Tokens found.");
+    }
+    return elements[head];
+  }
+
+  /**
+   * Get the token without removing it
+   *
+   * @param index - the position in the queue (0 for the head)
+   * @return the token
+   */
+  Token get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    return elements[(head + index) & (elements.length - 1)];
+  }
+
+  /**
+   * Get the head and remove it from the queue
+   *
+   * @return the head
+   */
+  Token poll() {
+    if (size == 0) {
+      throw new NoSuchElementException("No more Tokens found.");
+    }
+    Token token = elements[head];
+    elements[head] = null;
+    head = (head + 1) & (elements.length - 1);
+    size--;
+    return token;
+  }
+
+  /**
+   * Add the token to the tail
+   *
+   * @param token - data to be added
+   */
+  void add(Token token) {
+    if (size == elements.length) {
+      grow();
+    }
+    elements[(head + size) & (elements.length - 1)] = token;
+    size++;
+  }
+
+  /**
+   * Add the tokens to the tail
+   *
+   * @param tokens - data to be added
+   */
+  void addAll(List<Token> tokens) {
+    for (Token token : tokens) {
+      add(token);
+    }
+  }
+
+  /**
+   * Insert the token at the position (counting from the head)
+   *
+   * @param index - the position in the queue (0 for the head, size() for the tail)
+   * @param token - data to be added
+   */
+  void add(int index, Token token) {
+    if (index < 0 || index > size) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+    if (size == elements.length) {
+      grow();
+    }
+    int mask = elements.length - 1;
+    if (index < size - index) {
+      // move the tokens before the index one step back
+      head = (head - 1) & mask;
+      for (int i = 0; i < index; i++) {
+        elements[(head + i) & mask] = elements[(head + i + 1) & mask];
+      }
+    } else {
+      // move the tokens after the index one step forward
+      for (int i = size; i > index; i--) {
+        elements[(head + i) & mask] = elements[(head + i - 1) & mask];
+      }
+    }
+    elements[(head + index) & mask] = token;
+    size++;
+  }
+
+  private void grow() {
+    Token[] larger = new Token[elements.length * 2];
+    int first = Math.min(size, elements.length - head);
+    System.arraycopy(elements, head, larger, 0, first);
+    System.arraycopy(elements, 0, larger, first, size - first);
+    elements = larger;
+    head = 0;
+  }
+}
@@ -20,7 +20,7 @@ import org.snakeyaml.engine.v2.constructor.core.ConstructYamlCoreBool;
 import org.snakeyaml.engine.v2.constructor.core.ConstructYamlCoreFloat;
 import org.snakeyaml.engine.v2.constructor.core.ConstructYamlCoreInt;
 import org.snakeyaml.engine.v2.nodes.Tag;
-import org.snakeyaml.engine.v2.resolver.CoreScalarResolver;
+import org.snakeyaml.engine.v2.resolver.FastCoreScalarResolver;
 import org.snakeyaml.engine.v2.resolver.ScalarResolver;
 
 /**
@@ -28,6 +28,9 @@ import org.snakeyaml.engine.v2.resolver.ScalarResolver;
  */
 public class CoreSchema extends JsonSchema {
 
+  // the resolver is stateless, it is shared
+  private static final ScalarResolver SCALAR_RESOLVER = new FastCoreScalarResolver(true);
+
   private final Map<Tag, ConstructNode> tagConstructors = new HashMap<>();
 
   public CoreSchema() {
@@ -41,11 +44,11 @@ public class CoreSchema extends JsonSchema {
    *
    * @see <a href="https://ktomk.github.io/writing/yaml-anchor-alias-and-merge-key.html">Support of
    *      Merge Keys</a>
-   * @return CoreScalarResolver
+   * @return FastCoreScalarResolver (the same as CoreScalarResolver without regular expressions)
    */
   @Override
   public ScalarResolver getScalarResolver() {
-    return new CoreScalarResolver(true);
+    return SCALAR_RESOLVER;
   }
 
   /**
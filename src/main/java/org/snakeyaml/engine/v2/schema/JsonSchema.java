@@ -26,7 +26,7 @@ import org.snakeyaml.engine.v2.constructor.json.ConstructYamlJsonBool;
 import org.snakeyaml.engine.v2.constructor.json.ConstructYamlJsonFloat;
 import org.snakeyaml.engine.v2.constructor.json.ConstructYamlJsonInt;
 import org.snakeyaml.engine.v2.nodes.Tag;
-import org.snakeyaml.engine.v2.resolver.JsonScalarResolver;
+import org.snakeyaml.engine.v2.resolver.FastJsonScalarResolver;
 import org.snakeyaml.engine.v2.resolver.ScalarResolver;
 
 /**
@@ -36,7 +36,7 @@ public class JsonSchema implements Schema {
   // No need to extend Failsafe schema because it is empty
 
   private final Map<Tag, ConstructNode> tagConstructors = new HashMap<>();
-  private final ScalarResolver scalarResolver = new JsonScalarResolver();
+  private final ScalarResolver scalarResolver = new FastJsonScalarResolver();
 
   /**
    * Create the instance
@@ -57,7 +57,7 @@ public class JsonSchema implements Schema {
   /**
    * Create ScalarResolver
    *
-   * @return JsonScalarResolver
+   * @return FastJsonScalarResolver (the same as JsonScalarResolver without regular expressions)
    */
   @Override
   public ScalarResolver getScalarResolver() {
@@ -15,15 +15,17 @@ package org.snakeyaml.engine.v2.serializer;
 
 import java.text.NumberFormat;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.snakeyaml.engine.v2.common.Anchor;
 import org.snakeyaml.engine.v2.nodes.Node;
 
 /**
- * Simple generate of the format id + number
+ * Simple generate of the format id + number. It is thread-safe, the settings with the generator may
+ * be shared (see SharedDump).
  */
 public class NumberAnchorGenerator implements AnchorGenerator {
 
-  private int lastAnchorId = 0;
+  private final AtomicInteger lastAnchorId;
 
   /**
    * Create
@@ -31,7 +33,7 @@ public class NumberAnchorGenerator implements AnchorGenerator {
    * @param lastAnchorId - the number to start from
    */
   public NumberAnchorGenerator(int lastAnchorId) {
-    this.lastAnchorId = lastAnchorId;
+    this.lastAnchorId = new AtomicInteger(lastAnchorId);
   }
 
   /**
@@ -46,12 +48,11 @@ public class NumberAnchorGenerator implements AnchorGenerator {
       // keep the anchor when it is set explicitly
       return node.getAnchor().get();
     }
-    this.lastAnchorId++;
     NumberFormat format = NumberFormat.getNumberInstance(Locale.ROOT);
     format.setMinimumIntegerDigits(3);
     format.setMaximumFractionDigits(0);// issue 172
     format.setGroupingUsed(false);
-    String anchorId = format.format(this.lastAnchorId);
+    String anchorId = format.format(lastAnchorId.incrementAndGet());
     return new Anchor("id" + anchorId);
   }
 }
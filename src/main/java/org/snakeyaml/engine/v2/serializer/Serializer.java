@@ -39,6 +39,7 @@ import org.snakeyaml.engine.v2.nodes.NodeType;
 import org.snakeyaml.engine.v2.nodes.ScalarNode;
 import org.snakeyaml.engine.v2.nodes.SequenceNode;
 import org.snakeyaml.engine.v2.nodes.Tag;
+import org.snakeyaml.engine.v2.resolver.ScalarResolver;
 import org.snakeyaml.engine.v2.util.MergeUtils;
 
 import java.util.Collections;
@@ -63,6 +64,7 @@ public class Serializer {
   private final boolean dereferenceAliases;
   private final Set<Node> recursive;
   private final MergeUtils mergeUtils;
+  private final ScalarResolver scalarResolver;
 
 
   /**
@@ -78,6 +80,7 @@ public class Serializer {
     this.anchors = new HashMap<>();
     this.dereferenceAliases = settings.isDereferenceAliases();
     this.recursive = Collections.newSetFromMap(new IdentityHashMap<Node, Boolean>());
+    this.scalarResolver = settings.getSchema().getScalarResolver();
     this.mergeUtils = new MergeUtils() {
       public MappingNode asMappingNode(Node node) {
         if (node instanceof MappingNode) {
@@ -96,17 +99,99 @@ public class Serializer {
    * @param node - the document root
    */
   public void serializeDocument(Node node) {
-    this.emitable.emit(new DocumentStartEvent(settings.isExplicitStart(),
-        settings.getYamlDirective(), settings.getTagDirective()));
+    emitDocumentStart();
     anchorNode(node);
     settings.getExplicitRootTag().ifPresent(node::setTag);
     serializeNode(node);
+    emitDocumentEnd();
+    this.serializedNodes.clear();
+    this.anchors.clear();
+    this.recursive.clear();
+  }
+
+  /**
+   * Emit {@link DocumentStartEvent}. The document may be serialized part by part: the collections
+   * are started and ended by emitCollectionStart() and emitCollectionEnd() and their items are
+   * serialized by serializePart() (so the Node graph of the whole document is not needed).
+   */
+  public void emitDocumentStart() {
+    this.emitable.emit(new DocumentStartEvent(settings.isExplicitStart(),
+        settings.getYamlDirective(), settings.getTagDirective()));
+  }
+
+  /**
+   * Emit {@link DocumentEndEvent}
+   */
+  public void emitDocumentEnd() {
     this.emitable.emit(new DocumentEndEvent(settings.isExplicitEnd()));
+  }
+
+  /**
+   * Serialize a complete part of the document. The aliases inside the part refer only to the
+   * anchors of the same part.
+   *
+   * @param node - the root of the part
+   * @param anchor - the anchor of the root (the following parts may refer to it) or empty
+   */
+  public void serializePart(Node node, Optional<Anchor> anchor) {
+    if (node.getNodeType() == NodeType.SCALAR && !anchor.isPresent()) {
+      // nothing can refer to a single scalar
+      serializeScalar((ScalarNode) node, Optional.empty());
+      return;
+    }
+    anchorNode(node);
+    if (anchor.isPresent()) {
+      Node realNode =
+          node.getNodeType() == NodeType.ANCHOR ? ((AnchorNode) node).getRealNode() : node;
+      this.anchors.put(realNode, anchor.get());
+    }
+    serializeNode(node);
     this.serializedNodes.clear();
     this.anchors.clear();
     this.recursive.clear();
   }
 
+  /**
+   * Emit the start of the collection which items are serialized as separate parts
+   *
+   * @param node - the SequenceNode or the MappingNode to take the tag and the flow style from (its
+   *        items are ignored)
+   * @param anchor - the anchor of the collection or empty
+   */
+  public void emitCollectionStart(Node node, Optional<Anchor> anchor) {
+    Optional<Anchor> tAlias = dereferenceAliases ? Optional.empty() : anchor;
+    if (node.getNodeType() == NodeType.SEQUENCE) {
+      this.emitable.emit(new SequenceStartEvent(tAlias, Optional.of(node.getTag().getValue()),
+          node.getTag().equals(Tag.SEQ), ((SequenceNode) node).getFlowStyle()));
+    } else {
+      this.emitable.emit(new MappingStartEvent(tAlias, Optional.of(node.getTag().getValue()),
+          node.getTag().equals(Tag.MAP), ((MappingNode) node).getFlowStyle(), Optional.empty(),
+          Optional.empty()));
+    }
+  }
+
+  /**
+   * Emit the end of the collection started by emitCollectionStart()
+   *
+   * @param node - the same node as for the start
+   */
+  public void emitCollectionEnd(Node node) {
+    if (node.getNodeType() == NodeType.SEQUENCE) {
+      this.emitable.emit(new SequenceEndEvent());
+    } else {
+      this.emitable.emit(new MappingEndEvent());
+    }
+  }
+
+  /**
+   * Emit {@link AliasEvent} to the part or to the collection which is serialized before
+   *
+   * @param anchor - the anchor of the part or of the collection
+   */
+  public void emitAlias(Anchor anchor) {
+    this.emitable.emit(new AliasEvent(Optional.of(anchor)));
+  }
+
   /**
    * Emit {@link StreamStartEvent}
    */
@@ -185,19 +270,7 @@ public class Serializer {
       this.serializedNodes.add(node);
       switch (node.getNodeType()) {
         case SCALAR:
-          ScalarNode scalarNode = (ScalarNode) node;
-          serializeComments(node.getBlockComments());
-          Tag detectedTag =
-              settings.getSchema().getScalarResolver().resolve(scalarNode.getValue(), true);
-          Tag defaultTag =
-              settings.getSchema().getScalarResolver().resolve(scalarNode.getValue(), false);
-          ImplicitTuple tuple = new ImplicitTuple(node.getTag().equals(detectedTag),
-              node.getTag().equals(defaultTag));
-          ScalarEvent event = new ScalarEvent(tAlias, Optional.of(node.getTag().getValue()), tuple,
-              scalarNode.getValue(), scalarNode.getScalarStyle());
-          this.emitable.emit(event);
-          serializeComments(node.getInLineComments());
-          serializeComments(node.getEndComments());
+          serializeScalar((ScalarNode) node, tAlias);
           break;
         case SEQUENCE:
           SequenceNode seqNode = (SequenceNode) node;
@@ -240,6 +313,19 @@ public class Serializer {
     recursive.remove(node);
   }
 
+  private void serializeScalar(ScalarNode scalarNode, Optional<Anchor> tAlias) {
+    serializeComments(scalarNode.getBlockComments());
+    ImplicitTuple tuple = scalarNode.getImplicit();
+    if (tuple == null) {
+      tuple = scalarResolver.resolveImplicit(scalarNode.getValue(), scalarNode.getTag());
+    }
+    ScalarEvent event = new ScalarEvent(tAlias, Optional.of(scalarNode.getTag().getValue()), tuple,
+        scalarNode.getValue(), scalarNode.getScalarStyle());
+    this.emitable.emit(event);
+    serializeComments(scalarNode.getInLineComments());
+    serializeComments(scalarNode.getEndComments());
+  }
+
   private void serializeComments(List<CommentLine> comments) {
     if (settings.getDumpComments() && comments != null) {
       for (CommentLine line : comments) {
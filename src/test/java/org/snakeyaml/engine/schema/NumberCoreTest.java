@@ -103,6 +103,8 @@ public class NumberCoreTest {
     assertEquals(Double.POSITIVE_INFINITY, loader.loadFromString(".inf"));
     assertEquals(Double.POSITIVE_INFINITY, loader.loadFromString(".Inf"));
     assertEquals(Double.POSITIVE_INFINITY, loader.loadFromString(".INF"));
+    assertEquals(Double.POSITIVE_INFINITY, loader.loadFromString("+.inf"));
+    assertEquals(Double.POSITIVE_INFINITY, loader.loadFromString("+.INF"));
 
     assertEquals(Double.NEGATIVE_INFINITY, loader.loadFromString("-.inf"));
     assertEquals(Double.NEGATIVE_INFINITY, loader.loadFromString("-.Inf"));
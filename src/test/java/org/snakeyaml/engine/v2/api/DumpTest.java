@@ -13,20 +13,29 @@
  */
 package org.snakeyaml.engine.v2.api;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.snakeyaml.engine.v2.common.ScalarStyle;
+import org.snakeyaml.engine.v2.events.ImplicitTuple;
+import org.snakeyaml.engine.v2.nodes.ScalarNode;
 
 @Tag("fast")
 class DumpTest {
@@ -40,6 +49,33 @@ class DumpTest {
     assertEquals("a\n", str);
   }
 
+  @Test
+  @DisplayName("Dump to UTF-8 bytes")
+  void dumpBytes() {
+    Dump dump = new Dump(DumpSettings.builder().build());
+    List<Object> data = List.of("caf\u00e9", "\ud83d\ude00", ImmutableMap.of("k", List.of(1, 2)));
+    byte[] expected = dump.dumpToString(data).getBytes(StandardCharsets.UTF_8);
+    assertArrayEquals(expected, dump.dumpToBytes(data));
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    dump.dump(data, out);
+    assertArrayEquals(expected, out.toByteArray());
+    byte[] all = dump.dumpAllToString(List.of("a", 1).iterator()).getBytes(StandardCharsets.UTF_8);
+    assertArrayEquals(all, dump.dumpAllToBytes(List.of("a", 1).iterator()));
+    out.reset();
+    dump.dumpAll(List.of("a", 1).iterator(), out);
+    assertArrayEquals(all, out.toByteArray());
+  }
+
+  @Test
+  @DisplayName("The writer may extend a java.io.Writer which throws IOException")
+  void dumpToBufferedWriter() throws IOException {
+    StringWriter target = new StringWriter();
+    BufferedStreamWriter writer = new BufferedStreamWriter(target);
+    new Dump(DumpSettings.builder().build()).dump(List.of("a", 1), writer);
+    writer.flush();
+    assertEquals("[a, 1]\n", target.toString());
+  }
+
   @Test
   @DisplayName("Dump int")
   void dumpInteger() {
@@ -58,6 +94,22 @@ class DumpTest {
     assertEquals("true\n", str);
   }
 
+  @Test
+  @DisplayName("The implicit flag of the node is used until the tag is changed")
+  void dumpImplicit() {
+    Dump dump = new Dump(DumpSettings.builder().build());
+    ScalarNode node = new ScalarNode(org.snakeyaml.engine.v2.nodes.Tag.STR, "a", ScalarStyle.PLAIN);
+    node.setImplicit(ImplicitTuple.of(false, false));
+    StringWriterStream writer = new StringWriterStream();
+    dump.dumpNode(node, writer);
+    assertEquals("!!str 'a'\n", writer.toString());
+    node.setTag(org.snakeyaml.engine.v2.nodes.Tag.STR);
+    assertNull(node.getImplicit());
+    writer = new StringWriterStream();
+    dump.dumpNode(node, writer);
+    assertEquals("a\n", writer.toString());
+  }
+
   @Test
   @DisplayName("Dump seq")
   void dumpSequence() {
@@ -129,4 +181,41 @@ class DumpTest {
     assertTrue(file.exists());
     file.delete();// on Windows the file is not deleted
   }
+
+  private static class StringWriterStream extends StringWriter implements StreamDataWriter {
+  }
+
+  private static class BufferedStreamWriter extends BufferedWriter implements StreamDataWriter {
+
+    BufferedStreamWriter(StringWriter out) {
+      super(out);
+    }
+
+    @Override
+    public void write(String str) {
+      try {
+        super.write(str);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+      try {
+        super.write(str, off, len);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public void flush() {
+      try {
+        super.flush();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
 }
@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.snakeyaml.engine.v2.constructor.BaseConstructor;
+import org.snakeyaml.engine.v2.constructor.StandardConstructor;
+import org.snakeyaml.engine.v2.exceptions.Mark;
+import org.snakeyaml.engine.v2.exceptions.MarkedYamlEngineException;
+import org.snakeyaml.engine.v2.exceptions.ParserException;
+import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
+
+@Tag("fast")
+class LoadParallelTest {
+
+  private static final String[] STREAMS = {"", "a", "--- a\n--- b", "a\n...\n--- b\n...\n",
+      "%YAML 1.2\n--- a\n...\n%YAML 1.2\n--- b", "# c\n--- a\n# d\n--- b\n# e\n", "...\na",
+      "a\n...\n...\n--- b", "a\n...\n# c\n...\n--- b", "- a\n--- |\n  x\n  y\n--- z",
+      "--- |\n  x\n---\n--- \"y\"", "a\r\n---\r\nb\r\n...\r\n", "a\r---\rb", "a\n--- b\nc",
+      "{a: 1}\n--- [1, 2]\n---\n- &x {b: 2}\n- *x", "--- \"a\n---\nb\"", "a\n---x\n", "a\n...\nb",
+      "%TAG !e! tag:e.com,2000:\n--- !e!a x\n--- !e!a y", "--- ---\n--- ...\n"};
+
+  private static String loadAndDump(Supplier<Iterable<Object>> documents) {
+    try {
+      List<Object> list = new ArrayList<>();
+      documents.get().forEach(list::add);
+      return new Dump(DumpSettings.builder().build()).dumpAllToString(list.iterator());
+    } catch (YamlEngineException e) {
+      return "error";
+    }
+  }
+
+  private static void assertSameAsSequential(String yaml) {
+    LoadSettings settings = LoadSettings.builder().build();
+    String expected = loadAndDump(() -> new Load(settings).loadAllFromString(yaml));
+    String parallel =
+        loadAndDump(() -> new Load(settings).loadAllFromString(yaml, ForkJoinPool.commonPool()));
+    assertEquals(expected, parallel, yaml);
+    String direct = loadAndDump(
+        () -> new Load(settings).loadAllFromReader(new StringReader(yaml), Runnable::run));
+    assertEquals(expected, direct, yaml);
+    String stream = loadAndDump(
+        () -> new Load(settings).streamAllFromString(yaml).collect(Collectors.toList()));
+    assertEquals(expected, stream, yaml);
+    String parallelStream = loadAndDump(() -> new Load(settings)
+        .streamAllFromReader(new StringReader(yaml)).parallel().collect(Collectors.toList()));
+    assertEquals(expected, parallelStream, yaml);
+  }
+
+  @Test
+  @DisplayName("The documents are the same as loaded sequentially")
+  void sameAsSequential() {
+    for (String yaml : STREAMS) {
+      assertSameAsSequential(yaml);
+    }
+  }
+
+  @Test
+  @DisplayName("The test resources are loaded as sequentially")
+  void sameResources() throws IOException {
+    List<Path> files;
+    try (Stream<Path> walk = Files.walk(Paths.get("src/test/resources"))) {
+      files = walk.filter(path -> path.toString().endsWith(".yaml")).collect(Collectors.toList());
+    }
+    for (Path file : files) {
+      assertSameAsSequential(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  @DisplayName("Many documents are loaded in order")
+  void order() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 10000; i++) {
+      builder.append("---\nid: ").append(i).append("\nlist: [a, b]\n");
+    }
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Load load = new Load(LoadSettings.builder().setUseDirectConstruction(true).build());
+      Iterator<Object> documents = load.loadAllFromInputStream(
+          new ByteArrayInputStream(builder.toString().getBytes(StandardCharsets.UTF_8)), executor)
+          .iterator();
+      for (int i = 0; i < 10000; i++) {
+        assertEquals(i, ((Map<String, Object>) documents.next()).get("id"));
+      }
+      assertTrue(!documents.hasNext());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("The parallel Stream keeps the order of the documents")
+  void parallelStream() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 10000; i++) {
+      builder.append("---\nid: ").append(i).append("\nlist: [a, b]\n");
+    }
+    Load load = new Load(LoadSettings.builder().build());
+    List<Object> ids = load
+        .streamAllFromInputStream(
+            new ByteArrayInputStream(builder.toString().getBytes(StandardCharsets.UTF_8)))
+        .parallel().map(document -> ((Map<String, Object>) document).get("id"))
+        .collect(Collectors.toList());
+    assertEquals(10000, ids.size());
+    for (int i = 0; i < 10000; i++) {
+      assertEquals(i, ids.get(i));
+    }
+    assertEquals(5000, load.streamAllFromString(builder.toString()).skip(5000).count());
+  }
+
+  @Test
+  @DisplayName("The documents after the first one must start with '---'")
+  void implicitDocument() {
+    Load load = new Load(LoadSettings.builder().build());
+    // the first document is big enough to be loaded in a separate batch
+    String big = "a".repeat(20000);
+    Iterator<Object> documents = load.loadAllFromString(big + "\n...\nb", Runnable::run).iterator();
+    assertEquals(big, documents.next());
+    ParserException exception = assertThrows(ParserException.class, documents::next);
+    assertTrue(exception.getMessage().contains("expected '<document start>'"),
+        exception.getMessage());
+    assertEquals(2, exception.getProblemMark().get().getLine());
+  }
+
+  private static String invalidAfter(int count, String lineBreak) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      builder.append("---").append(lineBreak).append("id: ").append(i).append(lineBreak)
+          .append("list: [a, b]").append(lineBreak);
+    }
+    return builder.append("---").append(lineBreak).append("a: b: c").append(lineBreak).toString();
+  }
+
+  private static int countBeforeFailure(Iterator<Object> documents, Mark expected) {
+    int count = 0;
+    try {
+      while (documents.hasNext()) {
+        documents.next();
+        count++;
+      }
+    } catch (MarkedYamlEngineException e) {
+      Mark mark = e.getProblemMark().get();
+      assertEquals(expected.getIndex(), mark.getIndex());
+      assertEquals(expected.getLine(), mark.getLine());
+      assertEquals(expected.getColumn(), mark.getColumn());
+      return count;
+    }
+    throw new AssertionError("The invalid document must fail");
+  }
+
+  @Test
+  @DisplayName("The documents before the invalid one are loaded and the Mark is in the stream")
+  void invalidDocument() {
+    Load load = new Load(LoadSettings.builder().build());
+    for (String lineBreak : new String[] {"\n", "\r\n", "\r"}) {
+      String yaml = invalidAfter(5000, lineBreak);
+      MarkedYamlEngineException expected = assertThrows(MarkedYamlEngineException.class,
+          () -> load.loadAllFromString(yaml).forEach(document -> {
+          }));
+      Mark mark = expected.getProblemMark().get();
+      assertEquals(15001, mark.getLine());
+      assertEquals(4, mark.getColumn());
+      assertEquals(5000, countBeforeFailure(
+          load.loadAllFromString(yaml, ForkJoinPool.commonPool()).iterator(), mark));
+      assertEquals(5000, countBeforeFailure(
+          load.loadAllFromReader(new StringReader(yaml), Runnable::run).iterator(), mark));
+    }
+  }
+
+  @Test
+  @DisplayName("The Stream fails at the invalid document the same way as loadAll()")
+  void invalidDocumentInStream() {
+    Load load = new Load(LoadSettings.builder().build());
+    for (String lineBreak : new String[] {"\n", "\r\n", "\r"}) {
+      String yaml = invalidAfter(5000, lineBreak);
+      Mark mark = assertThrows(MarkedYamlEngineException.class,
+          () -> load.loadAllFromString(yaml).forEach(document -> {
+          })).getProblemMark().get();
+      assertEquals(5000, countBeforeFailure(load.streamAllFromString(yaml).iterator(), mark));
+      assertEquals(5000,
+          countBeforeFailure(
+              load.streamAllFromInputStream(
+                  new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8))).iterator(),
+              mark));
+      // the documents after the first batch are split off to be loaded by another thread
+      MarkedYamlEngineException exception = assertThrows(MarkedYamlEngineException.class,
+          () -> load.streamAllFromString(yaml).parallel().forEachOrdered(document -> {
+          }));
+      assertEquals(mark.getLine(), exception.getProblemMark().get().getLine());
+      assertEquals(mark.getColumn(), exception.getProblemMark().get().getColumn());
+    }
+  }
+
+  @Test
+  @DisplayName("The custom constructor must be created for every document")
+  void customConstructor() {
+    LoadSettings settings = LoadSettings.builder().build();
+    BaseConstructor constructor = new StandardConstructor(settings) {};
+    Load load = new Load(settings, constructor);
+    Iterable<Object> documents = load.loadAllFromString("a", Runnable::run);
+    assertThrows(YamlEngineException.class, () -> documents.iterator().next());
+    Load custom = new Load(settings, constructor) {
+      @Override
+      protected BaseConstructor createConstructor() {
+        return new StandardConstructor(settings) {};
+      }
+    };
+    assertEquals("a", custom.loadAllFromString("a", Runnable::run).iterator().next());
+  }
+}
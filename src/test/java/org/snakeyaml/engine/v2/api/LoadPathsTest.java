@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.snakeyaml.engine.v2.exceptions.ComposerException;
+
+@Tag("fast")
+class LoadPathsTest {
+
+  private static final String MANIFEST = "# the deployment\n" + "kind: Deployment\n" + "metadata:\n"
+      + "  name: web # inline\n" + "  labels: {app: web, tier: front}\n" + "spec:\n"
+      + "  replicas: 3\n" + "  containers:\n" + "  - name: nginx\n" + "    image: nginx:1.25\n"
+      + "    ports:\n" + "    - containerPort: 80\n" + "    - containerPort: 443\n"
+      + "  - name: sidecar\n" + "    image: \"envoy:1.28\"\n" + "    args: [\"--config\", 'multi\n"
+      + "      line']\n" + "---\n" + "kind: Service\n" + "metadata:\n" + "  name: web-svc\n"
+      + "spec:\n" + "  ports:\n" + "  - port: 80\n";
+
+  private static List<LoadSettings> settings() {
+    List<LoadSettings> settings = new ArrayList<>();
+    settings.add(LoadSettings.builder().build());
+    settings.add(LoadSettings.builder().setUseDirectConstruction(true).build());
+    settings.add(LoadSettings.builder().setParseComments(true).build());
+    return settings;
+  }
+
+  @Test
+  @DisplayName("Only the selected nodes of all the documents are constructed")
+  void manifest() {
+    for (LoadSettings settings : settings()) {
+      Map<String, List<Object>> result = new Load(settings).loadPathsFromReader(
+          new StringReader(MANIFEST), "kind", "metadata.name", "spec.containers[*].image",
+          "spec.containers[0].ports[*].containerPort", "spec.containers[1].args[1]",
+          "metadata.labels.*", "missing.path", "spec.ports[0]");
+      assertEquals(
+          List.of("kind", "metadata.name", "spec.containers[*].image",
+              "spec.containers[0].ports[*].containerPort", "spec.containers[1].args[1]",
+              "metadata.labels.*", "missing.path", "spec.ports[0]"),
+          new ArrayList<>(result.keySet()));
+      assertEquals(List.of("Deployment", "Service"), result.get("kind"));
+      assertEquals(List.of("web", "web-svc"), result.get("metadata.name"));
+      assertEquals(List.of("nginx:1.25", "envoy:1.28"), result.get("spec.containers[*].image"));
+      assertEquals(List.of(80, 443), result.get("spec.containers[0].ports[*].containerPort"));
+      assertEquals(List.of("multi line"), result.get("spec.containers[1].args[1]"));
+      assertEquals(List.of("web", "front"), result.get("metadata.labels.*"));
+      assertEquals(List.of(), result.get("missing.path"));
+      assertEquals(List.of(Map.of("port", 80)), result.get("spec.ports[0]"));
+    }
+  }
+
+  @Test
+  @DisplayName("The longer path is selected in the node constructed for the shorter path")
+  void nestedPaths() {
+    for (LoadSettings settings : settings()) {
+      Map<String, List<Object>> result = new Load(settings).loadPathsFromString(MANIFEST,
+          "spec.containers[1]", "spec.containers[*].name", "", "spec.containers[*].ports[1].*");
+      assertEquals("sidecar",
+          ((Map<String, Object>) result.get("spec.containers[1]").get(0)).get("name"));
+      assertEquals(List.of("nginx", "sidecar"), result.get("spec.containers[*].name"));
+      assertEquals(2, result.get("").size());
+      assertEquals(List.of(443), result.get("spec.containers[*].ports[1].*"));
+    }
+  }
+
+  @Test
+  @DisplayName("The keys are compared as the scalar values, the complex keys are matched by '*'")
+  void keys() {
+    String yaml = "1: one\n\"a.b\": dotted\n? [x, y]\n: complex\n'q': quoted\n";
+    Load load = new Load(LoadSettings.builder().build());
+    Map<String, List<Object>> result = load.loadPathsFromString(yaml, "1", "q", "*");
+    assertEquals(List.of("one"), result.get("1"));
+    assertEquals(List.of("quoted"), result.get("q"));
+    assertEquals(List.of("one", "dotted", "complex", "quoted"), result.get("*"));
+    assertEquals(List.of("x"), load.loadPathsFromString("[[x, y], [z]]", "[0][0]").get("[0][0]"));
+    assertEquals(List.of(), load.loadPathsFromString("", "a").get("a"));
+  }
+
+  @Test
+  @DisplayName("The aliases refer only to the anchors in the selected nodes")
+  void aliases() {
+    String yaml = "a: &x {b: &y 1, c: *y}\nd: *x\n";
+    Load load = new Load(LoadSettings.builder().build());
+    assertEquals(List.of(Map.of("b", 1, "c", 1)), load.loadPathsFromString(yaml, "a").get("a"));
+    ComposerException exception =
+        assertThrows(ComposerException.class, () -> load.loadPathsFromString(yaml, "d"));
+    assertTrue(exception.getMessage().contains("found undefined alias"), exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Invalid paths are reported")
+  void invalidPaths() {
+    Load load = new Load(LoadSettings.builder().build());
+    for (String path : new String[] {"a.", ".a", "a..b", "a[", "a[x]", "a[-1]", "a[0]b", "[0]."}) {
+      assertThrows(IllegalArgumentException.class, () -> load.loadPathsFromString("a: 1", path),
+          path);
+    }
+  }
+}
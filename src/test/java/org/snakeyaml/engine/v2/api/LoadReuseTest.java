@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
+
+@Tag("fast")
+class LoadReuseTest {
+
+  private static List<LoadSettings> settings() {
+    List<LoadSettings> list = new ArrayList<>();
+    list.add(LoadSettings.builder().build());
+    list.add(LoadSettings.builder().setUseRingBuffer(true).setBufferSize(64).build());
+    list.add(LoadSettings.builder().setUseCompactWindow(true).setUseDirectConstruction(true)
+        .setParseComments(true).build());
+    return list;
+  }
+
+  private static String loadAndDump(Load load, Dump dump, String yaml, int input) {
+    try {
+      Object data;
+      switch (input % 3) {
+        case 0:
+          data = load.loadFromString(yaml);
+          break;
+        case 1:
+          data = load.loadFromReader(new StringReader(yaml));
+          break;
+        default:
+          data = load
+              .loadFromInputStream(new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8)));
+          break;
+      }
+      // the anchor generator of the settings keeps counting
+      return dump.dumpToString(data).replaceAll("([&*])id[0-9]+", "$1id");
+    } catch (RuntimeException e) {
+      return e.getClass().getName();
+    }
+  }
+
+  @Test
+  @DisplayName("The reused components load the same as the new ones")
+  void sameAsNew() throws IOException {
+    List<Path> files;
+    try (Stream<Path> walk = Files.walk(Paths.get("src/test/resources"))) {
+      files = walk.filter(path -> path.toString().endsWith(".yaml")).sorted()
+          .collect(Collectors.toList());
+    }
+    for (LoadSettings loadSettings : settings()) {
+      Load reused = new Load(loadSettings);
+      Dump reusedDump = new Dump(DumpSettings.builder().build());
+      int input = 0;
+      for (Path file : files) {
+        String yaml = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        for (int i = 0; i < 3; i++) {
+          String expected = loadAndDump(new Load(loadSettings),
+              new Dump(DumpSettings.builder().build()), yaml, input);
+          assertEquals(expected, loadAndDump(reused, reusedDump, yaml, input), file.toString());
+          input++;
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("The components are reused after a failure")
+  void afterFailure() {
+    Load load = new Load(LoadSettings.builder().build());
+    assertThrows(YamlEngineException.class, () -> load.loadFromString("{a: [b, &x c"));
+    assertEquals(Map.of("a", List.of("b", "c")), load.loadFromString("{a: [b, c]}"));
+    Dump dump = new Dump(DumpSettings.builder().build());
+    assertThrows(YamlEngineException.class, () -> dump.dumpToString(new Object()));
+    assertEquals("{a: 1}\n", dump.dumpToString(Map.of("a", 1)));
+  }
+
+  @Test
+  @DisplayName("The lazy loadAll does not share the reused components")
+  void lazyLoadAll() {
+    Load load = new Load(LoadSettings.builder().build());
+    Iterable<Object> documents = load.loadAllFromString("--- a\n--- b");
+    assertEquals("x", load.loadFromString("x"));
+    List<Object> list = new ArrayList<>();
+    documents.forEach(list::add);
+    assertEquals(List.of("a", "b"), list);
+    assertEquals("y", load.loadFromString("y"));
+  }
+
+  private static WeakReference<Reader> loadFromReader(Load load) {
+    Reader reader = new StringReader("a: 1");
+    assertEquals(Map.of("a", 1), load.loadFromReader(reader));
+    return new WeakReference<>(reader);
+  }
+
+  private static WeakReference<InputStream> loadFromInputStream(Load load) {
+    InputStream stream = new ByteArrayInputStream("a: 1".getBytes(StandardCharsets.UTF_8));
+    assertEquals(Map.of("a", 1), load.loadFromInputStream(stream));
+    return new WeakReference<>(stream);
+  }
+
+  private static WeakReference<StreamDataWriter> dump(Dump dump) {
+    StreamToStringWriter writer = new StreamToStringWriter();
+    dump.dump(Map.of("a", 1), writer);
+    assertEquals("{a: 1}\n", writer.toString());
+    return new WeakReference<>(writer);
+  }
+
+  private static void assertCollected(WeakReference<?> reference) {
+    for (int i = 0; i < 50 && reference.get() != null; i++) {
+      System.gc();
+    }
+    assertNull(reference.get());
+  }
+
+  @Test
+  @DisplayName("The reused components do not keep the finished input and output")
+  void release() {
+    Load load = new Load(LoadSettings.builder().build());
+    assertCollected(loadFromReader(load));
+    assertCollected(loadFromInputStream(load));
+    Dump dump = new Dump(DumpSettings.builder().build());
+    assertCollected(dump(dump));
+    // the released components are reused
+    assertEquals(Map.of("b", 2), load.loadFromString("b: 2"));
+    assertEquals("{b: 2}\n", dump.dumpToString(Map.of("b", 2)));
+  }
+}
@@ -13,7 +13,9 @@
  */
 package org.snakeyaml.engine.v2.api;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.collect.Lists;
 import java.util.ArrayList;
@@ -22,6 +24,10 @@ import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.snakeyaml.engine.v2.common.DoubleArrayList;
+import org.snakeyaml.engine.v2.common.IntArrayList;
+import org.snakeyaml.engine.v2.common.LongArrayList;
+import org.snakeyaml.engine.v2.schema.CoreSchema;
 import org.snakeyaml.engine.v2.util.TestUtils;
 
 @Tag("fast")
@@ -72,4 +78,58 @@ class LoadSequenceTest {
         (List<Object>) load.loadFromString(TestUtils.getResource("load/list1.yaml"));
     assertEquals(Lists.newArrayList("a", "bb", "ccc", "dddd"), list);
   }
+
+  @Test
+  @DisplayName("Numeric lists are backed by primitive arrays")
+  void parsePrimitiveLists() {
+    Load load = new Load(LoadSettings.builder().setUsePrimitiveLists(true).build());
+    Object ints = load.loadFromString("[1, -2, 2147483647]");
+    assertTrue(ints instanceof IntArrayList);
+    assertEquals(Lists.newArrayList(1, -2, 2147483647), ints);
+    assertArrayEquals(new int[] {1, -2, 2147483647}, ((IntArrayList) ints).toIntArray());
+
+    Object longs = load.loadFromString("- 1\n- 2147483648\n- -3");
+    assertTrue(longs instanceof LongArrayList);
+    assertEquals(Lists.newArrayList(1L, 2147483648L, -3L), longs);
+
+    Object doubles = load.loadFromString("[1.5, -0.25, .inf, 1e3]");
+    assertTrue(doubles instanceof DoubleArrayList);
+    assertEquals(Lists.newArrayList(1.5, -0.25, Double.POSITIVE_INFINITY, 1000.0), doubles);
+    assertArrayEquals(new double[] {1.5, -0.25, Double.POSITIVE_INFINITY, 1000.0},
+        ((DoubleArrayList) doubles).toDoubleArray());
+
+    Load core = new Load(
+        LoadSettings.builder().setUsePrimitiveLists(true).setSchema(new CoreSchema()).build());
+    assertTrue(core.loadFromString("[0x10, 0o7, +5]") instanceof IntArrayList);
+  }
+
+  @Test
+  @DisplayName("Mixed lists are not backed by primitive arrays")
+  void parseMixedLists() {
+    Load load = new Load(LoadSettings.builder().setUsePrimitiveLists(true).build());
+    assertEquals(ArrayList.class, load.loadFromString("[1, 2.5]").getClass());
+    assertEquals(ArrayList.class, load.loadFromString("[1, a]").getClass());
+    assertEquals(ArrayList.class, load.loadFromString("[1, [2]]").getClass());
+    assertEquals(ArrayList.class, load.loadFromString("[]").getClass());
+    List<Object> big = (List<Object>) load.loadFromString("[1, 123456789012345678901234567890]");
+    assertEquals(ArrayList.class, big.getClass());
+    assertEquals(2, big.size());
+    // aliases are constructed once
+    Object aliases = load.loadFromString("[&a 7, *a, 8]");
+    assertEquals(Lists.newArrayList(7, 7, 8), aliases);
+    assertTrue(aliases instanceof IntArrayList);
+  }
+
+  @Test
+  @DisplayName("Primitive lists can be modified")
+  void modifyPrimitiveList() {
+    Load load = new Load(LoadSettings.builder().setUsePrimitiveLists(true).build());
+    List<Integer> list = (List<Integer>) load.loadFromString("[1, 2, 3]");
+    list.add(4);
+    list.add(0, 0);
+    list.remove(2);
+    list.set(0, 10);
+    assertEquals(Lists.newArrayList(10, 1, 3, 4), list);
+    assertEquals(4, ((IntArrayList) list).getInt(3));
+  }
 }
@@ -21,12 +21,17 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Iterator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 @Tag("fast")
 class LoadTest {
@@ -100,6 +105,27 @@ class LoadTest {
     assertEquals("bbb", v);
   }
 
+  @Test
+  @DisplayName("Load from Path")
+  void loadFromPath(@TempDir Path dir) throws IOException {
+    Path file = Files.write(dir.resolve("a.yaml"), "café: [1, 2]".getBytes(StandardCharsets.UTF_8));
+    LoadSettings settings = LoadSettings.builder().build();
+    Load load = new Load(settings);
+    assertEquals(load.loadFromString("café: [1, 2]"), load.loadFromPath(file));
+  }
+
+  @Test
+  @DisplayName("Load all from Path")
+  void loadAllFromPath(@TempDir Path dir) throws IOException {
+    Path file = Files.write(dir.resolve("all.yaml"), "bbb\n---\nccc".getBytes());
+    LoadSettings settings = LoadSettings.builder().build();
+    Load load = new Load(settings);
+    Iterator<Object> iter = load.loadAllFromPath(file).iterator();
+    assertEquals("bbb", iter.next());
+    assertEquals("ccc", iter.next());
+    assertFalse(iter.hasNext());
+  }
+
   @Test
   @DisplayName("Load all from String")
   void loadAllFromString() {
@@ -14,6 +14,7 @@
 package org.snakeyaml.engine.v2.api;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -24,7 +25,10 @@ import org.junit.jupiter.api.Test;
 import org.snakeyaml.engine.usecases.external_test_suite.SuiteData;
 import org.snakeyaml.engine.usecases.external_test_suite.SuiteUtils;
 import org.snakeyaml.engine.v2.api.lowlevel.Compose;
+import org.snakeyaml.engine.v2.exceptions.Mark;
 import org.snakeyaml.engine.v2.exceptions.ParserException;
+import org.snakeyaml.engine.v2.exceptions.ScannerException;
+import org.snakeyaml.engine.v2.nodes.MappingNode;
 import org.snakeyaml.engine.v2.nodes.Node;
 
 @Tag("fast")
@@ -63,5 +67,34 @@ class OptionalMarksTest {
         assertThrows(ParserException.class, () -> new Compose(settings).composeString("{a: 4}}"));
     assertEquals("expected '<document start>', but found '}'\n", exception.getMessage());
   }
+
+  @Test
+  @DisplayName("Compose: compact marks keep the position only")
+  void composeWithCompactMarks() {
+    LoadSettings settings = LoadSettings.builder().setUseCompactMarks(true).build();
+    Optional<Node> node = new Compose(settings).composeString("a: 4\nb: [1, 2]");
+    Node value = ((MappingNode) node.get()).getValue().get(1).getValueNode();
+    Mark mark = value.getStartMark().get();
+    assertEquals(1, mark.getLine());
+    assertEquals(3, mark.getColumn());
+    assertEquals(8, mark.getIndex());
+    assertFalse(mark.hasSnippet());
+    assertEquals(" in reader, line 2, column 4", mark.toString());
+  }
+
+  @Test
+  @DisplayName("Compose: failure with compact marks")
+  void composeErrorWithCompactMarks() {
+    LoadSettings settings = LoadSettings.builder().setUseCompactMarks(true).build();
+    ParserException parserException =
+        assertThrows(ParserException.class, () -> new Compose(settings).composeString("{a: 4}}"));
+    assertEquals("expected '<document start>', but found '}'\n in reader, line 1, column 7\n",
+        parserException.getMessage());
+    // the scanner creates the snippet when the exception is created
+    ScannerException scannerException = assertThrows(ScannerException.class,
+        () -> new Compose(settings).composeString("a: 4\nb: @c"));
+    assertTrue(scannerException.getMessage().contains("line 2, column 4:\n    b: @c\n       ^"),
+        scannerException.getMessage());
+  }
 }
 
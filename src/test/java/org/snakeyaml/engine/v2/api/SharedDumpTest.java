@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("fast")
+class SharedDumpTest {
+
+  @Test
+  @DisplayName("Dump instances are reused")
+  void reuse() {
+    AtomicInteger created = new AtomicInteger();
+    SharedDump dump = new SharedDump(() -> {
+      created.incrementAndGet();
+      return new Dump(DumpSettings.builder().build());
+    }, 2);
+    assertEquals("{a: 1}\n", dump.dumpToString(Map.of("a", 1)));
+    assertEquals("a\n--- b\n", dump.dumpAllToString(List.of("a", "b").iterator()));
+    assertEquals(1, created.get());
+  }
+
+  @Test
+  @DisplayName("Shared instance is used by many threads, the anchors are unique")
+  void threads() throws Exception {
+    SharedDump dump = new SharedDump(DumpSettings.builder().build());
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<String>> results = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        List<Integer> list = List.of(i);
+        Map<String, Object> data = Map.of("list", list, "copy", list);
+        results.add(executor.submit(() -> dump.dumpToString(data)));
+      }
+      Set<String> anchors = new HashSet<>();
+      for (int i = 0; i < 1000; i++) {
+        String yaml = results.get(i).get();
+        assertTrue(yaml.contains("[" + i + "]"), yaml);
+        anchors.add(yaml.substring(yaml.indexOf('&'), yaml.indexOf(' ', yaml.indexOf('&'))));
+      }
+      assertEquals(1000, anchors.size());
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
+
+@Tag("fast")
+class SharedLoadTest {
+
+  @Test
+  @DisplayName("Load instances are reused")
+  void reuse() {
+    AtomicInteger created = new AtomicInteger();
+    SharedLoad load = new SharedLoad(() -> {
+      created.incrementAndGet();
+      return new Load(LoadSettings.builder().build());
+    }, 2);
+    assertEquals(Map.of("a", 1), load.loadFromString("a: 1"));
+    assertEquals(List.of(1, 2), load.loadFromReader(new StringReader("[1, 2]")));
+    assertEquals(List.of("a", "b"), load.loadAllFromString("--- a\n--- b"));
+    assertEquals(1, created.get());
+  }
+
+  @Test
+  @DisplayName("The instance which failed is not reused")
+  void failure() {
+    AtomicInteger created = new AtomicInteger();
+    SharedLoad load = new SharedLoad(() -> {
+      created.incrementAndGet();
+      return new Load(LoadSettings.builder().build());
+    }, 2);
+    assertThrows(YamlEngineException.class, () -> load.loadFromString("[a"));
+    assertEquals("b", load.loadFromString("b"));
+    assertEquals(2, created.get());
+  }
+
+  @Test
+  @DisplayName("Shared instance is used by many threads")
+  void threads() throws Exception {
+    SharedLoad load = new SharedLoad(LoadSettings.builder().build());
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<Object>> results = new ArrayList<>();
+      for (int i = 0; i < 1000; i++) {
+        String yaml = "id: " + i + "\nlist: &x [a, b]\ncopy: *x";
+        results.add(executor.submit(() -> load.loadFromString(yaml)));
+      }
+      for (int i = 0; i < 1000; i++) {
+        Map<String, Object> map = (Map<String, Object>) results.get(i).get();
+        assertEquals(i, map.get("id"));
+        assertEquals(map.get("list"), map.get("copy"));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+}
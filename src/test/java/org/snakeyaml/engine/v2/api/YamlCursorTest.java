@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.snakeyaml.engine.v2.exceptions.ComposerException;
+import org.snakeyaml.engine.v2.nodes.NodeType;
+
+@Tag("fast")
+class YamlCursorTest {
+
+  private static List<Load> loads() {
+    List<Load> loads = new ArrayList<>();
+    loads.add(new Load(LoadSettings.builder().build()));
+    loads.add(new Load(LoadSettings.builder().setUseDirectConstruction(true).build()));
+    return loads;
+  }
+
+  @Test
+  @DisplayName("Records of a top-level sequence are constructed one by one")
+  void sequenceOfRecords() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      builder.append("- id: ").append(i).append("\n  tags: [a, b]\n");
+    }
+    for (Load load : loads()) {
+      YamlCursor cursor = load.cursorFromReader(new StringReader(builder.toString()));
+      cursor.enterSequence();
+      assertEquals(1, cursor.getDepth());
+      int count = 0;
+      while (cursor.hasNext()) {
+        assertEquals(NodeType.MAPPING, cursor.peekNodeType());
+        Map<String, Object> record = (Map<String, Object>) cursor.next();
+        assertEquals(count, record.get("id"));
+        assertEquals(List.of("a", "b"), record.get("tags"));
+        count++;
+      }
+      assertEquals(1000, count);
+      cursor.exit();
+      assertEquals(0, cursor.getDepth());
+      assertFalse(cursor.hasNext());
+    }
+  }
+
+  @Test
+  @DisplayName("Mapping is read by keys and values, the nested collections are entered")
+  void mapping() {
+    String yaml = "name: test\nskipped: {a: 1}\nitems:\n  - 1\n  - [2, 3]\n  - 4\nlast: true\n";
+    for (Load load : loads()) {
+      YamlCursor cursor = load.cursorFromString(yaml);
+      cursor.enterMapping();
+      assertTrue(cursor.isInMapping());
+      assertEquals("name", cursor.nextKey());
+      assertEquals("test", cursor.next());
+      assertEquals("skipped", cursor.nextKey());
+      cursor.skip();
+      assertEquals("items", cursor.nextKey());
+      cursor.enterSequence();
+      assertFalse(cursor.isInMapping());
+      assertEquals(1, cursor.next());
+      assertEquals(List.of(2, 3), cursor.next());
+      cursor.exit();
+      assertEquals("last", cursor.nextKey());
+      assertEquals(true, cursor.next());
+      assertFalse(cursor.hasNext());
+      cursor.exit();
+    }
+  }
+
+  @Test
+  @DisplayName("Exit skips the remaining items and the document is finished")
+  void exitAndDocuments() {
+    String yaml = "--- [1, 2, 3]\n--- {a: [1, 2], b: 2}\n--- last\n";
+    for (Load load : loads()) {
+      YamlCursor cursor = load.cursorFromString(yaml);
+      cursor.enterSequence();
+      assertEquals(1, cursor.next());
+      cursor.exit();
+      cursor.enterMapping();
+      assertEquals("a", cursor.nextKey());
+      cursor.enterSequence();
+      cursor.exit();
+      cursor.exit();
+      assertTrue(cursor.hasNext());
+      assertEquals("last", cursor.next());
+      assertFalse(cursor.hasNext());
+      assertThrows(NoSuchElementException.class, cursor::next);
+    }
+  }
+
+  @Test
+  @DisplayName("Aliases to the previous items are constructed")
+  void aliases() {
+    String yaml = "- &x {a: 1}\n- *x\n- [*x]\n";
+    for (Load load : loads()) {
+      YamlCursor cursor = load.cursorFromString(yaml);
+      cursor.enterSequence();
+      assertEquals(Map.of("a", 1), cursor.next());
+      assertEquals(NodeType.ANCHOR, cursor.peekNodeType());
+      assertEquals(Map.of("a", 1), cursor.next());
+      assertEquals(List.of(Map.of("a", 1)), cursor.next());
+      cursor.exit();
+    }
+  }
+
+  @Test
+  @DisplayName("The skipped items do not change the following ones")
+  void skipItems() {
+    String yaml = "- {a: [1,\n    2], b: 'x\n    y'}\n- - [1]\n  - k: v\n    l:\n    - 1\n    - 2\n"
+        + "- \"q\\\"\"\n- |\n  text\n- >-\n  folded\n- - &a 1\n  - *a\n- last\n";
+    for (Load load : loads()) {
+      YamlCursor cursor = load.cursorFromString(yaml);
+      cursor.enterSequence();
+      for (int i = 0; i < 6; i++) {
+        cursor.skip();
+      }
+      assertEquals("last", cursor.next());
+      assertFalse(cursor.hasNext());
+      cursor.exit();
+    }
+  }
+
+  @Test
+  @DisplayName("Exit skips the indentless sequences")
+  void exitIndentless() {
+    String yaml = "a:\n  b:\n  - x\n  - {y: z}\n  c: 1\nd: 2\n";
+    for (Load load : loads()) {
+      YamlCursor cursor = load.cursorFromString(yaml);
+      cursor.enterMapping();
+      assertEquals("a", cursor.nextKey());
+      cursor.enterMapping();
+      cursor.exit();
+      assertEquals("d", cursor.nextKey());
+      assertEquals(2, cursor.next());
+      cursor.exit();
+    }
+  }
+
+  @Test
+  @DisplayName("The anchors of the skipped items are not registered")
+  void skippedAnchor() {
+    YamlCursor cursor =
+        new Load(LoadSettings.builder().build()).cursorFromString("- &x {a: 1}\n- *x\n");
+    cursor.enterSequence();
+    cursor.skip();
+    ComposerException exception = assertThrows(ComposerException.class, cursor::next);
+    assertTrue(exception.getMessage().contains("found undefined alias"), exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Wrong usage is reported")
+  void errors() {
+    YamlCursor cursor = new Load(LoadSettings.builder().build()).cursorFromString("{a: 1}");
+    assertThrows(IllegalStateException.class, cursor::exit);
+    ComposerException exception = assertThrows(ComposerException.class, cursor::enterSequence);
+    assertTrue(exception.getMessage().contains("expected a sequence"), exception.getMessage());
+    YamlCursor mapping = new Load(LoadSettings.builder().build()).cursorFromString("{a: 1}");
+    mapping.enterMapping();
+    assertThrows(IllegalStateException.class, mapping::next);
+    assertEquals("a", mapping.nextKey());
+    assertThrows(IllegalStateException.class, mapping::nextKey);
+    YamlCursor empty = new Load(LoadSettings.builder().build()).cursorFromString("");
+    assertThrows(NoSuchElementException.class, empty::enterMapping);
+  }
+}
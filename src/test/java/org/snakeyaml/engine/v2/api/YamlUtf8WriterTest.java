@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.api;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("fast")
+class YamlUtf8WriterTest {
+
+  private static final char[] CHARS =
+      {'a', ' ', '\n', 'é', 'Д', '€', '\ud83d', '\ude00', '￿', '\u007f'};
+
+  private static String randomText(Random random, int length) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      builder.append(CHARS[random.nextInt(CHARS.length)]);
+    }
+    return builder.toString();
+  }
+
+  /**
+   * Write the text in random parts (as String or as char[])
+   */
+  private static void write(Random random, StreamDataWriter writer, String text) {
+    char[] chars = text.toCharArray();
+    int i = 0;
+    while (i < text.length()) {
+      int len = Math.min(text.length() - i, random.nextInt(30));
+      if (len == text.length() - i && i == 0) {
+        writer.write(text);
+      } else if (random.nextBoolean()) {
+        writer.writeChars(chars, i, len);
+      } else {
+        writer.write(text, i, len);
+      }
+      i += len;
+    }
+    writer.flush();
+  }
+
+  @Test
+  @DisplayName("The bytes are the same as encoded by String.getBytes()")
+  void sameAsString() {
+    Random random = new Random(7);
+    for (int n = 0; n < 300; n++) {
+      String text = randomText(random, random.nextInt(n < 200 ? 50 : 20000));
+      // the unpaired surrogates are replaced by '?' as String.getBytes() does
+      byte[] expected = text.getBytes(StandardCharsets.UTF_8);
+      YamlUtf8Writer memory = new YamlUtf8Writer();
+      write(random, memory, text);
+      assertArrayEquals(expected, memory.toByteArray(), text);
+      assertEquals(expected.length, memory.size());
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      write(random, new YamlUtf8Writer(out), text);
+      assertArrayEquals(expected, out.toByteArray(), text);
+      ByteBuffer buffer = ByteBuffer.allocate(expected.length);
+      write(random, new YamlUtf8Writer(buffer), text);
+      assertArrayEquals(expected, buffer.array(), text);
+    }
+  }
+
+  @Test
+  @DisplayName("The surrogate pair may be split between the writes")
+  void splitSurrogatePair() {
+    YamlUtf8Writer writer = new YamlUtf8Writer();
+    writer.write("a\ud83d");
+    writer.write("\ude00b\ud83d");
+    writer.write("c");
+    assertArrayEquals("a😀b?c".getBytes(StandardCharsets.UTF_8), writer.toByteArray());
+    writer.reset();
+    writer.write("x");
+    assertArrayEquals(new byte[] {'x'}, writer.toByteArray());
+  }
+
+  @Test
+  @DisplayName("The full ByteBuffer and the failed OutputStream are reported")
+  void errors() {
+    YamlUtf8Writer buffer = new YamlUtf8Writer(ByteBuffer.allocate(3));
+    buffer.write("abcd");
+    assertThrows(BufferOverflowException.class, buffer::flush);
+    OutputStream failing = new OutputStream() {
+      @Override
+      public void write(int b) throws IOException {
+        throw new IOException("failed");
+      }
+    };
+    YamlUtf8Writer stream = new YamlUtf8Writer(failing);
+    char[] big = new char[10000];
+    Arrays.fill(big, 'x');
+    assertThrows(UncheckedIOException.class, () -> stream.write(new String(big)));
+  }
+}
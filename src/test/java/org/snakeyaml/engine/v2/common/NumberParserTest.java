@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigInteger;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.snakeyaml.engine.v2.constructor.core.ConstructYamlCoreInt;
+import org.snakeyaml.engine.v2.nodes.ScalarNode;
+
+@Tag("fast")
+class NumberParserTest {
+
+  /**
+   * The JSON rule: the first type which fits
+   */
+  private static Number jdkInteger(String value) {
+    try {
+      return Integer.valueOf(value);
+    } catch (NumberFormatException e) {
+      try {
+        return Long.valueOf(value);
+      } catch (NumberFormatException e1) {
+        return new BigInteger(value);
+      }
+    }
+  }
+
+  private static Number parseSigned(String value, boolean byDigits) {
+    int start = value.charAt(0) == '-' || value.charAt(0) == '+' ? 1 : 0;
+    return NumberParser.parseInteger(value, start, value.charAt(0) == '-', 10, byDigits);
+  }
+
+  private void assertSameInteger(String value) {
+    assertEquals(jdkInteger(value), parseSigned(value, false), value);
+  }
+
+  @Test
+  @DisplayName("Integer, Long and BigInteger are chosen by the value")
+  void integerByValue() {
+    String[] values = {"0", "-0", "+7", "007", "2147483647", "2147483648", "-2147483648",
+        "-2147483649", "9223372036854775807", "9223372036854775808", "-9223372036854775808",
+        "-9223372036854775809", "123456789012345678901234567890", "00000000000000000000001"};
+    for (String value : values) {
+      assertSameInteger(value);
+    }
+    Random random = new Random(42);
+    for (int i = 0; i < 10000; i++) {
+      assertSameInteger(Integer.toString(random.nextInt()));
+      assertSameInteger(Long.toString(random.nextLong()));
+      assertSameInteger(new BigInteger(64 + random.nextInt(100), random).toString());
+    }
+  }
+
+  @Test
+  @DisplayName("Core: Integer, Long and BigInteger are chosen by the number of digits")
+  void integerByDigits() {
+    ConstructYamlCoreInt core = new ConstructYamlCoreInt() {
+      // disable the parser (to compare with the String based implementation)
+      @Override
+      protected boolean acceptParsedNumber() {
+        return false;
+      }
+    };
+    String[] values = {"0", "-0", "0x0", "0o0", "0000000001", "00000000001", "2147483648",
+        "-2147483648", "0x7FFFFFFF", "0xFFFFFFFF", "0x00000001", "0o17777777777", "0o20000000000",
+        "0o00000000001", "0x7fffffffffffffff", "0x8000000000000000", "0x0000000000000001",
+        "-9223372036854775808", "9223372036854775808", "0000000000000000001",
+        "00000000000000000001", "0o777777777777777777777", "0o1000000000000000000000"};
+    for (String value : values) {
+      Object expected = core.createIntNumber(value);
+      int start = value.charAt(0) == '-' || value.charAt(0) == '+' ? 1 : 0;
+      int radix = 10;
+      if (value.startsWith("0x")) {
+        radix = 16;
+        start = 2;
+      } else if (value.startsWith("0o")) {
+        radix = 8;
+        start = 2;
+      }
+      Number actual = NumberParser.parseInteger(value, start, start == 1 && value.charAt(0) == '-',
+          radix, true);
+      assertEquals(expected, actual, value);
+      assertEquals(expected.getClass(), actual.getClass(), value);
+    }
+  }
+
+  @Test
+  @DisplayName("Invalid integers are not parsed")
+  void invalidInteger() {
+    assertNull(NumberParser.parseInteger("", 0, false, 10, false));
+    assertNull(NumberParser.parseInteger("-", 1, true, 10, false));
+    assertNull(NumberParser.parseInteger("12a", 0, false, 10, false));
+    assertNull(NumberParser.parseInteger("0o8", 2, false, 8, true));
+    assertNull(NumberParser.parseInteger("0xG", 2, false, 16, true));
+    assertNull(NumberParser.parseInteger("1 ", 0, false, 10, false));
+    // non-ASCII digits are left to the JDK
+    assertNull(NumberParser.parseInteger("١٢", 0, false, 10, false));
+  }
+
+  private void assertSameDouble(String value) {
+    Double parsed = NumberParser.parseDouble(value);
+    if (parsed != null) {
+      assertEquals(Double.valueOf(value), parsed, value);
+    }
+  }
+
+  @Test
+  @DisplayName("The fast path gives the same doubles as the JDK")
+  void doubles() {
+    String[] values = {"0", "-0", "-0.0", "0.0", ".5", "5.", "1e5", "1E+05", "-1e-5", "1.5e22",
+        "1.5e-22", "9007199254740992", "9007199254740993", "0.1", "0.2", "0.3", "123.456",
+        "3.14159265358979", "0.00000000000000000000123", "1e22", "1e23", "-1.7976931348623157e308",
+        "4.9e-324", "+12.5", "1.e3", "0.000", "1234567890.12345678"};
+    for (String value : values) {
+      assertSameDouble(value);
+    }
+    assertEquals(-0.0, NumberParser.parseDouble("-0.0"));
+    assertEquals(0.1, NumberParser.parseDouble("0.1"));
+    assertEquals(123.456, NumberParser.parseDouble("123.456"));
+    Random random = new Random(42);
+    for (int i = 0; i < 100000; i++) {
+      double d = random.nextDouble() * Math.pow(10, random.nextInt(40) - 20);
+      assertSameDouble(Double.toString(d));
+      assertSameDouble(String.format(Locale.ROOT, "%.6f", d));
+      assertSameDouble(Long.toString(random.nextLong() % 100000000000L) + "."
+          + Integer.toString(random.nextInt(1000000)) + "e" + (random.nextInt(44) - 22));
+    }
+  }
+
+  @Test
+  @DisplayName("Values beyond the fast path and invalid values are not parsed")
+  void notParsedDoubles() {
+    String[] values =
+        {"", "-", ".", "e5", "1e", "1e+", "1x", "1.2.3", "NaN", "Infinity", ".inf", "1e23", "1e-23",
+            "12345678901234567890", "9007199254740993", "1e99999", "1.5d", " 1", "0x1p3"};
+    for (String value : values) {
+      assertNull(NumberParser.parseDouble(value), value);
+    }
+  }
+
+  @Test
+  @DisplayName("Hint with BigInteger is not parsed again")
+  void bigIntegerHint() {
+    ScalarNode node = new ScalarNode(org.snakeyaml.engine.v2.nodes.Tag.INT,
+        "123456789012345678901234567890", ScalarStyle.PLAIN);
+    node.setParsedNumber(new BigInteger("123456789012345678901234567890"));
+    assertEquals(new BigInteger("123456789012345678901234567890"),
+        new ConstructYamlCoreInt().construct(node));
+  }
+}
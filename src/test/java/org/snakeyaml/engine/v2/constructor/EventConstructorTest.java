@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.constructor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.snakeyaml.engine.v2.api.Dump;
+import org.snakeyaml.engine.v2.api.DumpSettings;
+import org.snakeyaml.engine.v2.api.Load;
+import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.api.LoadSettingsBuilder;
+import org.snakeyaml.engine.v2.common.IntArrayList;
+import org.snakeyaml.engine.v2.exceptions.ComposerException;
+import org.snakeyaml.engine.v2.exceptions.DuplicateKeyException;
+import org.snakeyaml.engine.v2.exceptions.Mark;
+import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
+import org.snakeyaml.engine.v2.schema.CoreSchema;
+
+@Tag("fast")
+class EventConstructorTest {
+
+  private static final String[] DOCUMENTS = {"", "a", "[1, 2.5, b, true, null]", "{a: 1, b: [c]}",
+      "- a\n- b: [1, {c: d}]\n- !!set {x, y}\n", "&a [1, *a]", "&a {b: *a}", "- &a x\n- *a\n- [*a]",
+      "a: &x [1, 2]\nb: *x\nc: *x", "!!str 1", "? [1, 2]\n: a", "? {a: b}\n: c", "a: 1\na: 2",
+      "!!set {a, a}", "<<: {a: 1}\nb: 2", "a: &b {x: 1, y: 2}\nc:\n  <<: *b\n  y: 3",
+      "base: &base {a: 1, b: 2}\nmore: &more {b: 3, c: 4}\nall:\n  <<: [*base, *more]\n  d: 5",
+      "x: &m {1: a}\ny: {<<: *m, 0x1: b}", "!!set {<<: {a: null}, b}", "- 1\n- 0x10\n- 0o7\n- +5",
+      "[.inf, -.Inf, .nan, 1e3]", "!!binary YWJj", "--- a\n--- b", "- *undefined", "a: ${PATH}",
+      "!!map [1, 2]", "!!seq {a: 1}", "!!int a", "!unknown a", "[!unknown a]", "!!float 1",
+      "&a &b x", "- &a [1, *a]\n- *a", "{[1]: 2, [1]: 3}", "? &k [1]\n: *k"};
+
+  private static Load load(LoadSettingsBuilder builder, boolean direct) {
+    return new Load(builder.setUseDirectConstruction(direct).build());
+  }
+
+  private String loadAndDump(Load load, String yaml) {
+    // the anchors are generated from 1 for every instance
+    Dump dump = new Dump(DumpSettings.builder().build());
+    try {
+      List<Object> documents = new ArrayList<>();
+      for (Object document : load.loadAllFromString(yaml)) {
+        documents.add(document);
+      }
+      String single;
+      try {
+        single = dump.dumpToString(load.loadFromString(yaml));
+      } catch (YamlEngineException e) {
+        single = e.getClass().getName() + ": " + e.getMessage();
+      }
+      return dump.dumpAllToString(documents.iterator()) + "\n" + single;
+    } catch (YamlEngineException e) {
+      return e.getClass().getName() + ": " + e.getMessage();
+    }
+  }
+
+  private void assertSameAsComposed(LoadSettingsBuilder builder, String yaml) {
+    String expected = loadAndDump(load(builder, false), yaml);
+    String actual = loadAndDump(load(builder, true), yaml);
+    assertEquals(expected, actual, yaml);
+  }
+
+  private static List<LoadSettingsBuilder> builders() {
+    List<LoadSettingsBuilder> builders = new ArrayList<>();
+    builders.add(LoadSettings.builder());
+    builders.add(LoadSettings.builder().setSchema(new CoreSchema()));
+    builders.add(LoadSettings.builder().setSchema(new CoreSchema()).setAllowDuplicateKeys(false)
+        .setAllowNonScalarKeys(false));
+    builders.add(LoadSettings.builder().setUsePrimitiveLists(true).setAllowRecursiveKeys(true));
+    return builders;
+  }
+
+  @Test
+  @DisplayName("The instances are the same as constructed from the nodes")
+  void sameAsComposed() {
+    for (LoadSettingsBuilder builder : builders()) {
+      for (String yaml : DOCUMENTS) {
+        assertSameAsComposed(builder, yaml);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("The test resources are constructed as from the nodes")
+  void sameResources() throws IOException {
+    List<Path> files;
+    try (Stream<Path> walk = Files.walk(Paths.get("src/test/resources"))) {
+      files = walk.filter(path -> path.toString().endsWith(".yaml")).collect(Collectors.toList());
+    }
+    for (Path file : files) {
+      String yaml = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+      for (LoadSettingsBuilder builder : builders()) {
+        assertSameAsComposed(builder, yaml);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Aliases get the same instance")
+  void aliases() {
+    Load load = load(LoadSettings.builder(), true);
+    Map<String, Object> map = (Map<String, Object>) load.loadFromString("a: &x [1]\nb: *x");
+    assertSame(map.get("a"), map.get("b"));
+    List<Object> recursive = (List<Object>) load.loadFromString("&a [1, *a]");
+    assertSame(recursive, recursive.get(1));
+  }
+
+  @Test
+  @DisplayName("The failed document does not change the next ones")
+  void afterFailure() {
+    Load load = load(LoadSettings.builder(), true);
+    for (int i = 0; i < 3; i++) {
+      assertThrows(ComposerException.class,
+          () -> load.loadFromString("a: [1, 2, {b: [x, *undefined]}]"));
+    }
+    assertEquals(Map.of("a", List.of(1, Map.of("b", List.of("x")))),
+        load.loadFromString("a: [1, {b: [x]}]"));
+  }
+
+  @Test
+  @DisplayName("Duplicate keys are reported")
+  void duplicateKeys() {
+    Load load = load(LoadSettings.builder().setAllowDuplicateKeys(false), true);
+    DuplicateKeyException exception =
+        assertThrows(DuplicateKeyException.class, () -> load.loadFromString("a: 1\nb: 2\na: 3"));
+    assertTrue(exception.getMessage().contains("found duplicate key a"), exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Sets, merges and primitive lists are constructed directly")
+  void collections() {
+    Load load =
+        load(LoadSettings.builder().setSchema(new CoreSchema()).setUsePrimitiveLists(true), true);
+    assertTrue(load.loadFromString("!!set {a, b}") instanceof Set);
+    assertTrue(load.loadFromString("[1, 2, 3]") instanceof IntArrayList);
+    Map<String, Object> merged =
+        (Map<String, Object>) load.loadFromString("x: &x {a: 1, b: 2}\ny: {<<: *x, b: 3, c: 2}");
+    assertEquals("{b=3, c=2, a=1}", merged.get("y").toString());
+  }
+
+  @Test
+  @DisplayName("The invalid merge is reported at the merged value")
+  void mergeError() {
+    Load load = load(LoadSettings.builder().setSchema(new CoreSchema()), true);
+    ComposerException exception = assertThrows(ComposerException.class,
+        () -> load.loadFromString("x: &x [1]\ny:\n  a: 1\n  <<: [{b: 2}, *x]\n  c: 3"));
+    assertTrue(exception.getMessage().contains("Expected mapping node or an anchor referencing"),
+        exception.getMessage());
+    Mark mark = exception.getProblemMark().get();
+    // the alias is reported at the anchored node
+    assertEquals(0, mark.getLine());
+    assertEquals(3, mark.getColumn());
+    exception =
+        assertThrows(ComposerException.class, () -> load.loadFromString("a: 1\n<<: text\nb: 2"));
+    mark = exception.getProblemMark().get();
+    assertEquals(1, mark.getLine());
+    assertEquals(4, mark.getColumn());
+  }
+}
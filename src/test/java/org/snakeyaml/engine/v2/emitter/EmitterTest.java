@@ -284,6 +284,45 @@ public class EmitterTest {
     assertNotNull(obj);
   }
 
+  @Test
+  @DisplayName("The output bigger than the buffer of the Emitter is written in chunks")
+  public void testBigOutput() {
+    Map<String, Object> root = new LinkedHashMap<>();
+    Map<String, Object> level = root;
+    StringBuilder expected = new StringBuilder();
+    // the indent of the deepest levels is bigger than the buffer
+    for (int i = 0; i < 1000; i++) {
+      Map<String, Object> next = new LinkedHashMap<>();
+      String scalar = "x".repeat(i % 100 == 1 ? 20000 : i % 7 + 1);
+      level.put("scalar", scalar);
+      level.put("list", List.of(i, "y"));
+      level.put("next", next);
+      level = next;
+      String indent = " ".repeat(i * 9);
+      expected.append(indent).append("scalar: ").append(scalar).append("\n").append(indent)
+          .append("list:\n").append(indent).append("- ").append(i).append("\n").append(indent)
+          .append("- y\n").append(indent).append(i == 999 ? "next: {}\n" : "next:\n");
+    }
+    DumpSettings settings = DumpSettings.builder().setDefaultFlowStyle(FlowStyle.BLOCK).setIndent(9)
+        .setWidth(1000000).build();
+    assertEquals(expected.toString(), dump(settings, root));
+  }
+
+  @Test
+  @DisplayName("The cached analysis of the scalars gives the same output")
+  public void testCachedScalarAnalysis() {
+    String[] values = {"", "a", " a", "a ", "- a", "-a", ":", "a: b", "a:b", "#a", "a #b", "[a]",
+        "a,b", "---", "...", "a\nb", "\u00e9", "\u0001", "'a'", "a\n", "?", "? a", "x".repeat(70)};
+    DumpSettings settings = DumpSettings.builder().build();
+    Dump reused = new Dump(settings);
+    // more distinct scalars than the size of the cache
+    for (int i = 0; i < 3000; i++) {
+      String value = values[i % values.length] + (i % 3 == 0 ? "" : i % 1500);
+      Map<String, Object> data = Collections.singletonMap(value, List.of(value));
+      assertEquals(dump(settings, data), reused.dumpToString(data), value);
+    }
+  }
+
   public static class MyDumperWriter extends StringWriter implements StreamDataWriter {
   }
 }
@@ -16,6 +16,7 @@ package org.snakeyaml.engine.v2.exceptions;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -88,6 +89,26 @@ class MarkTest {
         mark.createSnippet(2, 55));
   }
 
+  @Test
+  @DisplayName("Mark with Latin-1 data")
+  void testLatin1Buffer() {
+    byte[] data = "The first line.\nThe l\u00e4st line.".getBytes(StandardCharsets.ISO_8859_1);
+    Mark mark = new Mark("test1", 0, 1, 5, data, 21);
+    assertEquals("    The l\u00e4st line.\n         ^", mark.createSnippet());
+    assertEquals(data.length, mark.getBuffer().length);
+    assertEquals(0xE4, mark.getBuffer()[21]);
+  }
+
+  @Test
+  @DisplayName("Mark without data")
+  void testPositionOnly() {
+    Mark mark = new Mark("test1", 17, 2, 5);
+    assertEquals(17, mark.getIndex());
+    assertEquals("", mark.createSnippet());
+    assertEquals(0, mark.getBuffer().length);
+    assertEquals(" in test1, line 3, column 6", mark.toString());
+  }
+
   /*
    * "createSnippet(): longer content must be reduced" { val doc = """The first line. |The second
    * line, |The third line, which aaaa bbbb ccccc dddddd * contains moreeeeeeeeeeeeee |The last
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.api.lowlevel.Parse;
+import org.snakeyaml.engine.v2.common.FlowStyle;
+import org.snakeyaml.engine.v2.common.ScalarStyle;
+import org.snakeyaml.engine.v2.events.Event;
+import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
+
+@Tag("fast")
+class EventCursorTest {
+
+  private static String describe(Event event) {
+    return event + " " + event.getStartMark().map(m -> m.getIndex() + "").orElse("-") + "-"
+        + event.getEndMark().map(m -> m.getIndex() + "").orElse("-");
+  }
+
+  private static List<String> parseEvents(Parse parse, String yaml) {
+    List<String> list = new ArrayList<>();
+    try {
+      for (Event event : parse.parseString(yaml)) {
+        list.add(describe(event));
+      }
+    } catch (YamlEngineException e) {
+      list.add(e.getMessage());
+    }
+    return list;
+  }
+
+  private static List<String> cursorEvents(Parse parse, String yaml) {
+    List<String> list = new ArrayList<>();
+    try {
+      EventCursor cursor = parse.cursorFromString(yaml);
+      while (cursor.hasNext()) {
+        Event.ID id = cursor.next();
+        Event event = cursor.toEvent();
+        assertEquals(id, event.getEventId());
+        list.add(describe(event));
+        // the next event is produced before the current one is taken
+        if (cursor.hasNext()) {
+          assertEquals(describe(event), describe(cursor.toEvent()));
+        }
+      }
+    } catch (YamlEngineException e) {
+      list.add(e.getMessage());
+    }
+    return list;
+  }
+
+  @Test
+  @DisplayName("The cursor reports the same events as the parser")
+  void sameAsEvents() throws IOException {
+    List<Path> files;
+    try (Stream<Path> walk = Files.walk(Paths.get("src/test/resources"))) {
+      files = walk.filter(path -> path.toString().endsWith(".yaml")).collect(Collectors.toList());
+    }
+    List<Parse> parses = new ArrayList<>();
+    parses.add(new Parse(LoadSettings.builder().build()));
+    parses.add(new Parse(LoadSettings.builder().setParseComments(true).build()));
+    parses.add(new Parse(LoadSettings.builder().setUseMarks(false).build()));
+    for (Path file : files) {
+      String yaml = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+      for (Parse parse : parses) {
+        assertEquals(parseEvents(parse, yaml), cursorEvents(parse, yaml), file.toString());
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("The accessors report the data of the current event")
+  void accessors() {
+    String yaml = "%TAG !e! tag:e.com:\n--- !e!map\nkey: &a 'value'\nlist: [*a, !!int 1]\n";
+    EventCursor cursor = new Parse(LoadSettings.builder().build()).cursorFromString(yaml);
+    assertNull(cursor.getEventId());
+    assertEquals(Event.ID.StreamStart, cursor.next());
+    assertEquals(Event.ID.DocumentStart, cursor.next());
+    assertTrue(cursor.isExplicit());
+    assertEquals("tag:e.com:", cursor.getDocumentTags().get("!e!"));
+    assertEquals(Event.ID.MappingStart, cursor.next());
+    assertEquals("tag:e.com:map", cursor.getTag());
+    assertEquals(FlowStyle.BLOCK, cursor.getFlowStyle());
+    assertFalse(cursor.isImplicit());
+    assertEquals(Event.ID.Scalar, cursor.next());
+    assertEquals("key", cursor.getValue());
+    assertNull(cursor.getTag());
+    assertNull(cursor.getAnchor());
+    assertEquals(Event.ID.Scalar, cursor.next());
+    assertTrue(cursor.hasNext());
+    assertEquals("value", cursor.getValue());
+    assertEquals("a", cursor.getAnchor());
+    assertEquals(ScalarStyle.SINGLE_QUOTED, cursor.getScalarStyle());
+    assertEquals(2, cursor.getLine());
+    assertEquals(5, cursor.getColumn());
+    assertEquals(Event.ID.Scalar, cursor.next());
+    assertEquals(Event.ID.SequenceStart, cursor.next());
+    assertEquals(FlowStyle.FLOW, cursor.getFlowStyle());
+    assertEquals(Event.ID.Alias, cursor.next());
+    assertEquals("a", cursor.getAnchor());
+    assertNull(cursor.getValue());
+    assertEquals(Event.ID.Scalar, cursor.next());
+    assertEquals("tag:yaml.org,2002:int", cursor.getTag());
+    assertEquals("1", cursor.getValue());
+    assertEquals(Event.ID.SequenceEnd, cursor.next());
+    assertEquals(Event.ID.MappingEnd, cursor.next());
+    assertEquals(Event.ID.DocumentEnd, cursor.next());
+    assertFalse(cursor.isExplicit());
+    assertEquals(Event.ID.StreamEnd, cursor.next());
+    assertFalse(cursor.hasNext());
+    assertEquals(Event.ID.StreamEnd, cursor.getEventId());
+    assertThrows(NoSuchElementException.class, cursor::next);
+  }
+}
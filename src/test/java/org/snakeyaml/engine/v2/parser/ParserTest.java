@@ -15,14 +15,29 @@ package org.snakeyaml.engine.v2.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.snakeyaml.engine.v2.api.LoadSettings;
 import org.snakeyaml.engine.v2.events.Event;
+import org.snakeyaml.engine.v2.events.ImplicitTuple;
+import org.snakeyaml.engine.v2.events.ScalarEvent;
+import org.snakeyaml.engine.v2.exceptions.Mark;
+import org.snakeyaml.engine.v2.exceptions.ParserException;
+import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
 import org.snakeyaml.engine.v2.scanner.ScannerImpl;
 import org.snakeyaml.engine.v2.scanner.StreamReader;
 
@@ -54,5 +69,134 @@ class ParserTest {
       assertEquals("No more Events found.", e.getMessage());
     }
   }
+
+  @Test
+  @DisplayName("The parser is reset to the new input in the middle of a document")
+  void reset() {
+    LoadSettings settings = LoadSettings.builder().build();
+    StreamReader reader = new StreamReader(settings, "%TAG !e! tag:e.com:\n--- [!e!a {a: [b");
+    ScannerImpl scanner = new ScannerImpl(settings, reader);
+    ParserImpl parser = new ParserImpl(settings, scanner);
+    for (int i = 0; i < 6; i++) {
+      parser.next();
+    }
+    reader.reset("!e!a x");
+    scanner.reset(reader);
+    parser.reset(scanner);
+    assertEquals(Event.ID.StreamStart, parser.next().getEventId());
+    assertEquals(Event.ID.DocumentStart, parser.next().getEventId());
+    try {
+      parser.next();
+      fail("The tag handle of the previous stream must be forgotten");
+    } catch (ParserException e) {
+      assertTrue(e.getMessage().contains("found undefined tag handle !e!"), e.getMessage());
+    }
+    reader.reset("[a, {b: c}]");
+    scanner.reset(reader);
+    parser.reset(scanner);
+    int count = 0;
+    while (parser.hasNext()) {
+      parser.next();
+      count++;
+    }
+    assertEquals(11, count);
+  }
+
+  @Test
+  @DisplayName("The scalars share the implicit tuples")
+  void sharedImplicitTuples() {
+    LoadSettings settings = LoadSettings.builder().build();
+    Parser parser = new ParserImpl(settings,
+        new ScannerImpl(settings, new StreamReader(settings, "[a, 'b', !!str c, !!str , ]")));
+    List<ImplicitTuple> tuples = new ArrayList<>();
+    while (parser.hasNext()) {
+      Event event = parser.next();
+      if (event instanceof ScalarEvent) {
+        tuples.add(((ScalarEvent) event).getImplicit());
+      }
+    }
+    assertEquals(4, tuples.size());
+    assertSame(ImplicitTuple.of(true, false), tuples.get(0));
+    assertSame(ImplicitTuple.of(false, true), tuples.get(1));
+    assertSame(ImplicitTuple.of(false, false), tuples.get(2));
+    assertSame(ImplicitTuple.of(false, false), tuples.get(3));
+  }
+
+  @Test
+  @DisplayName("The empty items of the nested sequences are marked at their entries")
+  void emptyItemMarks() {
+    LoadSettings settings = LoadSettings.builder().setParseComments(true).build();
+    StreamReader reader = new StreamReader(settings, "-\n- - # c\n  -\n- k:\n  - x\n  -\n");
+    Parser parser = new ParserImpl(settings, new ScannerImpl(settings, reader));
+    List<String> marks = new ArrayList<>();
+    while (parser.hasNext()) {
+      Event event = parser.next();
+      if (event instanceof ScalarEvent && ((ScalarEvent) event).getValue().isEmpty()) {
+        Mark mark = event.getStartMark().get();
+        marks.add(mark.getLine() + ":" + mark.getColumn());
+      }
+    }
+    assertEquals(List.of("0:1", "1:3", "2:3", "5:3"), marks);
+  }
+
+  private static String describe(Event event) {
+    return event + " " + event.getStartMark().map(m -> m.getIndex() + "").orElse("-") + "-"
+        + event.getEndMark().map(m -> m.getIndex() + "").orElse("-");
+  }
+
+  private static List<String> events(LoadSettings settings, String yaml, int skipAt) {
+    Parser parser = new ParserImpl(settings, new StreamReader(settings, yaml));
+    List<String> events = new ArrayList<>();
+    while (parser.hasNext()) {
+      if (events.size() == skipAt) {
+        parser.skipNode();
+        skipAt = -1;
+      } else {
+        events.add(describe(parser.next()));
+      }
+    }
+    return events;
+  }
+
+  @Test
+  @DisplayName("The skipped node does not change the following events")
+  void skipNode() throws IOException {
+    List<Path> files;
+    try (Stream<Path> walk = Files.walk(Paths.get("src/test/resources"))) {
+      files = walk.filter(path -> path.toString().endsWith(".yaml")).collect(Collectors.toList());
+    }
+    List<LoadSettings> settingsList = List.of(LoadSettings.builder().build(),
+        LoadSettings.builder().setParseComments(true).build());
+    for (Path file : files) {
+      String yaml = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+      for (LoadSettings settings : settingsList) {
+        List<String> all;
+        try {
+          all = events(settings, yaml, -1);
+        } catch (YamlEngineException e) {
+          continue;
+        }
+        // the nodes to skip: the collections and some scalars
+        for (int i = 1; i < all.size(); i++) {
+          boolean collection = all.get(i).startsWith("+SEQ") || all.get(i).startsWith("+MAP");
+          if (!collection && !all.get(i).startsWith("=VAL") || all.get(i - 1).startsWith("#")) {
+            continue;
+          }
+          int end = i;
+          for (int depth = collection ? 1 : 0; depth > 0;) {
+            end++;
+            if (all.get(end).startsWith("+SEQ") || all.get(end).startsWith("+MAP")) {
+              depth++;
+            } else if (all.get(end).startsWith("-SEQ") || all.get(end).startsWith("-MAP")) {
+              depth--;
+            }
+          }
+          List<String> expected = new ArrayList<>(all.subList(0, i));
+          expected.addAll(all.subList(end + 1, all.size()));
+          assertEquals(expected, events(settings, yaml, i), file + " at " + i);
+        }
+      }
+    }
+  }
 }
 
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.representer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.snakeyaml.engine.v2.api.Dump;
+import org.snakeyaml.engine.v2.api.DumpSettings;
+import org.snakeyaml.engine.v2.api.DumpSettingsBuilder;
+import org.snakeyaml.engine.v2.api.Load;
+import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.common.FlowStyle;
+import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
+
+@Tag("fast")
+class EventRepresenterTest {
+
+  private static final Pattern ANCHOR = Pattern.compile("([&*])(id\\d+)");
+
+  private static List<Supplier<DumpSettingsBuilder>> settings() {
+    return Arrays.asList(DumpSettings::builder,
+        () -> DumpSettings.builder().setDefaultFlowStyle(FlowStyle.BLOCK),
+        () -> DumpSettings.builder().setDefaultFlowStyle(FlowStyle.FLOW),
+        () -> DumpSettings.builder()
+            .setExplicitRootTag(Optional.of(new org.snakeyaml.engine.v2.nodes.Tag("!root"))),
+        () -> DumpSettings.builder().setDereferenceAliases(true),
+        () -> DumpSettings.builder().setExplicitStart(true).setExplicitEnd(true));
+  }
+
+  private static List<Supplier<Object>> instances() {
+    List<Supplier<Object>> instances = new ArrayList<>();
+    instances.add(() -> null);
+    instances.add(() -> "text");
+    instances.add(() -> "multi\nline");
+    instances.add(() -> List.of(1, 2.5, true, "a"));
+    instances.add(() -> Arrays.asList(1, null, "b: c", List.of(), Map.of()));
+    instances.add(() -> Map.of("a", List.of(1, 2)));
+    instances.add(() -> new LinkedHashSet<>(List.of("x", "y")));
+    instances.add(() -> new Object[] {"a", new int[] {1, 2}, new byte[] {1, 2, 3}});
+    instances.add(() -> List.of("a", "b", "c").iterator());
+    instances.add(() -> List.of(Optional.of(List.of(1)), Optional.empty(),
+        UUID.nameUUIDFromBytes(new byte[] {1}), FlowStyle.FLOW));
+    instances.add(() -> {
+      Map<Object, Object> map = new LinkedHashMap<>();
+      map.put(List.of(1, 2), "list key");
+      map.put(Map.of("k", "v"), null);
+      map.put("rows", IntStream.range(0, 3).mapToObj(i -> Map.of("id", i)).iterator());
+      return map;
+    });
+    instances.add(() -> {
+      List<Object> shared = new ArrayList<>(List.of(1, 2));
+      Map<String, Object> map = new HashMap<>(Map.of("k", shared));
+      return Arrays.asList(map, shared, "x", map, List.of(shared), shared);
+    });
+    instances.add(() -> {
+      List<Object> recursive = new ArrayList<>();
+      recursive.add(recursive);
+      recursive.add(List.of(recursive));
+      return recursive;
+    });
+    instances.add(() -> {
+      Map<String, Object> recursive = new LinkedHashMap<>();
+      recursive.put("self", recursive);
+      return List.of(recursive, recursive);
+    });
+    return instances;
+  }
+
+  /**
+   * Rename the anchors in the order of their appearance (they are generated in a different order)
+   */
+  private static String normalize(String yaml) {
+    Map<String, String> names = new HashMap<>();
+    Matcher matcher = ANCHOR.matcher(yaml);
+    StringBuilder result = new StringBuilder();
+    while (matcher.find()) {
+      String name = names.computeIfAbsent(matcher.group(2), key -> "a" + names.size());
+      matcher.appendReplacement(result, matcher.group(1) + name);
+    }
+    matcher.appendTail(result);
+    return result.toString();
+  }
+
+  private static String dump(DumpSettings settings, Object instance) {
+    try {
+      return normalize(new Dump(settings).dumpToString(instance));
+    } catch (YamlEngineException e) {
+      return "error";
+    }
+  }
+
+  private static void assertSameAsNodes(Supplier<Object> instance) {
+    for (Supplier<DumpSettingsBuilder> builder : settings()) {
+      String expected = dump(builder.get().build(), instance.get());
+      String streamed = dump(builder.get().setUseStreaming(true).build(), instance.get());
+      assertEquals(expected, streamed);
+    }
+  }
+
+  @Test
+  @DisplayName("The output is the same as for the Node graph")
+  void sameAsNodes() {
+    for (Supplier<Object> instance : instances()) {
+      assertSameAsNodes(instance);
+    }
+  }
+
+  @Test
+  @DisplayName("The loaded test resources are dumped as with the Node graph")
+  void sameResources() throws IOException {
+    List<Path> files;
+    try (Stream<Path> walk = Files.walk(Paths.get("src/test/resources"))) {
+      files = walk.filter(path -> path.toString().endsWith(".yaml")).collect(Collectors.toList());
+    }
+    Load load = new Load(LoadSettings.builder().build());
+    for (Path file : files) {
+      String yaml = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+      List<Object> documents = new ArrayList<>();
+      try {
+        load.loadAllFromString(yaml).forEach(documents::add);
+      } catch (YamlEngineException e) {
+        continue;
+      }
+      for (Object document : documents) {
+        assertSameAsNodes(() -> document);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("The rows of the Iterator are emitted one by one")
+  void iteratorOfRows() {
+    Supplier<Object> rows = () -> IntStream.range(0, 2000)
+        .mapToObj(i -> Map.of("id", i, "tags", List.of("a", "b"))).iterator();
+    assertSameAsNodes(rows);
+  }
+
+  @Test
+  @DisplayName("The shared and the recursive instances are loaded back")
+  void sharedInstances() {
+    List<Object> shared = new ArrayList<>(List.of(1, 2));
+    List<Object> recursive = new ArrayList<>();
+    recursive.add(recursive);
+    Dump dump = new Dump(DumpSettings.builder().setUseStreaming(true).build());
+    List<Object> loaded = (List<Object>) new Load(LoadSettings.builder().build())
+        .loadFromString(dump.dumpToString(List.of(shared, Map.of("k", shared), recursive)));
+    assertSame(loaded.get(0), ((Map<String, Object>) loaded.get(1)).get("k"));
+    List<Object> loadedRecursive = (List<Object>) loaded.get(2);
+    assertSame(loadedRecursive, loadedRecursive.get(0));
+  }
+
+  @Test
+  @DisplayName("The recursive Iterator cannot be streamed")
+  void recursiveIterator() {
+    List<Object> list = new ArrayList<>();
+    list.add(list);
+    Dump dump = new Dump(DumpSettings.builder().setUseStreaming(true).build());
+    YamlEngineException exception =
+        assertThrows(YamlEngineException.class, () -> dump.dumpToString(list.iterator()));
+    assertEquals("Cannot stream the recursive structure without an anchor.",
+        exception.getMessage());
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.resolver;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.snakeyaml.engine.v2.api.ConstructNode;
+import org.snakeyaml.engine.v2.common.ScalarStyle;
+import org.snakeyaml.engine.v2.constructor.core.ConstructYamlCoreFloat;
+import org.snakeyaml.engine.v2.constructor.core.ConstructYamlCoreInt;
+import org.snakeyaml.engine.v2.constructor.json.ConstructYamlJsonFloat;
+import org.snakeyaml.engine.v2.constructor.json.ConstructYamlJsonInt;
+import org.snakeyaml.engine.v2.events.ImplicitTuple;
+import org.snakeyaml.engine.v2.nodes.ScalarNode;
+import org.snakeyaml.engine.v2.nodes.Tag;
+
+@org.junit.jupiter.api.Tag("fast")
+class FastScalarResolverTest {
+
+  private static final List<String> VALUES = Arrays.asList("", " ", "  ", "~", "~~", "null", "Null",
+      "NULL", "nULL", "nul", "nulls", "true", "True", "TRUE", "tRue", "false", "False", "FALSE",
+      "falsE", "yes", "on", "0", "00", "-0", "+0", "01", "-01", "12", "-12", "+12", "0o", "0o7",
+      "0o17", "0o8", "-0o7", "0x", "0x1F", "0xfg", "0X1F", "-0x1", "0b101", ".", "-.", "+.", "1.",
+      "-1.", ".5", "-.5", "+.5", "1.5", "0.5", "00.5", "1e5", "1E5", "1e+5", "1e-5", "1e", "1e+",
+      ".e5", "1.e5", "1.5e5", ".5e5", "0e5", "-0.0", "1.5.5", "1ee5", ".inf", ".Inf", ".INF",
+      ".iNF", "-.inf", "+.inf", "-.Inf", "+.INF", ".infinity", "inf", ".nan", ".NaN", ".NAN",
+      ".Nan", "-.nan", "+.nan", "nan", "<<", "<", "<<<", "${}", "${ }", "${A}", "${ A }", "${A-}",
+      "${A:-}", "${A:}", "${A?x}", "${A:?x_1}", "${A:-x y}", "${:-x}", "${A B}", "${\tA\n}", "${A",
+      "$A", "${A}}", "{A}", "1_000", "1,000", "１２", "٣", "abc", "2147483647", "2147483648",
+      "-2147483648", "-2147483649", "00000000001", "9223372036854775807", "9223372036854775808",
+      "-9223372036854775808", "12345678901234567890", "0o17777777777", "0o20000000000",
+      "0o777777777777777777777", "0o1777777777777777777777", "0x7FFFFFFF", "0xFFFFFFFF",
+      "0x7FFFFFFFFFFFFFFF", "0xFFFFFFFFFFFFFFFF", "0x00000001", "1.7976931348623157E308",
+      "4.9e-324", "1e400", "-1e-400");
+
+  private static final char[] ALPHABET =
+      {'0', '1', '7', '8', '9', 'a', 'f', 'F', 'g', 'o', 'x', 'e', 'E', 'i', 'n', 'N', 'I', '.',
+          '-', '+', '_', '$', '{', '}', ':', '?', ' ', '<', '~', 'l', 'u', 't', 'r'};
+
+  private static List<String> values() {
+    List<String> values = new ArrayList<>(VALUES);
+    Random random = new Random(7);
+    for (int i = 0; i < 200000; i++) {
+      char[] chars = new char[1 + random.nextInt(7)];
+      for (int j = 0; j < chars.length; j++) {
+        chars[j] = ALPHABET[random.nextInt(ALPHABET.length)];
+      }
+      values.add(new String(chars));
+    }
+    for (String prefix : new String[] {"", "-", "+", "."}) {
+      for (String value : VALUES) {
+        values.add(prefix + value);
+      }
+    }
+    return values;
+  }
+
+  private static void assertSameTags(ScalarResolver expected, ScalarResolver resolver) {
+    for (String value : values()) {
+      Tag tag = expected.resolve(value, true);
+      assertEquals(tag, resolver.resolve(value, true), "Value: '" + value + "'");
+      assertEquals(Tag.STR, resolver.resolve(value, false));
+    }
+  }
+
+  private static void assertSameNumbers(ScalarResolver resolver, ConstructNode constructInt,
+      ConstructNode constructFloat) {
+    for (String value : values()) {
+      Number parsed = resolver.resolveNumber(value);
+      if (parsed != null) {
+        Tag tag = resolver.resolve(value, true);
+        assertEquals(tag, parsed instanceof Double ? Tag.FLOAT : Tag.INT, value);
+        ScalarNode node = new ScalarNode(tag, value, ScalarStyle.PLAIN);
+        Object expected = (tag == Tag.INT ? constructInt : constructFloat).construct(node);
+        assertEquals(expected, parsed, "Value: '" + value + "'");
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Parsed Core numbers are the same as constructed")
+  void sameNumbersAsCore() {
+    assertSameNumbers(new FastCoreScalarResolver(true), new ConstructYamlCoreInt(),
+        new ConstructYamlCoreFloat());
+  }
+
+  @Test
+  @DisplayName("Parsed JSON numbers are the same as constructed")
+  void sameNumbersAsJson() {
+    assertSameNumbers(new FastJsonScalarResolver(), new ConstructYamlJsonInt(),
+        new ConstructYamlJsonFloat());
+  }
+
+  @Test
+  @DisplayName("FastCoreScalarResolver resolves as CoreScalarResolver")
+  void sameAsCore() {
+    assertSameTags(new CoreScalarResolver(true), new FastCoreScalarResolver(true));
+    assertSameTags(new CoreScalarResolver(false), new FastCoreScalarResolver(false));
+  }
+
+  @Test
+  @DisplayName("FastJsonScalarResolver resolves as JsonScalarResolver")
+  void sameAsJson() {
+    assertSameTags(new JsonScalarResolver(), new FastJsonScalarResolver());
+  }
+
+  @Test
+  @DisplayName("The implicit flags are the same as resolved for both styles")
+  void sameImplicit() {
+    List<ScalarResolver> resolvers = Arrays.asList(new FastCoreScalarResolver(true),
+        new FastJsonScalarResolver(), new CoreScalarResolver(true), new JsonScalarResolver());
+    List<Tag> tags = Arrays.asList(Tag.STR, Tag.INT, Tag.FLOAT, Tag.BOOL, Tag.NULL, Tag.ENV_TAG,
+        new Tag("!custom"));
+    for (ScalarResolver resolver : resolvers) {
+      for (String value : VALUES) {
+        for (Tag tag : tags) {
+          ImplicitTuple implicit = resolver.resolveImplicit(value, tag);
+          assertEquals(tag.equals(resolver.resolve(value, true)),
+              implicit.canOmitTagInPlainScalar(), value);
+          assertEquals(tag.equals(resolver.resolve(value, false)),
+              implicit.canOmitTagInNonPlainScalar(), value);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.snakeyaml.engine.v2.api.Load;
+import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.exceptions.Mark;
+import org.snakeyaml.engine.v2.exceptions.ReaderException;
+import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
+
+@Tag("fast")
+class StreamReaderCompactWindowTest {
+
+  private static final String[] DATA = {"abc: def\n- ghijklmnop\r\n\n  qrstuvwxyz",
+      "café: naïve  ÿ\n", "abc: 𐀀 def\n- ghЖijklmnop\n\n  qrsétuvwxyz",
+      "Жabcdefghijklmnopqrstuvwxyzé\nabcdefghijklmnopqrstuvwxyz 𐐁"};
+
+  private LoadSettings settings(int bufferSize, boolean ring, boolean compact) {
+    return LoadSettings.builder().setBufferSize(bufferSize).setUseRingBuffer(ring)
+        .setUseCompactWindow(compact).build();
+  }
+
+  @Test
+  @DisplayName("Compact window reads the same code points as the default window")
+  void sameCodePoints() {
+    for (String data : DATA) {
+      for (int bufferSize = 1; bufferSize < 20; bufferSize++) {
+        for (boolean ring : new boolean[] {false, true}) {
+          StreamReader expected = new StreamReader(settings(bufferSize, false, false), data);
+          StreamReader reader = new StreamReader(settings(bufferSize, ring, true), data);
+          while (expected.peek() != 0) {
+            assertEquals(expected.peek(), reader.peek());
+            assertEquals(expected.peek(2), reader.peek(2));
+            assertEquals(expected.prefix(4), reader.prefix(4));
+            assertEquals(expected.getLine(), reader.getLine());
+            assertEquals(expected.getColumn(), reader.getColumn());
+            Mark expectedMark = expected.getMark().get();
+            Mark mark = reader.getMark().get();
+            assertEquals(expectedMark.getIndex(), mark.getIndex());
+            if (!ring) {
+              // the circular window copies the line (which may be longer)
+              assertEquals(expectedMark.createSnippet(0, 5), mark.createSnippet(0, 5));
+            }
+            expected.forward();
+            reader.forward();
+          }
+          assertEquals(0, reader.peek());
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Invalid code point is reported from the compact window")
+  void invalidCodePoint() {
+    StreamReader reader = new StreamReader(settings(3, false, true), "0123é456789\u0005");
+    ReaderException exception = assertThrows(ReaderException.class, () -> {
+      while (reader.peek() != 0) {
+        reader.forward();
+      }
+    });
+    assertEquals(11, exception.getPosition());
+    assertEquals(5, exception.getCodePoint());
+  }
+
+  @Test
+  @DisplayName("Error snippet from the compact window")
+  void errorSnippet() {
+    String yaml = "café: [1, 2\nnaïve: }";
+    YamlEngineException expected = assertThrows(YamlEngineException.class,
+        () -> new Load(settings(1024, false, false)).loadFromString(yaml));
+    YamlEngineException exception = assertThrows(YamlEngineException.class,
+        () -> new Load(settings(1024, false, true)).loadFromString(yaml));
+    assertEquals(expected.getMessage(), exception.getMessage());
+  }
+}
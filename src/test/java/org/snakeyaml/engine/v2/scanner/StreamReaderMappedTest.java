@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
+
+@Tag("fast")
+class StreamReaderMappedTest {
+
+  private static final String[] DATA = {"", "abc: def\n- ghijklmnop\r\n\n  qrstuvwxyz",
+      "café: naïve  ÿ\n", "abc: 𐀀 def\n- ghЖijklmnop\n\n  qrsétuvwxyz", "€𐍈€𐍈€𐍈€𐍈\u0085 "};
+
+  @TempDir
+  Path dir;
+
+  private Path write(byte[] bom, byte[] data) throws IOException {
+    byte[] all = new byte[bom.length + data.length];
+    System.arraycopy(bom, 0, all, 0, bom.length);
+    System.arraycopy(data, 0, all, bom.length, data.length);
+    return Files.write(dir.resolve("input.yaml"), all);
+  }
+
+  private void assertSameCodePoints(byte[] bom, byte[] data) throws IOException {
+    Path file = write(bom, data);
+    byte[] all = Files.readAllBytes(file);
+    for (int region = 4; region < 12; region++) {
+      for (boolean ring : new boolean[] {false, true}) {
+        LoadSettings settings =
+            LoadSettings.builder().setBufferSize(5).setUseRingBuffer(ring).build();
+        StreamReader expected = new StreamReader(settings, new ByteArrayInputStream(all));
+        StreamReader reader = new StreamReader(settings, file, region);
+        while (expected.peek() != 0) {
+          assertEquals(expected.peek(), reader.peek());
+          assertEquals(expected.prefix(3), reader.prefix(3));
+          assertEquals(expected.getIndex(), reader.getIndex());
+          assertEquals(expected.getLine(), reader.getLine());
+          assertEquals(expected.getColumn(), reader.getColumn());
+          expected.forward();
+          reader.forward();
+        }
+        assertEquals(0, reader.peek());
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Mapped regions are decoded as the InputStream")
+  void sameCodePoints() throws IOException {
+    for (String data : DATA) {
+      assertSameCodePoints(new byte[0], data.getBytes(StandardCharsets.UTF_8));
+      assertSameCodePoints(new byte[] {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF},
+          data.getBytes(StandardCharsets.UTF_8));
+      assertSameCodePoints(new byte[] {(byte) 0xFE, (byte) 0xFF},
+          data.getBytes(StandardCharsets.UTF_16BE));
+    }
+  }
+
+  @Test
+  @DisplayName("Incomplete UTF-8 sequence at the end of the file")
+  void malformed() throws IOException {
+    Path file =
+        write("abc".getBytes(StandardCharsets.UTF_8), new byte[] {(byte) 0xE2, (byte) 0x82});
+    for (int region = 4; region < 8; region++) {
+      StreamReader reader = new StreamReader(LoadSettings.builder().build(), file, region);
+      YamlEngineException exception = assertThrows(YamlEngineException.class, () -> {
+        while (reader.peek() != 0) {
+          reader.forward();
+        }
+      });
+      assertTrue(exception.getCause() instanceof MalformedInputException);
+    }
+  }
+
+  @Test
+  @DisplayName("Missing file is reported on the first read")
+  void missingFile() {
+    StreamReader reader = new StreamReader(LoadSettings.builder().build(), dir.resolve("no.yaml"));
+    YamlEngineException exception = assertThrows(YamlEngineException.class, reader::peek);
+    assertTrue(exception.getCause() instanceof NoSuchFileException);
+  }
+}
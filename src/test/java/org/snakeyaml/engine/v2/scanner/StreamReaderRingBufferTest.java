@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.snakeyaml.engine.v2.api.Load;
+import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.exceptions.ParserException;
+import org.snakeyaml.engine.v2.exceptions.ReaderException;
+
+@Tag("fast")
+class StreamReaderRingBufferTest {
+
+  private static final String DATA = "abc: 𐀀 def\r\n- ghijklmnop\n\n  qrsétuvw𐐁xyz";
+
+  private LoadSettings settings(int bufferSize, boolean ring) {
+    return LoadSettings.builder().setBufferSize(bufferSize).setUseRingBuffer(ring).build();
+  }
+
+  @Test
+  @DisplayName("Circular window reads the same code points as the default window")
+  void sameCodePoints() {
+    for (int bufferSize = 1; bufferSize < 20; bufferSize++) {
+      StreamReader expected = new StreamReader(settings(bufferSize, false), DATA);
+      StreamReader reader = new StreamReader(settings(bufferSize, true), DATA);
+      while (expected.peek() != 0) {
+        assertEquals(expected.peek(), reader.peek());
+        assertEquals(expected.peek(3), reader.peek(3));
+        assertEquals(expected.prefix(5), reader.prefix(5));
+        assertEquals(expected.getLine(), reader.getLine());
+        assertEquals(expected.getColumn(), reader.getColumn());
+        assertEquals(expected.getIndex(), reader.getIndex());
+        expected.forward();
+        reader.forward();
+      }
+      assertEquals(0, reader.peek());
+    }
+  }
+
+  @Test
+  @DisplayName("Circular window grows when the look-ahead does not fit")
+  void growForLookAhead() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 1000; i++) {
+      builder.append((char) ('a' + i % 26));
+    }
+    String data = builder.toString();
+    StreamReader reader = new StreamReader(settings(4, true), data);
+    reader.forward(3);
+    assertEquals(data.charAt(903), reader.peek(900));
+    assertEquals(data.substring(3, 903), reader.prefixForward(900));
+    assertEquals(data.substring(903), reader.prefix(200));
+  }
+
+  @Test
+  @DisplayName("Invalid code point position is reported from the beginning of the stream")
+  void invalidCodePoint() {
+    StreamReader reader = new StreamReader(settings(3, true), "0123456789\u0005");
+    ReaderException exception = assertThrows(ReaderException.class, () -> {
+      while (reader.peek() != 0) {
+        reader.forward();
+      }
+    });
+    assertEquals(10, exception.getPosition());
+  }
+
+  @Test
+  @DisplayName("Marks keep their own snippet")
+  void marks() {
+    String yaml = " - foo: bar\n" + "   if: 'aaa' == 'bbb'";
+    ParserException expected = assertThrows(ParserException.class,
+        () -> new Load(settings(yaml.length(), false)).loadFromString(yaml));
+    ParserException exception =
+        assertThrows(ParserException.class, () -> new Load(settings(4, true)).loadFromString(yaml));
+    assertEquals(expected.getMessage(), exception.getMessage());
+  }
+
+  @Test
+  @DisplayName("Load with the circular window")
+  void load() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 2000; i++) {
+      builder.append("key").append(i).append(": value ").append(i).append('\n');
+    }
+    String yaml = builder.toString();
+    Map<?, ?> expected = (Map<?, ?>) new Load(settings(16, false)).loadFromString(yaml);
+    Map<?, ?> map = (Map<?, ?>) new Load(settings(16, true)).loadFromString(yaml);
+    assertEquals(expected, map);
+    assertEquals(2000, map.size());
+  }
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.api.YamlUnicodeReader;
+import org.snakeyaml.engine.v2.exceptions.ReaderException;
+import org.snakeyaml.engine.v2.exceptions.YamlEngineException;
+
+@Tag("fast")
+class StreamReaderUtf8Test {
+
+  private static final String[] DATA = {"", "abc: def\n- ghijklmnop\r\n\n  qrstuvwxyz",
+      "café: naïve  ÿ\n", "abc: 𐀀 def\n- ghЖijklmnop\n\n  qrsétuvwxyz",
+      "Жabcdefghijklmnopqrstuvwxyzé\nabcdefghijklmnopqrstuvwxyz 𐐁", "€𐍈€𐍈€𐍈€𐍈\u0085 "};
+
+  private LoadSettings settings(int bufferSize, boolean ring, boolean compact) {
+    return LoadSettings.builder().setBufferSize(bufferSize).setUseRingBuffer(ring)
+        .setUseCompactWindow(compact).build();
+  }
+
+  private static ByteArrayInputStream input(byte[]... parts) {
+    int length = 0;
+    for (byte[] part : parts) {
+      length += part.length;
+    }
+    byte[] all = new byte[length];
+    int position = 0;
+    for (byte[] part : parts) {
+      System.arraycopy(part, 0, all, position, part.length);
+      position += part.length;
+    }
+    return new ByteArrayInputStream(all);
+  }
+
+  private static byte[] bytes(int... values) {
+    byte[] result = new byte[values.length];
+    for (int i = 0; i < values.length; i++) {
+      result[i] = (byte) values[i];
+    }
+    return result;
+  }
+
+  private static void readAll(StreamReader reader) {
+    while (reader.peek() != 0) {
+      reader.forward();
+    }
+  }
+
+  private void assertSameCodePoints(String data, byte[] bom, Charset charset) {
+    for (int bufferSize = 1; bufferSize < 20; bufferSize++) {
+      for (boolean ring : new boolean[] {false, true}) {
+        for (boolean compact : new boolean[] {false, true}) {
+          LoadSettings settings = settings(bufferSize, ring, compact);
+          StreamReader expected =
+              new StreamReader(settings, new YamlUnicodeReader(input(bom, data.getBytes(charset))));
+          StreamReader reader = new StreamReader(settings, input(bom, data.getBytes(charset)));
+          while (expected.peek() != 0) {
+            assertEquals(expected.peek(), reader.peek());
+            assertEquals(expected.peek(2), reader.peek(2));
+            assertEquals(expected.prefix(4), reader.prefix(4));
+            assertEquals(expected.getIndex(), reader.getIndex());
+            assertEquals(expected.getLine(), reader.getLine());
+            assertEquals(expected.getColumn(), reader.getColumn());
+            expected.forward();
+            reader.forward();
+          }
+          assertEquals(0, reader.peek());
+        }
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("UTF-8 bytes are decoded as by YamlUnicodeReader")
+  void sameCodePoints() {
+    for (String data : DATA) {
+      assertSameCodePoints(data, new byte[0], StandardCharsets.UTF_8);
+    }
+  }
+
+  @Test
+  @DisplayName("UTF-8 BOM is skipped")
+  void utf8Bom() {
+    for (String data : DATA) {
+      assertSameCodePoints(data, bytes(0xEF, 0xBB, 0xBF), StandardCharsets.UTF_8);
+    }
+    StreamReader reader = new StreamReader(settings(1, false, false),
+        input(bytes(0xEF, 0xBB, 0xBF), "a".getBytes(StandardCharsets.UTF_8)));
+    assertEquals('a', reader.peek());
+    assertEquals(0, reader.getIndex());
+  }
+
+  @Test
+  @DisplayName("UTF-16 input is decoded by YamlUnicodeReader")
+  void utf16Bom() {
+    for (String data : DATA) {
+      assertSameCodePoints(data, bytes(0xFE, 0xFF), StandardCharsets.UTF_16BE);
+      assertSameCodePoints(data, bytes(0xFF, 0xFE), StandardCharsets.UTF_16LE);
+    }
+  }
+
+  @Test
+  @DisplayName("Malformed UTF-8 is rejected")
+  void malformed() {
+    byte[][] invalid = {bytes(0xFF), bytes(0x80), bytes(0xC0, 0x80), bytes(0xE0, 0x80, 0x80),
+        bytes(0xED, 0xA0, 0x80), bytes(0xF4, 0x90, 0x80, 0x80), bytes(0xC3, 0x41),
+        bytes(0xE2, 0x82), bytes(0xF0, 0x90, 0x8D)};
+    for (byte[] tail : invalid) {
+      for (int bufferSize = 1; bufferSize < 8; bufferSize++) {
+        StreamReader reader = new StreamReader(settings(bufferSize, false, false),
+            input("abc".getBytes(StandardCharsets.UTF_8), tail));
+        YamlEngineException exception =
+            assertThrows(YamlEngineException.class, () -> readAll(reader));
+        assertTrue(exception.getCause() instanceof MalformedInputException);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("Non-printable code point is reported at its position")
+  void nonPrintable() {
+    for (int bufferSize = 1; bufferSize < 8; bufferSize++) {
+      StreamReader reader = new StreamReader(settings(bufferSize, false, false),
+          input("0123é456789\u0005".getBytes(StandardCharsets.UTF_8)));
+      ReaderException exception = assertThrows(ReaderException.class, () -> readAll(reader));
+      assertEquals(11, exception.getPosition());
+      assertEquals(5, exception.getCodePoint());
+    }
+  }
+}
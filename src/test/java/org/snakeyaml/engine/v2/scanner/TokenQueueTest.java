@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.snakeyaml.engine.v2.tokens.KeyToken;
+import org.snakeyaml.engine.v2.tokens.Token;
+
+@Tag("fast")
+class TokenQueueTest {
+
+  @Test
+  @DisplayName("Token queue behaves as a list")
+  void sameAsList() {
+    Random random = new Random(42);
+    TokenQueue queue = new TokenQueue(1);
+    List<Token> expected = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      Token token = new KeyToken(Optional.empty(), Optional.empty());
+      int operation = random.nextInt(4);
+      if (operation == 0 && !expected.isEmpty()) {
+        assertSame(expected.remove(0), queue.poll());
+      } else if (operation == 1) {
+        int index = random.nextInt(expected.size() + 1);
+        expected.add(index, token);
+        queue.add(index, token);
+      } else if (operation == 2) {
+        List<Token> tokens = Arrays.asList(token, new KeyToken(Optional.empty(), Optional.empty()));
+        expected.addAll(tokens);
+        queue.addAll(tokens);
+      } else {
+        expected.add(token);
+        queue.add(token);
+      }
+      assertEquals(expected.size(), queue.size());
+      if (!expected.isEmpty()) {
+        assertSame(expected.get(0), queue.peek());
+      }
+    }
+    while (!expected.isEmpty()) {
+      assertSame(expected.remove(0), queue.poll());
+    }
+    assertTrue(queue.isEmpty());
+  }
+
+  @Test
+  @DisplayName("Empty token queue")
+  void empty() {
+    TokenQueue queue = new TokenQueue(4);
+    assertThrows(NoSuchElementException.class, queue::peek);
+    assertThrows(NoSuchElementException.class, queue::poll);
+    assertThrows(IndexOutOfBoundsException.class,
+        () -> queue.add(1, new KeyToken(Optional.empty(), Optional.empty())));
+  }
+}
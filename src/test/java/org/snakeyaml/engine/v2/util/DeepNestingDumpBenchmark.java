@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.util;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.snakeyaml.engine.v2.api.Dump;
+import org.snakeyaml.engine.v2.api.DumpSettings;
+import org.snakeyaml.engine.v2.api.StreamDataWriter;
+import org.snakeyaml.engine.v2.common.FlowStyle;
+
+/**
+ * JMH microbenchmark to dump deeply nested block collections (the `depth` of the nested mappings
+ * with a sequence of records at every level), where most of the output is the indentation. The
+ * number of the calls to the StreamDataWriter per dump is printed at the setup. The GC profiler
+ * shows the allocation per operation.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeepNestingDumpBenchmark {
+
+  @Param({"10", "50"})
+  private int depth;
+  private Dump dump;
+  private Object data;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(DeepNestingDumpBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class).build()).run();
+  }
+
+  @Setup
+  public void setup() {
+    dump = new Dump(DumpSettings.builder().setDefaultFlowStyle(FlowStyle.BLOCK).build());
+    Map<String, Object> root = new LinkedHashMap<>();
+    Map<String, Object> level = root;
+    for (int i = 0; i < depth; i++) {
+      List<Object> records = new ArrayList<>();
+      for (int j = 0; j < 5; j++) {
+        records.add(Map.of("id", j, "tags", List.of("a", "b")));
+      }
+      level.put("records", records);
+      Map<String, Object> next = new LinkedHashMap<>();
+      level.put("level" + i, next);
+      level = next;
+    }
+    data = root;
+    CountingWriter counter = new CountingWriter();
+    dump.dump(data, counter);
+    System.out.println("\nStreamDataWriter calls per dump: " + counter.calls);
+  }
+
+  @Benchmark
+  public String dump() {
+    return dump.dumpToString(data);
+  }
+
+  private static final class CountingWriter extends StringWriter implements StreamDataWriter {
+
+    private int calls = 0;
+
+    @Override
+    public void write(String str) {
+      calls++;
+      super.write(str);
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+      calls++;
+      super.write(str, off, len);
+    }
+
+    @Override
+    public void writeChars(char[] cbuf, int off, int len) {
+      calls++;
+      write(cbuf, off, len);
+    }
+  }
+}
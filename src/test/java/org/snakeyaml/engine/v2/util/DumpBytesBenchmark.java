@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.snakeyaml.engine.v2.api.Dump;
+import org.snakeyaml.engine.v2.api.DumpSettings;
+import org.snakeyaml.engine.v2.api.YamlOutputStreamWriter;
+import org.snakeyaml.engine.v2.api.YamlUtf8Writer;
+import org.snakeyaml.engine.v2.common.FlowStyle;
+
+/**
+ * JMH microbenchmark to dump a document (1000 records in the block style) to UTF-8 bytes. The
+ * `writer` is the way to encode the chars: YamlOutputStreamWriter (with the CharsetEncoder) or
+ * YamlUtf8Writer. The GC profiler shows the allocation per operation.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DumpBytesBenchmark {
+
+  @Param({"encoder", "utf8"})
+  private String writer;
+  private Dump dump;
+  private Object data;
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(DumpBytesBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class).build()).run();
+  }
+
+  @Setup
+  public void setup() {
+    dump = new Dump(DumpSettings.builder().setDefaultFlowStyle(FlowStyle.BLOCK).build());
+    List<Object> records = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      Map<String, Object> record = new LinkedHashMap<>();
+      record.put("id", i);
+      record.put("name", "user " + i);
+      record.put("city", i % 2 == 0 ? "Zürich" : "Berlin");
+      record.put("roles", List.of("admin", "user"));
+      records.add(record);
+    }
+    data = records;
+  }
+
+  @Benchmark
+  public int dump() {
+    out.reset();
+    if ("utf8".equals(writer)) {
+      dump.dump(data, out);
+    } else {
+      YamlOutputStreamWriter encoder = new YamlOutputStreamWriter(out, StandardCharsets.UTF_8);
+      dump.dump(data, encoder);
+      encoder.flush();
+    }
+    return out.size();
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.scanner.ScannerImpl;
+import org.snakeyaml.engine.v2.scanner.StreamReader;
+
+/**
+ * JMH microbenchmark to test the token queue of the scanner with large flow mappings. A long line
+ * of flow entries (`{k0: v0, k1: [0, 1], ...}`) and deeply nested flow collections keep the scanner
+ * busy with the possible simple keys and the insertion of the KEY tokens.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FlowMappingBenchmark {
+
+  @Param({"1000", "100000"})
+  private int entries;
+  private String flatMapping;
+  private String nestedMapping;
+  private final LoadSettings settings =
+      LoadSettings.builder().setCodePointLimit(Integer.MAX_VALUE).build();
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(FlowMappingBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+
+  @Setup
+  public void setup() {
+    StringBuilder flat = new StringBuilder("{");
+    for (int i = 0; i < entries; i++) {
+      flat.append(i == 0 ? "" : ", ").append('k').append(i).append(": [").append(i).append(", v")
+          .append(i).append(']');
+    }
+    flatMapping = flat.append('}').toString();
+    // only the scanner is measured, it does not use recursion
+    StringBuilder nested = new StringBuilder();
+    for (int i = 0; i < entries; i++) {
+      nested.append("{k").append(i).append(": ");
+    }
+    nested.append("end");
+    for (int i = 0; i < entries; i++) {
+      nested.append('}');
+    }
+    nestedMapping = nested.toString();
+  }
+
+  private int scan(String yaml, Blackhole bh) {
+    ScannerImpl scanner = new ScannerImpl(settings, new StreamReader(settings, yaml));
+    int count = 0;
+    while (scanner.hasNext()) {
+      bh.consume(scanner.next());
+      count++;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int scanFlatMapping(Blackhole bh) {
+    return scan(flatMapping, bh);
+  }
+
+  @Benchmark
+  public int scanNestedMapping(Blackhole bh) {
+    return scan(nestedMapping, bh);
+  }
+}
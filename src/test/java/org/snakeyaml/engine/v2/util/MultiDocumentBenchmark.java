@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.util;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.snakeyaml.engine.v2.api.Load;
+import org.snakeyaml.engine.v2.api.LoadSettings;
+
+/**
+ * JMH microbenchmark to test the loading of a stream of `documents` small independent documents
+ * (like a log). loadAll constructs the documents one after another, loadAllParallel splits the
+ * stream at the document markers and loads the documents in the common ForkJoinPool. streamAll and
+ * streamAllParallel consume the sequential and the parallel Stream of the documents.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MultiDocumentBenchmark {
+
+  @Param({"1000", "100000"})
+  private int documents;
+  private String yaml;
+  private LoadSettings settings;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(MultiDocumentBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+
+  @Setup
+  public void setup() {
+    settings = LoadSettings.builder().setCodePointLimit(Integer.MAX_VALUE).build();
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < documents; i++) {
+      builder.append("---\ntime: 2024-01-01T00:00:").append(i % 60).append("Z\nlevel: INFO\n");
+      builder.append("message: request ").append(i).append(" is processed\n");
+      builder.append("tags: [http, api, v").append(i % 3).append("]\nduration: ").append(i % 997)
+          .append(".5\n");
+    }
+    yaml = builder.toString();
+  }
+
+  @Benchmark
+  public void loadAll(Blackhole bh) {
+    for (Object document : new Load(settings).loadAllFromString(yaml)) {
+      bh.consume(document);
+    }
+  }
+
+  @Benchmark
+  public void loadAllParallel(Blackhole bh) {
+    for (Object document : new Load(settings).loadAllFromString(yaml, ForkJoinPool.commonPool())) {
+      bh.consume(document);
+    }
+  }
+
+  @Benchmark
+  public void streamAll(Blackhole bh) {
+    new Load(settings).streamAllFromString(yaml).forEach(bh::consume);
+  }
+
+  @Benchmark
+  public void streamAllParallel(Blackhole bh) {
+    new Load(settings).streamAllFromString(yaml).parallel().forEachOrdered(bh::consume);
+  }
+}
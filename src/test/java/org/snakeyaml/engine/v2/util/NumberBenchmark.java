@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.util;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.snakeyaml.engine.v2.api.Load;
+import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.schema.CoreSchema;
+import org.snakeyaml.engine.v2.schema.JsonSchema;
+
+/**
+ * JMH microbenchmark to test the construction of the numbers. The documents are sequences of
+ * `entries` numbers of the same kind (Integer, Long, BigInteger or Double). When `explicit` is set,
+ * the numbers have the explicit tag (!!int or !!float), then they are not parsed by the resolver
+ * and the constructor parses the value.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NumberBenchmark {
+
+  @Param({"int", "long", "bigint", "float"})
+  private String kind;
+  @Param({"json", "core"})
+  private String schema;
+  @Param({"false", "true"})
+  private boolean explicit;
+  @Param({"100000"})
+  private int entries;
+  private String yaml;
+  private Load load;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(NumberBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class).build()).run();
+  }
+
+  @Setup
+  public void setup() {
+    load = new Load(LoadSettings.builder().setCodePointLimit(Integer.MAX_VALUE)
+        .setSchema("core".equals(schema) ? new CoreSchema() : new JsonSchema()).build());
+    Random random = new Random(42);
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < entries; i++) {
+      builder.append("- ");
+      if (explicit) {
+        builder.append("float".equals(kind) ? "!!float " : "!!int ");
+      }
+      switch (kind) {
+        case "int":
+          builder.append(random.nextInt());
+          break;
+        case "long":
+          builder.append(random.nextLong() | (1L << 62));
+          break;
+        case "bigint":
+          builder.append(new BigInteger(100, random).setBit(99));
+          break;
+        default:
+          builder.append(random.nextInt(1000000)).append('.').append(random.nextInt(1000));
+          break;
+      }
+      builder.append('\n');
+    }
+    yaml = builder.toString();
+  }
+
+  @Benchmark
+  public Object loadNumbers() {
+    return load.loadFromString(yaml);
+  }
+}
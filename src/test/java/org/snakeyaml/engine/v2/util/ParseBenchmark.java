@@ -26,6 +26,7 @@ import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
@@ -35,8 +36,10 @@ import org.snakeyaml.engine.v2.api.Load;
 import org.snakeyaml.engine.v2.api.LoadSettings;
 import org.snakeyaml.engine.v2.api.lowlevel.Parse;
 import org.snakeyaml.engine.v2.events.Event;
+import org.snakeyaml.engine.v2.parser.EventCursor;
 
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
@@ -47,7 +50,11 @@ import java.util.concurrent.TimeUnit;
 /**
  * JMH microbenchmark to test average processing time for relatively simple small (18.34 KiB for one
  * thousand entries) and medium (2.17 MiB for one hundred thousand entries) yaml documents
- * containing map of `entries`.
+ * containing map of `entries`. The GC profiler shows the allocation rate with and without the
+ * circular window in StreamReader. The compact (Latin-1) window reduces the memory bandwidth.
+ * parseInputStream decodes UTF-8 bytes directly in StreamReader. loadDirect constructs the
+ * instances from the events without the node graph. parseCursor reads the same data as parse with
+ * EventCursor, which creates no events.
  */
 @Fork(1)
 @Warmup(iterations = 3, time = 10)
@@ -59,25 +66,38 @@ public class ParseBenchmark {
 
   @Param({"1000", "100000"})
   private int entries;
+  @Param({"false", "true"})
+  private boolean useRingBuffer;
+  @Param({"false", "true"})
+  private boolean useCompactWindow;
   private String yamlString;
-  private final Load load =
-      new Load(LoadSettings.builder().setCodePointLimit(Integer.MAX_VALUE).build());
-  private final Parse parse = new Parse(LoadSettings.builder().build());
+  private byte[] yamlBytes;
+  private Load load;
+  private Load loadDirect;
+  private Parse parse;
   private final Dump dump = new Dump(DumpSettings.builder().build());
 
   public static void main(String[] args) throws RunnerException {
-    new Runner(new OptionsBuilder().include(ParseBenchmark.class.getSimpleName()).build()).run();
+    new Runner(new OptionsBuilder().include(ParseBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class).build()).run();
   }
 
   @Setup
   public void setup() throws IOException {
+    load = new Load(LoadSettings.builder().setCodePointLimit(Integer.MAX_VALUE)
+        .setUseRingBuffer(useRingBuffer).setUseCompactWindow(useCompactWindow).build());
+    loadDirect = new Load(
+        LoadSettings.builder().setCodePointLimit(Integer.MAX_VALUE).setUseRingBuffer(useRingBuffer)
+            .setUseCompactWindow(useCompactWindow).setUseDirectConstruction(true).build());
+    parse = new Parse(LoadSettings.builder().setUseRingBuffer(useRingBuffer)
+        .setUseCompactWindow(useCompactWindow).build());
     Map<Integer, String> map = new HashMap<>(entries);
     for (int i = 0; i < entries; i++) {
       map.put(i, Integer.toString(i));
     }
     yamlString = dump.dumpToString(map);
-    System.out.printf("%nyaml bytes length: %d%n",
-        yamlString.getBytes(StandardCharsets.UTF_8).length);
+    yamlBytes = yamlString.getBytes(StandardCharsets.UTF_8);
+    System.out.printf("%nyaml bytes length: %d%n", yamlBytes.length);
   }
 
   @Benchmark
@@ -90,9 +110,35 @@ public class ParseBenchmark {
     return count;
   }
 
+  @Benchmark
+  public int parseCursor(Blackhole bh) {
+    int count = 0;
+    EventCursor cursor = parse.cursorFromReader(new StringReader(yamlString));
+    while (cursor.hasNext()) {
+      bh.consume(cursor.next());
+      count++;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int parseInputStream(Blackhole bh) throws IOException {
+    int count = 0;
+    for (Event event : parse.parseInputStream(new ByteArrayInputStream(yamlBytes))) {
+      bh.consume(event.getEventId());
+      count++;
+    }
+    return count;
+  }
+
   @Benchmark
   public Object load() throws IOException {
     return load.loadFromString(yamlString);
   }
+
+  @Benchmark
+  public Object loadDirect() throws IOException {
+    return loadDirect.loadFromString(yamlString);
+  }
 }
 
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.events.Event;
+import org.snakeyaml.engine.v2.parser.ParserImpl;
+import org.snakeyaml.engine.v2.scanner.StreamReader;
+
+/**
+ * JMH microbenchmark for the state machine of ParserImpl. The document (10000 entries) uses the
+ * block or the flow collections (shape) to visit all the productions. The GC profiler shows the
+ * allocation per operation: the productions are shared by the parser, so only the tokens and the
+ * events are allocated. Run it before and after a change of the parser to compare. The skip
+ * benchmark skips the value of every entry (Parser.skipNode()) to compare it with parse.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ParserBenchmark {
+
+  @Param({"block", "flow"})
+  private String shape;
+  private String yaml;
+  private final LoadSettings settings =
+      LoadSettings.builder().setCodePointLimit(Integer.MAX_VALUE).build();
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(ParserBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class).build()).run();
+  }
+
+  @Setup
+  public void setup() {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 10000; i++) {
+      if ("block".equals(shape)) {
+        builder.append("key").append(i).append(":\n  - a\n  -\n  - x: 1\n    y: [2, 3]\n");
+      } else {
+        builder.append("- {key: ").append(i).append(", list: [a, b: c], empty: }\n");
+      }
+    }
+    yaml = builder.toString();
+  }
+
+  @Benchmark
+  public int parse(Blackhole bh) {
+    ParserImpl parser = new ParserImpl(settings, new StreamReader(settings, yaml));
+    int count = 0;
+    while (parser.hasNext()) {
+      bh.consume(parser.next());
+      count++;
+    }
+    return count;
+  }
+
+  @Benchmark
+  public int skip(Blackhole bh) {
+    ParserImpl parser = new ParserImpl(settings, new StreamReader(settings, yaml));
+    int count = 0;
+    // the stream, the document and the top-level collection
+    for (int i = 0; i < 3; i++) {
+      bh.consume(parser.next());
+    }
+    while (!parser.checkEvent(Event.ID.SequenceEnd) && !parser.checkEvent(Event.ID.MappingEnd)) {
+      if ("block".equals(shape)) {
+        bh.consume(parser.next());
+      }
+      parser.skipNode();
+      count++;
+    }
+    return count;
+  }
+}
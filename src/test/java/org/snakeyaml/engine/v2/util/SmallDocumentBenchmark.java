@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.util;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.snakeyaml.engine.v2.api.Dump;
+import org.snakeyaml.engine.v2.api.DumpSettings;
+import org.snakeyaml.engine.v2.api.Load;
+import org.snakeyaml.engine.v2.api.LoadSettings;
+
+/**
+ * JMH microbenchmark to test many loads and dumps of small documents (like RPC payloads). When
+ * `reuse` is set, the same Load and Dump are used for every operation, their components are reset
+ * to the new input instead of being created. The GC profiler shows the allocation per operation.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SmallDocumentBenchmark {
+
+  private static final String YAML = "id: 12345\nmethod: getUser\nparams:\n  name: John Smith\n"
+      + "  roles: [admin, user]\n  active: true\n  score: 4.5\n";
+
+  @Param({"false", "true"})
+  private boolean reuse;
+  private LoadSettings loadSettings;
+  private DumpSettings dumpSettings;
+  private Load load;
+  private Dump dump;
+  private Object data;
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(SmallDocumentBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class).build()).run();
+  }
+
+  @Setup
+  public void setup() {
+    loadSettings = LoadSettings.builder().build();
+    dumpSettings = DumpSettings.builder().build();
+    load = new Load(loadSettings);
+    dump = new Dump(dumpSettings);
+    data = load.loadFromString(YAML);
+  }
+
+  @Benchmark
+  public Object load() {
+    return (reuse ? load : new Load(loadSettings)).loadFromString(YAML);
+  }
+
+  @Benchmark
+  public String dump() {
+    return (reuse ? dump : new Dump(dumpSettings)).dumpToString(data);
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2018, SnakeYAML
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.snakeyaml.engine.v2.util;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.snakeyaml.engine.v2.api.Dump;
+import org.snakeyaml.engine.v2.api.DumpSettings;
+
+/**
+ * JMH microbenchmark to dump a List of 10000 records with and without the Node graph
+ * (DumpSettings.setUseStreaming()). The `aliases` are either detected by the walk over the
+ * collections or dereferenced (no walk). The GC profiler shows the allocation per operation.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 3, time = 10)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StreamingDumpBenchmark {
+
+  @Param({"false", "true"})
+  private boolean streaming;
+  @Param({"detected", "dereferenced"})
+  private String aliases;
+  private Dump dump;
+  private Object data;
+  private final OutputStream out = OutputStream.nullOutputStream();
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(StreamingDumpBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class).build()).run();
+  }
+
+  @Setup
+  public void setup() {
+    dump = new Dump(DumpSettings.builder().setUseStreaming(streaming)
+        .setDereferenceAliases("dereferenced".equals(aliases)).build());
+    List<Object> records = new ArrayList<>();
+    for (int i = 0; i < 10000; i++) {
+      Map<String, Object> record = new LinkedHashMap<>();
+      record.put("id", i);
+      record.put("name", "user " + i);
+      record.put("score", i * 0.5);
+      record.put("active", i % 3 == 0);
+      record.put("roles", List.of("admin", "user"));
+      records.add(record);
+    }
+    data = records;
+  }
+
+  @Benchmark
+  public void dump() {
+    dump.dump(data, out);
+  }
+}